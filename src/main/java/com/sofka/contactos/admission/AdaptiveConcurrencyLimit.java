@@ -0,0 +1,183 @@
+package com.sofka.contactos.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Límite adaptativo de peticiones concurrentes de una clase de endpoints
+ *
+ * El límite se ajusta con cada petición terminada comparando la latencia promedio reciente con la menor latencia
+ * observada, la latencia sin carga: mientras el promedio no supere {@link #tolerance} veces esa latencia y haya
+ * demanda, el límite crece de a uno; cuando la supera, y también supera {@link #latencyFloor} para que la mezcla de
+ * lecturas desde el cache y desde la base de datos no parezca congestión, la base de datos está encolando trabajo y
+ * el límite se reduce
+ * multiplicándolo por {@link #BACKOFF}, como máximo una vez por cada latencia promedio para dar tiempo a que el cambio
+ * surta efecto. La latencia sin carga sube lentamente con cada muestra para seguir los cambios de la base de datos
+ *
+ * Admitir y liberar una petición solo usa compare-and-set sobre el contador de peticiones en curso; el ajuste del
+ * límite, que se hace al terminar cada petición, es una sección sincronizada corta
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class AdaptiveConcurrencyLimit {
+
+    /**
+     * Factor con el que se reduce el límite cuando la latencia supera la tolerancia
+     */
+    private static final double BACKOFF = 0.9;
+
+    /**
+     * Peso de cada muestra en el promedio de la latencia
+     */
+    private static final double SMOOTHING = 0.1;
+
+    /**
+     * Factor con el que sube la latencia sin carga en cada muestra
+     */
+    private static final double MIN_LATENCY_DRIFT = 1.001;
+
+    /**
+     * Límite mínimo
+     */
+    private final int minLimit;
+
+    /**
+     * Límite máximo
+     */
+    private final int maxLimit;
+
+    /**
+     * Cantidad de veces la latencia sin carga que se tolera antes de reducir el límite
+     */
+    private final double tolerance;
+
+    /**
+     * Latencia promedio en nanosegundos por debajo de la cual nunca se reduce el límite
+     */
+    private final long latencyFloor;
+
+    /**
+     * Peticiones en curso
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Límite actual
+     */
+    private volatile int limit;
+
+    /**
+     * Latencia promedio reciente en nanosegundos
+     */
+    private double averageLatency;
+
+    /**
+     * Menor latencia observada en nanosegundos
+     */
+    private double minLatency;
+
+    /**
+     * Instante en nanosegundos de la última reducción del límite
+     */
+    private long lastDecrease;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param minLimit Límite mínimo
+     * @param maxLimit Límite máximo, también es el límite inicial
+     * @param tolerance Cantidad de veces la latencia sin carga que se tolera antes de reducir el límite
+     * @param latencyFloor Latencia promedio en nanosegundos por debajo de la cual nunca se reduce el límite
+     *
+     * @since 1.1.0
+     */
+    public AdaptiveConcurrencyLimit(int minLimit, int maxLimit, double tolerance, long latencyFloor) {
+        if (minLimit < 1 || maxLimit < minLimit || tolerance <= 1) {
+            throw new IllegalArgumentException("Los límites de concurrencia o la tolerancia no son válidos");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.latencyFloor = latencyFloor;
+        this.limit = maxLimit;
+        this.lastDecrease = System.nanoTime();
+    }
+
+    /**
+     * Admite una petición si hay cupo
+     *
+     * @return true si la petición fue admitida y debe liberarse con {@link #release(long)}
+     *
+     * @since 1.1.0
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            var current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera una petición admitida y ajusta el límite con su latencia
+     *
+     * @param latencyNanos Latencia de la petición en nanosegundos
+     *
+     * @since 1.1.0
+     */
+    public void release(long latencyNanos) {
+        var current = inFlight.getAndDecrement();
+        adjust(latencyNanos, current);
+    }
+
+    /**
+     * Devuelve el límite actual
+     *
+     * @return Límite de peticiones concurrentes
+     *
+     * @since 1.1.0
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Devuelve la cantidad de peticiones en curso
+     *
+     * @return Peticiones en curso
+     *
+     * @since 1.1.0
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Ajusta el límite con la latencia de una petición
+     *
+     * @param latencyNanos Latencia de la petición en nanosegundos
+     * @param inFlight Peticiones en curso cuando terminó, incluida ella
+     */
+    private synchronized void adjust(long latencyNanos, int inFlight) {
+        if (averageLatency == 0) {
+            averageLatency = latencyNanos;
+            minLatency = latencyNanos;
+            return;
+        }
+        averageLatency += SMOOTHING * (latencyNanos - averageLatency);
+        minLatency = Math.min(latencyNanos, minLatency * MIN_LATENCY_DRIFT);
+        var now = System.nanoTime();
+        if (averageLatency > Math.max(minLatency * tolerance, latencyFloor)) {
+            if (now - lastDecrease > averageLatency) {
+                limit = Math.max(minLimit, (int) (limit * BACKOFF));
+                lastDecrease = now;
+            }
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.sofka.contactos.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Control de admisión de las peticiones de la libreta, se activa con libreta.admission.enabled=true
+ *
+ * Antes de atender una petición se toman las fichas de su clase de endpoint del balde del cliente, y si no alcanzan se
+ * rechaza con 429; después se toma un cupo del límite adaptativo de su clase y si no hay se rechaza con 503. Ninguna
+ * petición espera en una cola del control de admisión: así un cliente que inunda las búsquedas agota sus fichas y el
+ * cupo de las búsquedas, pero los listados y las escrituras de los demás clientes conservan sus conexiones a la base
+ * de datos
+ *
+ * El cliente es el usuario autenticado de la petición o, si no lo hay, su dirección IP. La cabecera
+ * {@link #clientHeader} solo identifica al cliente cuando la petición llega desde uno de los proxies de confianza, que
+ * son quienes la escriben; de cualquier otro origen se ignora, porque un cliente podría cambiarla en cada petición
+ * para estrenar un balde lleno
+ *
+ * El cupo se libera al terminar la respuesta; en las peticiones asíncronas Spring MVC vuelve a pasar por el
+ * interceptor al despachar el resultado, por eso el cupo se guarda como atributo de la petición y solo se toma en el
+ * primer despacho
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    /**
+     * Prefijo de las métricas del control de admisión
+     */
+    public static final String METRIC_PREFIX = "libreta.admission";
+
+    /**
+     * Atributo de la petición con el instante en nanosegundos en que se admitió
+     */
+    private static final String ADMITTED_AT = AdmissionInterceptor.class.getName() + ".admittedAt";
+
+    /**
+     * Atributo de la petición con la clase del endpoint admitida
+     */
+    private static final String ENDPOINT_CLASS = AdmissionInterceptor.class.getName() + ".endpointClass";
+
+    /**
+     * Límite de frecuencia por cliente
+     */
+    private final ClientRateLimiter rateLimiter;
+
+    /**
+     * Límite de concurrencia de cada clase de endpoint
+     */
+    private final Map<EndpointClass, AdaptiveConcurrencyLimit> limits;
+
+    /**
+     * Cabecera con el identificador del cliente
+     */
+    private final String clientHeader;
+
+    /**
+     * Direcciones IP de los proxies de confianza, los únicos cuya cabecera del cliente se tiene en cuenta
+     */
+    private final Set<String> trustedProxies;
+
+    /**
+     * Peticiones rechazadas por superar la frecuencia del cliente, por clase de endpoint
+     */
+    private final Map<EndpointClass, Counter> rateLimited = new EnumMap<>(EndpointClass.class);
+
+    /**
+     * Peticiones rechazadas por falta de cupo, por clase de endpoint
+     */
+    private final Map<EndpointClass, Counter> shed = new EnumMap<>(EndpointClass.class);
+
+    /**
+     * Constructor de la clase
+     *
+     * @param rateLimiter Límite de frecuencia por cliente
+     * @param limits Límite de concurrencia de cada clase de endpoint
+     * @param clientHeader Cabecera con el identificador del cliente
+     * @param trustedProxies Direcciones IP de los proxies de confianza
+     * @param registry Registro de métricas
+     *
+     * @since 1.1.0
+     */
+    public AdmissionInterceptor(
+            ClientRateLimiter rateLimiter,
+            Map<EndpointClass, AdaptiveConcurrencyLimit> limits,
+            String clientHeader,
+            Set<String> trustedProxies,
+            MeterRegistry registry
+    ) {
+        this.rateLimiter = rateLimiter;
+        this.limits = new EnumMap<>(limits);
+        this.clientHeader = clientHeader;
+        this.trustedProxies = Set.copyOf(trustedProxies);
+        for (var entry : this.limits.entrySet()) {
+            var tag = entry.getKey().name().toLowerCase(Locale.ROOT);
+            var limit = entry.getValue();
+            Gauge.builder(METRIC_PREFIX + ".limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .description("Límite adaptativo de peticiones concurrentes")
+                    .tag("class", tag)
+                    .register(registry);
+            Gauge.builder(METRIC_PREFIX + ".in-flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                    .description("Peticiones en curso")
+                    .tag("class", tag)
+                    .register(registry);
+            rateLimited.put(entry.getKey(), Counter.builder(METRIC_PREFIX + ".rejected")
+                    .description("Peticiones rechazadas por el control de admisión")
+                    .tags("class", tag, "reason", "rate")
+                    .register(registry));
+            shed.put(entry.getKey(), Counter.builder(METRIC_PREFIX + ".rejected")
+                    .description("Peticiones rechazadas por el control de admisión")
+                    .tags("class", tag, "reason", "concurrency")
+                    .register(registry));
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST || request.getAttribute(ADMITTED_AT) != null) {
+            return true;
+        }
+        var endpointClass = EndpointClass.of(request);
+        var wait = rateLimiter.tryAcquire(client(request), endpointClass.getCost());
+        if (wait > 0) {
+            rateLimited.get(endpointClass).increment();
+            throw new AdmissionRejectedException(
+                    HttpStatus.TOO_MANY_REQUESTS,
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1)),
+                    "Superó la cantidad de peticiones permitidas, intente de nuevo más tarde"
+            );
+        }
+        if (!limits.get(endpointClass).tryAcquire()) {
+            shed.get(endpointClass).increment();
+            throw new AdmissionRejectedException(
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    1,
+                    "El sistema está ocupado, intente de nuevo en unos segundos"
+            );
+        }
+        request.setAttribute(ENDPOINT_CLASS, endpointClass);
+        request.setAttribute(ADMITTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            Exception exception
+    ) {
+        var admittedAt = (Long) request.getAttribute(ADMITTED_AT);
+        if (admittedAt == null || request.isAsyncStarted()) {
+            return;
+        }
+        request.removeAttribute(ADMITTED_AT);
+        var endpointClass = (EndpointClass) request.getAttribute(ENDPOINT_CLASS);
+        limits.get(endpointClass).release(System.nanoTime() - admittedAt);
+    }
+
+    /**
+     * Identifica al cliente de una petición; los prefijos evitan que el valor de la cabecera coincida con el de un
+     * usuario o una dirección IP
+     *
+     * @param request Petición HTTP
+     * @return Usuario autenticado, valor de la cabecera del cliente enviada por un proxy de confianza o dirección IP
+     */
+    private String client(HttpServletRequest request) {
+        var principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        var address = request.getRemoteAddr();
+        if (trustedProxies.contains(address)) {
+            var client = request.getHeader(clientHeader);
+            if (client != null && !client.isBlank()) {
+                return "client:" + client;
+            }
+        }
+        return "ip:" + address;
+    }
+}
@@ -0,0 +1,61 @@
+package com.sofka.contactos.admission;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Petición rechazada por el control de admisión, se responde con su código HTTP y la cabecera Retry-After
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Código HTTP de la respuesta: 429 si el cliente superó su frecuencia o 503 si no hay cupo en la clase de endpoint
+     */
+    private final HttpStatus status;
+
+    /**
+     * Segundos que el cliente debe esperar antes de reintentar
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param status Código HTTP de la respuesta
+     * @param retryAfterSeconds Segundos que el cliente debe esperar antes de reintentar
+     * @param message Mensaje para el cliente
+     *
+     * @since 1.1.0
+     */
+    public AdmissionRejectedException(HttpStatus status, long retryAfterSeconds, String message) {
+        super(message);
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Devuelve el código HTTP de la respuesta
+     *
+     * @return Código HTTP
+     *
+     * @since 1.1.0
+     */
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Devuelve los segundos que el cliente debe esperar antes de reintentar
+     *
+     * @return Segundos de espera
+     *
+     * @since 1.1.0
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,123 @@
+package com.sofka.contactos.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Límite de frecuencia de peticiones por cliente con un balde de fichas
+ *
+ * Cada cliente recibe {@link #ratePerSecond} fichas por segundo y puede acumular hasta {@link #burst}. El balde se
+ * implementa con el algoritmo GCRA: en lugar de contar fichas se guarda el instante teórico en que el balde vuelve a
+ * estar lleno, un solo long que se actualiza con compare-and-set, así que admitir una petición nunca toma un bloqueo.
+ * Los baldes de los clientes inactivos se descartan después de {@link #IDLE_EXPIRATION}, un balde nuevo está lleno
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class ClientRateLimiter {
+
+    /**
+     * Tiempo sin peticiones tras el que se descarta el balde de un cliente
+     */
+    private static final Duration IDLE_EXPIRATION = Duration.ofMinutes(10);
+
+    /**
+     * Fichas que recibe cada cliente por segundo
+     */
+    private final double ratePerSecond;
+
+    /**
+     * Cantidad máxima de fichas que acumula un cliente
+     */
+    private final int burst;
+
+    /**
+     * Nanosegundos que tarda en llegar una ficha
+     */
+    private final long emissionInterval;
+
+    /**
+     * Nanosegundos que el instante teórico puede adelantarse al actual, equivalente al balde vacío
+     */
+    private final long tolerance;
+
+    /**
+     * Instante teórico en nanosegundos en que el balde de cada cliente vuelve a estar lleno
+     */
+    private final Cache<String, AtomicLong> buckets;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param ratePerSecond Fichas que recibe cada cliente por segundo
+     * @param burst Cantidad máxima de fichas que acumula un cliente
+     * @param maxClients Cantidad máxima de clientes de los que se guarda el balde
+     *
+     * @since 1.1.0
+     */
+    public ClientRateLimiter(double ratePerSecond, int burst, long maxClients) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("La frecuencia y la ráfaga del límite deben ser positivas");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.emissionInterval = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        this.tolerance = emissionInterval * burst;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(IDLE_EXPIRATION)
+                .build();
+    }
+
+    /**
+     * Toma fichas del balde de un cliente si las tiene
+     *
+     * @param client Identificador del cliente
+     * @param tokens Cantidad de fichas a tomar, como máximo la ráfaga
+     * @return 0 si se tomaron las fichas o los nanosegundos que el cliente debe esperar para tenerlas
+     *
+     * @since 1.1.0
+     */
+    public long tryAcquire(String client, int tokens) {
+        var bucket = buckets.get(client, key -> new AtomicLong(System.nanoTime()));
+        var increment = emissionInterval * Math.min(tokens, burst);
+        while (true) {
+            var now = System.nanoTime();
+            var full = bucket.get();
+            var next = Math.max(full, now) + increment;
+            var wait = next - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(full, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Devuelve las fichas que recibe cada cliente por segundo
+     *
+     * @return Fichas por segundo
+     *
+     * @since 1.1.0
+     */
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    /**
+     * Devuelve la cantidad máxima de fichas que acumula un cliente
+     *
+     * @return Cantidad de fichas
+     *
+     * @since 1.1.0
+     */
+    public int getBurst() {
+        return burst;
+    }
+}
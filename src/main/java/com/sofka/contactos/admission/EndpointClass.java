@@ -0,0 +1,69 @@
+package com.sofka.contactos.admission;
+
+import org.springframework.http.HttpMethod;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Clases de endpoints de la libreta para el control de admisión, cada una con su propio límite de concurrencia
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public enum EndpointClass {
+
+    /**
+     * Búsquedas por texto o número, las más costosas
+     */
+    SEARCH(5),
+
+    /**
+     * Lecturas: listados, consultas por identificador y exportación
+     */
+    LIST(1),
+
+    /**
+     * Creaciones, actualizaciones, borrados, importaciones y lotes
+     */
+    WRITE(2);
+
+    /**
+     * Prefijo de las rutas de búsqueda
+     */
+    private static final String SEARCH_PATH = "/api/v1/search/";
+
+    /**
+     * Cantidad de fichas que consume cada petición del límite de frecuencia del cliente
+     */
+    private final int cost;
+
+    EndpointClass(int cost) {
+        this.cost = cost;
+    }
+
+    /**
+     * Devuelve la cantidad de fichas que consume cada petición del límite de frecuencia del cliente
+     *
+     * @return Cantidad de fichas
+     *
+     * @since 1.1.0
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Clasifica una petición según su método y su ruta
+     *
+     * @param request Petición HTTP
+     * @return Clase del endpoint
+     *
+     * @since 1.1.0
+     */
+    public static EndpointClass of(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return WRITE;
+        }
+        return request.getRequestURI().startsWith(request.getContextPath() + SEARCH_PATH) ? SEARCH : LIST;
+    }
+}
@@ -0,0 +1,146 @@
+package com.sofka.contactos.backfill;
+
+import com.sofka.contactos.cache.LibretaVersion;
+import com.sofka.contactos.repository.TelefonoRepository;
+import com.sofka.contactos.repository.TelefonoSinNormalizar;
+import com.sofka.contactos.utility.NumeroTelefono;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Normaliza los números de los teléfonos registrados antes de existir la columna tel_numero_normalizado
+ *
+ * Se ejecuta en su propio hilo una vez el sistema ha iniciado, sin retrasar el inicio, y recorre los teléfonos sin
+ * normalizar por bloques de {@link #CHUNK_SIZE} ordenados por identificador. Cada bloque se escribe en su propia
+ * transacción con un lote JDBC que solo asigna tel_numero_normalizado a los teléfonos que siguen sin él: no carga las
+ * entidades ni cambia tel_version, así los clientes que tienen la versión de un teléfono no reciben un conflicto por
+ * un cambio que no hicieron, y un teléfono actualizado mientras tanto conserva el número normalizado de su
+ * actualización. Si un bloque falla se registra y se sigue con el siguiente, sus teléfonos se normalizan en el
+ * próximo inicio; mientras tanto la búsqueda por número no encuentra los teléfonos que aún no se han procesado. Se
+ * desactiva con libreta.telefono.backfill.enabled=false
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "libreta.telefono.backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class NumeroTelefonoBackfill {
+
+    /**
+     * Cantidad de teléfonos que se normalizan en cada transacción
+     */
+    public static final int CHUNK_SIZE = 1000;
+
+    /**
+     * Nombre del hilo en que se normalizan los teléfonos
+     */
+    private static final String THREAD_NAME = "telefono-backfill";
+
+    /**
+     * Repositorio de Telefono
+     */
+    @Autowired
+    private TelefonoRepository telefonoRepository;
+
+    /**
+     * Versión de la libreta, cambia con cada bloque porque la búsqueda por número empieza a encontrar sus teléfonos
+     */
+    @Autowired
+    private LibretaVersion libretaVersion;
+
+    /**
+     * Plantilla para ejecutar cada bloque en su propia transacción
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param transactionManager Administrador de transacciones
+     *
+     * @since 1.1.0
+     */
+    public NumeroTelefonoBackfill(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Empieza a normalizar los teléfonos pendientes en su propio hilo una vez el sistema ha iniciado
+     *
+     * @since 1.1.0
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        var thread = new Thread(this::run, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Normaliza todos los teléfonos pendientes en el hilo actual
+     *
+     * @return Cantidad de teléfonos normalizados
+     *
+     * @since 1.1.0
+     */
+    public long run() {
+        var start = System.currentTimeMillis();
+        var total = 0L;
+        var afterId = 0;
+        List<TelefonoSinNormalizar> chunk;
+        do {
+            try {
+                chunk = telefonoRepository.findSinNormalizar(afterId, PageRequest.of(0, CHUNK_SIZE));
+            } catch (RuntimeException exception) {
+                log.error("No fue posible leer los teléfonos sin normalizar después del {}", afterId, exception);
+                break;
+            }
+            if (!chunk.isEmpty()) {
+                total += normalize(chunk);
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+        if (total > 0) {
+            log.info("Teléfonos normalizados: {} en {} ms", total, System.currentTimeMillis() - start);
+        }
+        return total;
+    }
+
+    /**
+     * Normaliza un bloque de teléfonos en su propia transacción
+     *
+     * @param chunk Teléfonos del bloque
+     * @return Cantidad de teléfonos normalizados, 0 si el bloque falló; el controlador puede no informar las filas de
+     *         cada sentencia del lote y entonces se cuenta una por sentencia
+     */
+    private int normalize(List<TelefonoSinNormalizar> chunk) {
+        try {
+            var updated = transactionTemplate.execute(status -> {
+                var count = 0;
+                for (var rows : telefonoRepository.updateNumerosNormalizados(chunk)) {
+                    count += rows == Statement.SUCCESS_NO_INFO ? 1 : Math.max(rows, 0);
+                }
+                if (count > 0) {
+                    libretaVersion.changed();
+                }
+                return count;
+            });
+            return updated == null ? 0 : updated;
+        } catch (RuntimeException exception) {
+            log.error("No fue posible normalizar los teléfonos {} a {}",
+                    chunk.get(0).getId(), chunk.get(chunk.size() - 1).getId(), exception);
+            return 0;
+        }
+    }
+}
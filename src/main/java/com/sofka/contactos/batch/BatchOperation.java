@@ -0,0 +1,58 @@
+package com.sofka.contactos.batch;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.domain.Telefono;
+
+/**
+ * Operación de un lote enviado al endpoint /api/v1/batch
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public final class BatchOperation {
+
+    /**
+     * Tipo de la operación
+     */
+    public final BatchOperationType op;
+
+    /**
+     * Identificador del contacto o teléfono sobre el que se opera, null al crear
+     */
+    public final Integer id;
+
+    /**
+     * Datos del contacto, para las operaciones sobre contactos
+     */
+    public final Contacto contacto;
+
+    /**
+     * Datos del teléfono, para las operaciones sobre teléfonos
+     */
+    public final Telefono telefono;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param op Tipo de la operación
+     * @param id Identificador del contacto o teléfono
+     * @param contacto Datos del contacto
+     * @param telefono Datos del teléfono
+     *
+     * @since 1.1.0
+     */
+    @JsonCreator
+    public BatchOperation(
+            @JsonProperty("op") BatchOperationType op,
+            @JsonProperty("id") Integer id,
+            @JsonProperty("contacto") Contacto contacto,
+            @JsonProperty("telefono") Telefono telefono
+    ) {
+        this.op = op;
+        this.id = id;
+        this.contacto = contacto;
+        this.telefono = telefono;
+    }
+}
@@ -0,0 +1,39 @@
+package com.sofka.contactos.batch;
+
+/**
+ * Falla de una operación de un lote, indica cuál operación causó que se deshiciera su bloque
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class BatchOperationException extends RuntimeException {
+
+    /**
+     * Posición en el lote de la operación que falló
+     */
+    private final int index;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param index Posición en el lote de la operación que falló
+     * @param cause Excepción lanzada por la operación
+     *
+     * @since 1.1.0
+     */
+    public BatchOperationException(int index, RuntimeException cause) {
+        super(cause.getMessage(), cause);
+        this.index = index;
+    }
+
+    /**
+     * Devuelve la posición en el lote de la operación que falló
+     *
+     * @return Posición de la operación
+     *
+     * @since 1.1.0
+     */
+    public int getIndex() {
+        return index;
+    }
+}
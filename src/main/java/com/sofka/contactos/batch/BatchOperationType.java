@@ -0,0 +1,75 @@
+package com.sofka.contactos.batch;
+
+/**
+ * Tipos de operación que acepta el endpoint de lotes, cada uno corresponde a un método de la libreta
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public enum BatchOperationType {
+
+    /**
+     * Crea un contacto, usa el campo contacto
+     */
+    CREATE_CONTACT(false),
+
+    /**
+     * Actualiza todos los campos de un contacto, usa los campos id y contacto
+     */
+    UPDATE_CONTACT(false),
+
+    /**
+     * Actualiza el nombre de un contacto, usa los campos id y contacto
+     */
+    UPDATE_NAME(true),
+
+    /**
+     * Actualiza los apellidos de un contacto, usa los campos id y contacto
+     */
+    UPDATE_LASTNAME(true),
+
+    /**
+     * Borra un contacto, usa el campo id
+     */
+    DELETE_CONTACT(false),
+
+    /**
+     * Crea un teléfono, usa el campo telefono
+     */
+    CREATE_PHONE(false),
+
+    /**
+     * Actualiza todos los campos de un teléfono, usa los campos id y telefono
+     */
+    UPDATE_PHONE(false),
+
+    /**
+     * Actualiza solamente el número de un teléfono, usa los campos id y telefono
+     */
+    UPDATE_PHONE_NUMBER(true),
+
+    /**
+     * Borra un teléfono, usa el campo id
+     */
+    DELETE_PHONE(false);
+
+    /**
+     * Indica si las operaciones consecutivas de este tipo se agrupan en una sola sentencia en lote
+     */
+    private final boolean groupable;
+
+    BatchOperationType(boolean groupable) {
+        this.groupable = groupable;
+    }
+
+    /**
+     * Indica si las operaciones consecutivas de este tipo se agrupan en una sola sentencia en lote
+     *
+     * @return true si se agrupan
+     *
+     * @since 1.1.0
+     */
+    public boolean isGroupable() {
+        return groupable;
+    }
+}
@@ -0,0 +1,47 @@
+package com.sofka.contactos.batch;
+
+/**
+ * Resultado de una operación de un lote
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public final class BatchResult {
+
+    /**
+     * Posición de la operación en el lote, iniciando en 0
+     */
+    public final int index;
+
+    /**
+     * Código HTTP que habría tenido la operación como petición individual
+     */
+    public final int status;
+
+    /**
+     * Mensaje de la operación, vacío si fue exitosa
+     */
+    public final String message;
+
+    /**
+     * Contacto o teléfono resultante de la operación
+     */
+    public final Object data;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param index Posición de la operación en el lote
+     * @param status Código HTTP de la operación
+     * @param message Mensaje de la operación
+     * @param data Contacto o teléfono resultante
+     *
+     * @since 1.1.0
+     */
+    public BatchResult(int index, int status, String message, Object data) {
+        this.index = index;
+        this.status = status;
+        this.message = message;
+        this.data = data;
+    }
+}
@@ -0,0 +1,50 @@
+package com.sofka.contactos.batch;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Solicitud de borrado masivo de contactos: una lista de identificadores o un filtro por nombre y/o apellidos
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public final class BulkDeleteRequest {
+
+    /**
+     * Identificadores de los contactos a borrar
+     */
+    public final List<Integer> ids;
+
+    /**
+     * Nombre exacto de los contactos a borrar
+     */
+    public final String nombre;
+
+    /**
+     * Apellidos exactos de los contactos a borrar
+     */
+    public final String apellido;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param ids Identificadores de los contactos a borrar
+     * @param nombre Nombre exacto de los contactos a borrar
+     * @param apellido Apellidos exactos de los contactos a borrar
+     *
+     * @since 1.1.0
+     */
+    @JsonCreator
+    public BulkDeleteRequest(
+            @JsonProperty("ids") List<Integer> ids,
+            @JsonProperty("nombre") String nombre,
+            @JsonProperty("apellido") String apellido
+    ) {
+        this.ids = ids;
+        this.nombre = nombre;
+        this.apellido = apellido;
+    }
+}
@@ -0,0 +1,33 @@
+package com.sofka.contactos.batch;
+
+/**
+ * Resumen de un borrado masivo de contactos
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public final class BulkDeleteResult {
+
+    /**
+     * Cantidad de contactos borrados
+     */
+    public final long contactos;
+
+    /**
+     * Cantidad de teléfonos borrados
+     */
+    public final long telefonos;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param contactos Cantidad de contactos borrados
+     * @param telefonos Cantidad de teléfonos borrados
+     *
+     * @since 1.1.0
+     */
+    public BulkDeleteResult(long contactos, long telefonos) {
+        this.contactos = contactos;
+        this.telefonos = telefonos;
+    }
+}
@@ -0,0 +1,77 @@
+package com.sofka.contactos.cache;
+
+import com.sofka.contactos.config.CacheConfig;
+import com.sofka.contactos.event.ContactoEvent;
+import com.sofka.contactos.event.TelefonoEvent;
+import com.sofka.contactos.repository.TelefonoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalida el cache de lectura cuando cambia un contacto o sus teléfonos
+ *
+ * La invalidación se hace una vez confirmada la transacción, así una lectura concurrente no puede volver a guardar en
+ * el cache la versión anterior del contacto. Solo se pierden las entradas del contacto que cambió; los cambios de
+ * otras instancias vacían el cache desde {@link LibretaVersion}
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Component
+public class CacheInvalidationListener {
+
+    /**
+     * Administrador de los caches
+     */
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Repositorio de Telefono
+     */
+    @Autowired
+    private TelefonoRepository telefonoRepository;
+
+    /**
+     * Invalida las entradas afectadas por el cambio de un contacto
+     *
+     * @param event Evento del contacto
+     *
+     * @since 1.1.0
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContactoEvent(ContactoEvent event) {
+        var contactos = cacheManager.getCache(CacheConfig.CONTACTOS);
+        if (contactos != null) {
+            contactos.evict(new SimpleKey(event.getId(), true));
+            if (event.getType() != ContactoEvent.Type.TELEFONOS_UPDATED) {
+                contactos.evict(new SimpleKey(event.getId(), false));
+            }
+        }
+    }
+
+    /**
+     * Invalida las entradas afectadas por el cambio de un teléfono; el contacto dueño del teléfono solo se busca si el
+     * cache por identificador está activo, con el cache desactivado no hay entradas que invalidar
+     *
+     * @param event Evento del teléfono
+     *
+     * @since 1.1.0
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTelefonoEvent(TelefonoEvent event) {
+        var contactos = cacheManager.getCache(CacheConfig.CONTACTOS);
+        if (contactos != null && !(contactos instanceof NoOpCache)) {
+            telefonoRepository.findContactoIdById(event.getId())
+                    .ifPresent(id -> contactos.evict(new SimpleKey(id, true)));
+        }
+    }
+}
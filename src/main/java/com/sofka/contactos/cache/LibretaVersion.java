@@ -0,0 +1,390 @@
+package com.sofka.contactos.cache;
+
+import com.sofka.contactos.config.CacheConfig;
+import com.sofka.contactos.event.ContactoEvent;
+import com.sofka.contactos.event.ExternalChangeEvent;
+import com.sofka.contactos.event.TelefonoEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Versión de la libreta, cambia cada vez que se confirma un cambio en un contacto o sus teléfonos
+ *
+ * La versión se guarda en la tabla libreta_version: cada transacción que publica un evento de la libreta la incrementa
+ * justo antes de confirmarse, en su misma conexión, y las lecturas condicionales la consultan al inicio de su propia
+ * transacción de solo lectura, antes de leer los datos y en la misma conexión. Así la ETag corresponde a la
+ * información que ve esa conexión aunque la lectura se envíe a una réplica atrasada, los cambios hechos por otras
+ * instancias cambian la ETag y un reinicio no invalida las ETag de los clientes
+ *
+ * La tabla tiene {@link #STRIPES} franjas: cada transacción incrementa una elegida al azar y la versión es la suma de
+ * todas, así las transacciones que modifican la libreta a la vez casi nunca esperan el bloqueo de la misma fila y la
+ * versión sigue creciendo con cada cambio confirmado
+ *
+ * Los cambios confirmados por otras instancias no pasan por los eventos de esta, que invalidan con precisión el cache
+ * de lectura, el índice de búsqueda y las vistas ordenadas: cada incremento confirmado por esta instancia se cuenta, y
+ * si una lectura ve que la versión avanzó más que esos incrementos vacía el cache y publica un
+ * {@link ExternalChangeEvent} para que se reconstruyan
+ *
+ * Mientras los oyentes posteriores a la confirmación de un cambio local actualizan el índice de búsqueda, las vistas
+ * ordenadas y el cache, las lecturas se responden sin ETag y no se guardan en el cache
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Component
+public class LibretaVersion {
+
+    /**
+     * Cantidad de franjas de la versión, filas de libreta_version con ver_id de 1 a STRIPES
+     */
+    public static final int STRIPES = 16;
+
+    /**
+     * Consulta de la versión actual, la suma de todas las franjas
+     */
+    private static final String SELECT_VERSION = "SELECT SUM(ver_valor) FROM libreta_version";
+
+    /**
+     * Incremento de una franja de la versión
+     */
+    private static final String INCREMENT_VERSION =
+            "UPDATE libreta_version SET ver_valor = ver_valor + 1 WHERE ver_id = ?";
+
+    /**
+     * Lectura condicional en curso en el hilo, null fuera de una lectura condicional
+     */
+    private static final ThreadLocal<Reading> READING = new ThreadLocal<>();
+
+    /**
+     * Plantilla JDBC, usa la conexión de la transacción actual
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Plantilla de las transacciones de solo lectura de las lecturas condicionales
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Administrador de los caches
+     */
+    private final CacheManager cacheManager;
+
+    /**
+     * Publicador de los eventos de cambios de otras instancias
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Administrador de entidades de la transacción actual
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Cantidad de transacciones locales que ya incrementaron la versión y cuyos oyentes aún no terminan
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * Cantidad de incrementos de la versión confirmados por esta instancia
+     */
+    private final AtomicLong committed = new AtomicLong();
+
+    /**
+     * Última versión sincronizada con los cambios de otras instancias, -1 si aún no se conoce
+     */
+    private long syncedVersion = -1;
+
+    /**
+     * Valor de {@link #committed} cuando se leyó {@link #syncedVersion}
+     */
+    private long syncedCommitted;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param jdbcTemplate Plantilla JDBC
+     * @param transactionManager Administrador de transacciones
+     * @param cacheManager Administrador de los caches
+     * @param eventPublisher Publicador de eventos
+     *
+     * @since 1.1.0
+     */
+    public LibretaVersion(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            CacheManager cacheManager,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Toma la versión inicial con la que se comparan las siguientes lecturas, antes de que se construyan el índice de
+     * búsqueda y las vistas ordenadas; si hay un cambio local en curso la toma la primera lectura sin cambios en curso
+     *
+     * @since 1.1.0
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        readOnlyTransaction.execute(status -> {
+            var committedBefore = committed.get();
+            var pendingBefore = pending.get();
+            var version = jdbcTemplate.queryForObject(SELECT_VERSION, Long.class);
+            if (pendingBefore == 0 && pending.get() == 0 && committed.get() == committedBefore) {
+                sync(version, committedBefore);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Ejecuta una lectura condicional en una transacción de solo lectura que empieza consultando la versión
+     *
+     * @param variant Dato que distingue la representación de la respuesta, por ejemplo la cabecera Accept; null si
+     *                solo hay una
+     * @param task Lectura a ejecutar, recibe la ETag fuerte de la versión leída o null si un cambio local aún se está
+     *             aplicando y la respuesta no debe llevar ETag
+     * @param <T> Tipo del resultado
+     * @return Resultado de la lectura
+     *
+     * @since 1.1.0
+     */
+    public <T> T read(String variant, Function<String, T> task) {
+        return readOnlyTransaction.execute(status -> {
+            var committedBefore = committed.get();
+            var pendingBefore = pending.get();
+            var version = jdbcTemplate.queryForObject(SELECT_VERSION, Long.class);
+            var applied = pending.get() == 0;
+            if (applied && pendingBefore == 0 && committed.get() == committedBefore
+                    && sync(version, committedBefore)) {
+                clearCache();
+                eventPublisher.publishEvent(new ExternalChangeEvent(version));
+            }
+            READING.set(new Reading(version, committedBefore));
+            try {
+                return task.apply(applied ? etag(version, variant) : null);
+            } finally {
+                READING.remove();
+            }
+        });
+    }
+
+    /**
+     * Indica si lo leído en el hilo actual se puede guardar en el cache de lectura: fuera de una lectura condicional
+     * siempre; dentro de una, solo si la versión leída incluye todos los cambios confirmados por esta instancia y los
+     * de otras instancias ya vistos, y desde que empezó no se ha confirmado ni está en curso un cambio local. Se usa en
+     * la condición unless de los métodos con cache para que una lectura que empezó antes de un cambio, o que se envió a
+     * una réplica atrasada, no vuelva a guardar la información anterior después de invalidarla
+     *
+     * @return true si lo leído es de la versión actual
+     *
+     * @since 1.1.0
+     */
+    public boolean isCurrent() {
+        var reading = READING.get();
+        return reading == null || (pending.get() == 0 && committed.get() == reading.committed
+                && reading.version >= expected(reading.committed));
+    }
+
+    /**
+     * Registra un cambio de la libreta en la transacción actual: la versión se incrementa una sola vez por transacción,
+     * justo antes de confirmarla y después de escribir los cambios pendientes de las entidades, así el bloqueo de la
+     * franja de la versión es siempre el último que toma una transacción y dura lo menos posible; sin transacción se
+     * incrementa de inmediato
+     *
+     * @since 1.1.0
+     */
+    public void changed() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending.incrementAndGet();
+            try {
+                jdbcTemplate.update(INCREMENT_VERSION, stripe());
+                committed.incrementAndGet();
+            } finally {
+                pending.decrementAndGet();
+            }
+            return;
+        }
+        for (var synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Increment) {
+                return;
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(new Increment());
+    }
+
+    /**
+     * Registra el cambio de un contacto en la transacción que lo publica
+     *
+     * @param event Evento del contacto
+     *
+     * @since 1.1.0
+     */
+    @EventListener
+    public void onContactoEvent(ContactoEvent event) {
+        changed();
+    }
+
+    /**
+     * Registra el cambio de un teléfono en la transacción que lo publica
+     *
+     * @param event Evento del teléfono
+     *
+     * @since 1.1.0
+     */
+    @EventListener
+    public void onTelefonoEvent(TelefonoEvent event) {
+        changed();
+    }
+
+    /**
+     * Compara una versión leída sin cambios locales en curso con la última sincronizada: la diferencia esperada es la
+     * cantidad de incrementos confirmados por esta instancia desde entonces, si es mayor hay cambios de otras
+     * instancias; si es menor la lectura vino de una réplica atrasada y se ignora
+     *
+     * @param version Versión leída
+     * @param localCommitted Valor de {@link #committed} cuando se leyó la versión
+     * @return true si la versión incluye cambios de otras instancias que aún no se habían visto
+     */
+    private synchronized boolean sync(long version, long localCommitted) {
+        if (syncedVersion < 0) {
+            syncedVersion = version;
+            syncedCommitted = localCommitted;
+            return false;
+        }
+        var expected = syncedVersion + (localCommitted - syncedCommitted);
+        if (version < expected) {
+            return false;
+        }
+        syncedVersion = version;
+        syncedCommitted = localCommitted;
+        return version > expected;
+    }
+
+    /**
+     * Elige al azar la franja que incrementa una transacción
+     *
+     * @return Identificador de la franja
+     */
+    private static int stripe() {
+        return ThreadLocalRandom.current().nextInt(STRIPES) + 1;
+    }
+
+    /**
+     * Versión mínima que debe ver una lectura para incluir los cambios confirmados por esta instancia y los de otras
+     * instancias ya sincronizados
+     *
+     * @param localCommitted Valor de {@link #committed} al empezar la lectura
+     * @return Versión mínima, Long.MAX_VALUE si aún no se conoce la versión inicial
+     */
+    private synchronized long expected(long localCommitted) {
+        return syncedVersion < 0 ? Long.MAX_VALUE : syncedVersion + (localCommitted - syncedCommitted);
+    }
+
+    /**
+     * Construye la ETag fuerte de una versión para una representación
+     *
+     * @param version Versión de la libreta
+     * @param variant Dato que distingue la representación, null si solo hay una
+     * @return ETag entre comillas
+     */
+    private static String etag(long version, String variant) {
+        var etag = Long.toString(version, Character.MAX_RADIX);
+        if (variant != null && !variant.isEmpty()) {
+            etag += "-" + Integer.toUnsignedString(variant.hashCode(), Character.MAX_RADIX);
+        }
+        return "\"" + etag + "\"";
+    }
+
+    /**
+     * Vacía el cache de lectura
+     */
+    private void clearCache() {
+        var cache = cacheManager.getCache(CacheConfig.CONTACTOS);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Versión leída por una lectura condicional y cantidad de incrementos locales confirmados cuando empezó
+     */
+    private static final class Reading {
+
+        /**
+         * Versión leída
+         */
+        private final long version;
+
+        /**
+         * Valor de {@link LibretaVersion#committed} cuando empezó la lectura
+         */
+        private final long committed;
+
+        private Reading(long version, long committed) {
+            this.version = version;
+            this.committed = committed;
+        }
+    }
+
+    /**
+     * Incrementa la versión antes de confirmar la transacción y marca el cambio como en curso hasta que terminan los
+     * oyentes posteriores a la confirmación, que se ejecutan antes por tener mayor precedencia
+     */
+    private class Increment implements TransactionSynchronization {
+
+        /**
+         * Indica si la versión ya se incrementó en la transacción
+         */
+        private boolean incremented;
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                entityManager.flush();
+            }
+            pending.incrementAndGet();
+            incremented = true;
+            jdbcTemplate.update(INCREMENT_VERSION, stripe());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (incremented) {
+                if (status == STATUS_COMMITTED) {
+                    committed.incrementAndGet();
+                }
+                pending.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.sofka.contactos.config;
+
+import com.sofka.contactos.admission.AdaptiveConcurrencyLimit;
+import com.sofka.contactos.admission.AdmissionInterceptor;
+import com.sofka.contactos.admission.ClientRateLimiter;
+import com.sofka.contactos.admission.EndpointClass;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Configuración del control de admisión de las peticiones de la API, se activa con libreta.admission.enabled=true
+ *
+ * El límite de concurrencia de cada clase de endpoint parte de su máximo, por defecto el tamaño del pool de conexiones
+ * para los listados y las escrituras y la mitad para las búsquedas, y se adapta según la latencia observada
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "libreta.admission.enabled", havingValue = "true")
+public class AdmissionConfig implements WebMvcConfigurer {
+
+    /**
+     * Rutas sobre las que se aplica el control de admisión
+     */
+    private static final String API_PATTERN = "/api/**";
+
+    /**
+     * Control de admisión
+     */
+    private final AdmissionInterceptor admissionInterceptor;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param admissionInterceptor Control de admisión
+     *
+     * @since 1.1.0
+     */
+    public AdmissionConfig(AdmissionInterceptor admissionInterceptor) {
+        this.admissionInterceptor = admissionInterceptor;
+    }
+
+    /**
+     * Control de admisión de las peticiones
+     *
+     * @param ratePerSecond Fichas que recibe cada cliente por segundo
+     * @param burst Cantidad máxima de fichas que acumula un cliente
+     * @param maxClients Cantidad máxima de clientes de los que se guarda el balde
+     * @param clientHeader Cabecera con el identificador del cliente
+     * @param trustedProxies Direcciones IP separadas por comas de los proxies de confianza, los únicos cuya cabecera
+     *                       del cliente se tiene en cuenta
+     * @param searchMax Límite máximo de búsquedas concurrentes
+     * @param listMax Límite máximo de lecturas concurrentes
+     * @param writeMax Límite máximo de escrituras concurrentes
+     * @param minConcurrency Límite mínimo de cada clase de endpoint
+     * @param tolerance Cantidad de veces la latencia sin carga que se tolera antes de reducir un límite
+     * @param latencyFloor Latencia promedio por debajo de la cual nunca se reduce un límite
+     * @param registry Registro de métricas
+     * @return Control de admisión
+     *
+     * @since 1.1.0
+     */
+    @Bean
+    public static AdmissionInterceptor admissionInterceptor(
+            @Value("${libreta.admission.rate-per-second:50}") double ratePerSecond,
+            @Value("${libreta.admission.burst:100}") int burst,
+            @Value("${libreta.admission.max-clients:100000}") long maxClients,
+            @Value("${libreta.admission.client-header:X-Client-Id}") String clientHeader,
+            @Value("${libreta.admission.trusted-proxies:}") String trustedProxies,
+            @Value("${libreta.admission.search.max-concurrency:5}") int searchMax,
+            @Value("${libreta.admission.list.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}")
+            int listMax,
+            @Value("${libreta.admission.write.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}")
+            int writeMax,
+            @Value("${libreta.admission.min-concurrency:1}") int minConcurrency,
+            @Value("${libreta.admission.latency-tolerance:2.0}") double tolerance,
+            @Value("${libreta.admission.latency-floor:50ms}") Duration latencyFloor,
+            MeterRegistry registry
+    ) {
+        var limits = new EnumMap<EndpointClass, AdaptiveConcurrencyLimit>(EndpointClass.class);
+        limits.put(EndpointClass.SEARCH, limit(minConcurrency, searchMax, tolerance, latencyFloor));
+        limits.put(EndpointClass.LIST, limit(minConcurrency, listMax, tolerance, latencyFloor));
+        limits.put(EndpointClass.WRITE, limit(minConcurrency, writeMax, tolerance, latencyFloor));
+        return new AdmissionInterceptor(
+                new ClientRateLimiter(ratePerSecond, burst, maxClients),
+                limits,
+                clientHeader,
+                addresses(trustedProxies),
+                registry
+        );
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionInterceptor).addPathPatterns(API_PATTERN);
+    }
+
+    /**
+     * Crea el límite adaptativo de una clase de endpoint
+     *
+     * @param min Límite mínimo
+     * @param max Límite máximo
+     * @param tolerance Cantidad de veces la latencia sin carga que se tolera antes de reducir el límite
+     * @param latencyFloor Latencia promedio por debajo de la cual nunca se reduce el límite
+     * @return Límite adaptativo
+     */
+    private static AdaptiveConcurrencyLimit limit(int min, int max, double tolerance, Duration latencyFloor) {
+        return new AdaptiveConcurrencyLimit(Math.min(min, max), max, tolerance, latencyFloor.toNanos());
+    }
+
+    /**
+     * Separa una lista de direcciones IP separadas por comas
+     *
+     * @param addresses Direcciones separadas por comas, puede estar vacía
+     * @return Direcciones sin espacios ni repetidas
+     */
+    private static Set<String> addresses(String addresses) {
+        var set = new HashSet<String>();
+        for (var address : addresses.split(",")) {
+            if (!address.isBlank()) {
+                set.add(address.trim());
+            }
+        }
+        return set;
+    }
+}
@@ -0,0 +1,50 @@
+package com.sofka.contactos.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuración del modo de ejecución asíncrona de las peticiones, se activa con libreta.async.enabled=true
+ *
+ * Las peticiones de la libreta se atienden en un ejecutor con tantos hilos como conexiones tiene el pool de la base
+ * de datos, de forma que nunca hay más operaciones esperando una conexión que conexiones disponibles; las demás
+ * esperan en una cola acotada sin ocupar un hilo de Tomcat y, cuando la cola se llena, se rechazan con 503
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "libreta.async.enabled", havingValue = "true")
+public class AsyncConfig {
+
+    /**
+     * Nombre del ejecutor de las peticiones
+     */
+    public static final String LIBRETA_EXECUTOR = "libretaExecutor";
+
+    /**
+     * Ejecutor acotado de las peticiones de la libreta
+     *
+     * @param threads Cantidad de hilos, por defecto el tamaño máximo del pool de conexiones
+     * @param queueCapacity Cantidad máxima de peticiones en espera
+     * @return Ejecutor de las peticiones
+     *
+     * @since 1.1.0
+     */
+    @Bean(name = LIBRETA_EXECUTOR)
+    public ThreadPoolTaskExecutor libretaExecutor(
+            @Value("${libreta.async.threads:${spring.datasource.hikari.maximum-pool-size:10}}") int threads,
+            @Value("${libreta.async.queue-capacity:1000}") int queueCapacity
+    ) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("libreta-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,29 @@
+package com.sofka.contactos.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración del cache de lectura de la libreta
+ *
+ * Los caches se crean con Caffeine según la especificación de spring.cache.caffeine.spec (tamaño máximo, tiempo de
+ * vida y registro de estadísticas de aciertos, fallos y desalojos)
+ *
+ * Solo se guardan los contactos por identificador, que se invalidan con precisión con cada cambio. Las páginas y las
+ * búsquedas no se guardan: cualquier cambio puede mover un contacto entre ellas, así que invalidarlas con precisión
+ * exigiría repetir el orden y la búsqueda de la base de datos, y vaciarlas en cada escritura las deja casi siempre
+ * vacías. Ya se resuelven en memoria con las vistas ordenadas y el índice de búsqueda, leyendo solo los contactos
+ * encontrados por su identificador, y los clientes que repiten una lectura reciben 304 con la ETag
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Cache de contactos por identificador
+     */
+    public static final String CONTACTOS = "contactos";
+}
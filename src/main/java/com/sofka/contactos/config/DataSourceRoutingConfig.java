@@ -0,0 +1,134 @@
+package com.sofka.contactos.config;
+
+import com.sofka.contactos.datasource.ReadWriteRoutingDataSource;
+import com.sofka.contactos.datasource.RecentWrites;
+import com.sofka.contactos.datasource.RoutingProperties;
+import com.sofka.contactos.repository.TelefonoRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+
+/**
+ * Configuración del enrutamiento de las transacciones de solo lectura a réplicas de la base de datos, se activa con
+ * libreta.datasource.routing.enabled=true
+ *
+ * La base de datos principal se configura con las propiedades spring.datasource.* de siempre y cada réplica con
+ * libreta.datasource.routing.replicas[n].*
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Configuration
+@EnableConfigurationProperties(RoutingProperties.class)
+@ConditionalOnProperty(name = "libreta.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * Pool de conexiones de la base de datos principal
+     *
+     * @param properties Propiedades spring.datasource.*
+     * @return Pool de conexiones de la base de datos principal
+     *
+     * @since 1.1.0
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * DataSource que elige entre la base de datos principal y las réplicas, al cerrarse cierra los pools de las
+     * réplicas
+     *
+     * @param primaryDataSource Pool de conexiones de la base de datos principal
+     * @param properties Configuración del enrutamiento
+     * @param primary Propiedades de la base de datos principal
+     * @param meterRegistry Registro de métricas, si existe
+     * @return DataSource con enrutamiento de lecturas
+     *
+     * @since 1.1.0
+     */
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(
+            HikariDataSource primaryDataSource,
+            RoutingProperties properties,
+            DataSourceProperties primary,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        var replicas = new ArrayList<HikariDataSource>(properties.getReplicas().size());
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            var replica = properties.getReplicas().get(i);
+            var dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(StringUtils.hasText(replica.getUsername())
+                    ? replica.getUsername()
+                    : primary.determineUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.determinePassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+            // Una réplica caída no debe impedir que el sistema inicie
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setReadOnly(true);
+            // El registro de métricas se resuelve al iniciar el pool, en la primera lectura, para no formar un ciclo
+            // con las métricas de los DataSource
+            dataSource.setMetricsTrackerFactory((poolName, poolStats) -> {
+                var registry = meterRegistry.getIfAvailable();
+                return registry == null
+                        ? new IMetricsTracker() { }
+                        : new MicrometerMetricsTrackerFactory(registry).create(poolName, poolStats);
+            });
+            replicas.add(dataSource);
+        }
+        return new ReadWriteRoutingDataSource(
+                primaryDataSource,
+                replicas,
+                properties.getStrategy(),
+                properties.getFailoverCooldown()
+        );
+    }
+
+    /**
+     * DataSource usado por el sistema, pide la conexión real en la primera consulta de cada transacción, cuando ya se
+     * sabe si es de solo lectura
+     *
+     * @param routingDataSource DataSource con enrutamiento de lecturas
+     * @return DataSource del sistema
+     *
+     * @since 1.1.0
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Registro de los contactos escritos recientemente, cuyas lecturas se mantienen en la base de datos principal
+     *
+     * @param properties Configuración del enrutamiento
+     * @param telefonoRepository Repositorio de Telefono
+     * @return Registro de escrituras recientes
+     *
+     * @since 1.1.0
+     */
+    @Bean
+    public RecentWrites recentWrites(RoutingProperties properties, TelefonoRepository telefonoRepository) {
+        return new RecentWrites(properties, telefonoRepository);
+    }
+}
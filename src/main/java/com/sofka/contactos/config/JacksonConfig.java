@@ -0,0 +1,61 @@
+package com.sofka.contactos.config;
+
+import com.fasterxml.jackson.datatype.hibernate5.Hibernate5Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Configuración de la serialización de las entidades
+ *
+ * Además de JSON, las API responden en CBOR (application/cbor) o Smile (application/x-jackson-smile) cuando el
+ * cliente lo pide en la cabecera Accept. Los formatos binarios usan la misma configuración y las mismas anotaciones
+ * de Jackson que JSON, así Response, Contacto y Telefono tienen los mismos campos en los tres formatos
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Módulo que serializa como null las asociaciones perezosas que no fueron cargadas, en lugar de dispararlas
+     * durante la serialización
+     *
+     * @return Módulo de Jackson para Hibernate
+     *
+     * @since 1.1.0
+     */
+    @Bean
+    public Hibernate5Module hibernate5Module() {
+        return new Hibernate5Module();
+    }
+
+    /**
+     * Convertidor de las respuestas a CBOR
+     *
+     * @param builder Constructor del serializador con la configuración del sistema
+     * @return Convertidor CBOR
+     *
+     * @since 1.1.0
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.cbor().build());
+    }
+
+    /**
+     * Convertidor de las respuestas a Smile
+     *
+     * @param builder Constructor del serializador con la configuración del sistema
+     * @return Convertidor Smile
+     *
+     * @since 1.1.0
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.smile().build());
+    }
+}
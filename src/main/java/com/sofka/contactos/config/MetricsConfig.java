@@ -0,0 +1,37 @@
+package com.sofka.contactos.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de las métricas del sistema, publicadas en formato Prometheus en /actuator/prometheus
+ *
+ * Además de las métricas que Spring Boot registra por sí mismo (latencia de cada endpoint, estadísticas de Hibernate,
+ * pool de conexiones, caches y ejecutores), cada método de la libreta se mide con un timer {@link #SERVICE_TIMER}
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Nombre del timer de los métodos del servicio de la libreta
+     */
+    public static final String SERVICE_TIMER = "libreta.service";
+
+    /**
+     * Aspecto que mide los métodos anotados con @Timed
+     *
+     * @param registry Registro de métricas
+     * @return Aspecto de los timers
+     *
+     * @since 1.1.0
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.sofka.contactos.config;
+
+import com.sofka.contactos.writebehind.ContactoWriteBehind;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Configuración del inicio del sistema con spring.main.lazy-initialization=true, activa en el perfil production
+ *
+ * Con la inicialización diferida los beans se crean la primera vez que se usan. Se excluyen los que no deben esperar a
+ * la primera petición: la fábrica de EntityManager, para que el metamodelo de Hibernate y las migraciones se resuelvan
+ * al iniciar y no en la primera consulta, y la escritura diferida, para que su tarea programada exista desde el
+ * inicio. Los oyentes de eventos no necesitan excluirse, Spring los crea al publicarse el evento
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Beans que se crean al iniciar aunque la inicialización diferida esté activa
+     *
+     * @return Filtro de exclusión de la inicialización diferida
+     *
+     * @since 1.1.0
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(EntityManagerFactory.class, ContactoWriteBehind.class);
+    }
+}
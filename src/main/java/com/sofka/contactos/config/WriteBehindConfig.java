@@ -0,0 +1,55 @@
+package com.sofka.contactos.config;
+
+import com.sofka.contactos.service.interfaces.ILibreta;
+import com.sofka.contactos.writebehind.ContactoWriteBehind;
+import com.sofka.contactos.writebehind.WriteBehindAck;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Locale;
+
+/**
+ * Configuración de la escritura diferida de los cambios de nombre y apellidos, se activa con
+ * libreta.write-behind.enabled=true
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "libreta.write-behind.enabled", havingValue = "true")
+public class WriteBehindConfig {
+
+    /**
+     * Escritura diferida de los cambios de nombre y apellidos
+     *
+     * @param libreta Servicio de la libreta
+     * @param ack Momento en que se responden los cambios: sync al escribirse o async al encolarse
+     * @param batchSize Cantidad máxima de contactos por lote
+     * @param maxPending Cantidad máxima de contactos pendientes de escribir
+     * @param registry Registro de métricas
+     * @return Escritura diferida
+     *
+     * @since 1.1.0
+     */
+    @Bean
+    public ContactoWriteBehind contactoWriteBehind(
+            ILibreta libreta,
+            @Value("${libreta.write-behind.ack:sync}") String ack,
+            @Value("${libreta.write-behind.batch-size:1000}") int batchSize,
+            @Value("${libreta.write-behind.max-pending:10000}") int maxPending,
+            MeterRegistry registry
+    ) {
+        return new ContactoWriteBehind(
+                libreta,
+                WriteBehindAck.valueOf(ack.trim().toUpperCase(Locale.ROOT)),
+                batchSize,
+                maxPending,
+                registry
+        );
+    }
+}
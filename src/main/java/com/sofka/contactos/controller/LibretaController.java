@@ -1,24 +1,53 @@
 package com.sofka.contactos.controller;
 
+import com.sofka.contactos.batch.BatchOperation;
+import com.sofka.contactos.batch.BatchResult;
+import com.sofka.contactos.batch.BulkDeleteRequest;
+import com.sofka.contactos.batch.BulkDeleteResult;
+import com.sofka.contactos.cache.LibretaVersion;
+import com.sofka.contactos.config.JacksonConfig;
+import com.sofka.contactos.datasource.DataSourceRouting;
+import com.sofka.contactos.datasource.RecentWrites;
 import com.sofka.contactos.domain.Contacto;
 import com.sofka.contactos.domain.Telefono;
+import com.sofka.contactos.exportacion.ExportFormat;
+import com.sofka.contactos.importacion.ImportFormat;
+import com.sofka.contactos.importacion.ImportResult;
+import com.sofka.contactos.service.BatchService;
+import com.sofka.contactos.service.ExportacionService;
+import com.sofka.contactos.service.ImportacionService;
 import com.sofka.contactos.service.LibretaService;
+import com.sofka.contactos.utility.KeysetPage;
 import com.sofka.contactos.utility.Response;
+import com.sofka.contactos.writebehind.ContactoWriteBehind;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Controlador para la libreta
  *
+ * El controlador no guarda estado entre peticiones, cada una construye su propio objeto Response y las excepciones
+ * se atienden en {@link LibretaExceptionHandler}. Las peticiones de la libreta se entregan a {@link RequestExecutor},
+ * que según la configuración las atiende en el mismo hilo de Tomcat o en un ejecutor acotado que libera el hilo.
+ * Las lecturas responden con la ETag de {@link LibretaVersion} y atienden If-None-Match con 304 consultando solo la
+ * versión de la libreta. Las respuestas se entregan en JSON, CBOR o Smile según la cabecera Accept, ver
+ * {@link JacksonConfig}
+ *
  * @version 1.0.0 2022-03-20
  * @author Julian Lasso <julian.lasso@sofka.com.co>
  * @since 1.0.0
@@ -27,6 +56,11 @@ import java.sql.SQLException;
 @RestController
 public class LibretaController {
 
+    /**
+     * Valor del parámetro include para incluir los teléfonos de los contactos
+     */
+    private static final String INCLUDE_TELEFONOS = "telefonos";
+
     /**
      * Servicio para el manejo de la libreta
      */
@@ -34,14 +68,46 @@ public class LibretaController {
     private LibretaService libretaService;
 
     /**
-     * Variable para el manejo de las respuestas de las API
+     * Ejecutor de las peticiones, las atiende en el hilo de Tomcat o en el ejecutor acotado según la configuración
+     */
+    @Autowired
+    private RequestExecutor requestExecutor;
+
+    /**
+     * Escritura diferida de los cambios de nombre y apellidos, null si no está activa
+     */
+    @Autowired(required = false)
+    private ContactoWriteBehind contactoWriteBehind;
+
+    /**
+     * Versión de la libreta usada para las ETag de las lecturas
      */
-    private Response response = new Response();
+    @Autowired
+    private LibretaVersion libretaVersion;
 
     /**
-     * Manejo del código HTTP que se responde en las API
+     * Registro de los contactos escritos recientemente, solo existe si las lecturas se envían a réplicas
      */
-    private HttpStatus httpStatus = HttpStatus.OK;
+    @Autowired(required = false)
+    private RecentWrites recentWrites;
+
+    /**
+     * Servicio para la ejecución de lotes de operaciones
+     */
+    @Autowired
+    private BatchService batchService;
+
+    /**
+     * Servicio para la importación masiva de contactos
+     */
+    @Autowired
+    private ImportacionService importacionService;
+
+    /**
+     * Servicio para la exportación masiva de contactos
+     */
+    @Autowired
+    private ExportacionService exportacionService;
 
     /**
      * Atención a la dirección raíz del sistema, este redirige a /api/v1/index
@@ -53,7 +119,7 @@ public class LibretaController {
      * @since 1.0.0
      */
     @GetMapping(path = "/")
-    public ResponseEntity<Response> homeIndex1(HttpServletResponse httpResponse) {
+    public ResponseEntity<Response<Object>> homeIndex1(HttpServletResponse httpResponse) {
         return getResponseHome(httpResponse);
     }
 
@@ -67,7 +133,7 @@ public class LibretaController {
      * @since 1.0.0
      */
     @GetMapping(path = "/api/")
-    public ResponseEntity<Response> homeIndex2(HttpServletResponse httpResponse) {
+    public ResponseEntity<Response<Object>> homeIndex2(HttpServletResponse httpResponse) {
         return getResponseHome(httpResponse);
     }
 
@@ -81,76 +147,139 @@ public class LibretaController {
      * @since 1.0.0
      */
     @GetMapping(path = "/api/v1/")
-    public ResponseEntity<Response> homeIndex3(HttpServletResponse httpResponse) {
+    public ResponseEntity<Response<Object>> homeIndex3(HttpServletResponse httpResponse) {
         return getResponseHome(httpResponse);
     }
 
     /**
-     * Index del sistema, responde con el listado de contactos y sus teléfonos
+     * Index del sistema, responde con una página del listado de contactos y sus teléfonos
      *
+     * @param cursor Cursor devuelto por la página anterior, si no se indica se devuelve la primera página
+     * @param size Cantidad de contactos por página
+     * @param include Asociaciones a incluir en la respuesta, "telefonos" para incluir los teléfonos
+     * @param webRequest Petición, usada para atender If-None-Match
      * @return Objeto Response en formato JSON
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
      */
     @GetMapping(path = "/api/v1/index")
-    public ResponseEntity<Response> index() {
-        response.restart();
-        try {
-            response.data = libretaService.getList();
-            httpStatus = HttpStatus.OK;
-        } catch (Exception exception) {
-            getErrorMessageInternal(exception);
-        }
-        return new ResponseEntity(response, httpStatus);
+    public CompletableFuture<ResponseEntity<Response<KeysetPage<Contacto>>>> index(
+            @RequestParam(value="cursor", required=false) String cursor,
+            @RequestParam(value="size", required=false) Integer size,
+            @RequestParam(value="include", required=false) String include,
+            WebRequest webRequest
+    ) {
+        return submitConditional(webRequest, etag -> {
+            var page = libretaService.getPage(cursor, size, withTelefonos(include));
+            return ok(etag, page);
+        });
     }
 
     /**
-     * Devuelve todos los contactos con sus teléfonos ordenados por nombre o apellido de forma ascendente o descendente
+     * Devuelve una página de los contactos con sus teléfonos ordenados por nombre o apellido de forma ascendente o
+     * descendente; se puede ordenar por varios campos separándolos por comas, por ejemplo apellido,nombre
      *
-     * @param orderBy Nombre del campo por donde se desea ordenar la información
+     * @param orderBy Nombre del campo por donde se desea ordenar la información, o varios separados por comas
      * @param order Tipo de orden que debe tener la información ASC o DESC
+     * @param cursor Cursor devuelto por la página anterior, si no se indica se devuelve la primera página
+     * @param size Cantidad de contactos por página
+     * @param include Asociaciones a incluir en la respuesta, "telefonos" para incluir los teléfonos
+     * @param webRequest Petición, usada para atender If-None-Match
      * @return Objeto Response en formato JSON
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
      */
     @GetMapping(path = "/api/v1/index/orderby/{orderBy}/{order}")
-    public ResponseEntity<Response> indexOrderBy(
+    public CompletableFuture<ResponseEntity<Response<KeysetPage<Contacto>>>> indexOrderBy(
             @PathVariable(value="orderBy") String orderBy,
-            @PathVariable(value="order") Sort.Direction order
+            @PathVariable(value="order") Sort.Direction order,
+            @RequestParam(value="cursor", required=false) String cursor,
+            @RequestParam(value="size", required=false) Integer size,
+            @RequestParam(value="include", required=false) String include,
+            WebRequest webRequest
     ) {
-        response.restart();
-        try {
-            response.data = libretaService.getList(orderBy, order);
-            httpStatus = HttpStatus.OK;
-        } catch (Exception exception) {
-            getErrorMessageInternal(exception);
-        }
-        return new ResponseEntity(response, httpStatus);
+        return submitConditional(webRequest, etag -> {
+            var page = libretaService.getPage(orderBy, order, cursor, size, withTelefonos(include));
+            return ok(etag, page);
+        });
     }
 
     /**
      * Devuelve el listado de contactos y sus teléfonos basados en un datos a buscar por nombre y/o apellidos
      *
      * @param dataToSearch Información a buscar
+     * @param limit Cantidad máxima de contactos a devolver
+     * @param include Asociaciones a incluir en la respuesta, "telefonos" para incluir los teléfonos
+     * @param webRequest Petición, usada para atender If-None-Match
      * @return Objeto Response en formato JSON
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
      */
     @GetMapping(path = "/api/v1/search/contact/{dataToSearch}")
-    public ResponseEntity<Response> searchContactByNombreOrApellido(
-            @PathVariable(value="dataToSearch") String dataToSearch
+    public CompletableFuture<ResponseEntity<Response<List<Contacto>>>> searchContactByNombreOrApellido(
+            @PathVariable(value="dataToSearch") String dataToSearch,
+            @RequestParam(value="limit", required=false) Integer limit,
+            @RequestParam(value="include", required=false) String include,
+            WebRequest webRequest
     ) {
-        response.restart();
-        try {
-            response.data = libretaService.searchContacto(dataToSearch);
-            httpStatus = HttpStatus.OK;
-        } catch (Exception exception) {
-            getErrorMessageInternal(exception);
-        }
-        return new ResponseEntity(response, httpStatus);
+        return submitConditional(webRequest, etag -> {
+            var contactos = libretaService.searchContacto(dataToSearch, limit, withTelefonos(include));
+            return ok(etag, contactos);
+        });
+    }
+
+    /**
+     * Devuelve el contacto dueño de un número de teléfono
+     *
+     * @param numero Número de teléfono a buscar, los espacios, signos y separadores no se tienen en cuenta
+     * @param include Asociaciones a incluir en la respuesta, "telefonos" para incluir los teléfonos
+     * @param webRequest Petición, usada para atender If-None-Match
+     * @return Objeto Response en formato JSON
+     *
+     * @since 1.1.0
+     */
+    @GetMapping(path = "/api/v1/search/phone/{numero}")
+    public CompletableFuture<ResponseEntity<Response<Contacto>>> searchContactByTelefono(
+            @PathVariable(value="numero") String numero,
+            @RequestParam(value="include", required=false) String include,
+            WebRequest webRequest
+    ) {
+        return submitConditional(webRequest, etag -> {
+            var contacto = libretaService.getContactoByTelefono(numero, withTelefonos(include));
+            if (contacto == null) {
+                return new ResponseEntity<>(Response.ok("Ningún contacto tiene el número", null), HttpStatus.NOT_FOUND);
+            }
+            return ok(etag, contacto);
+        });
+    }
+
+    /**
+     * Devuelve un contacto basado en su identificador
+     *
+     * @param id Identificador del contacto
+     * @param include Asociaciones a incluir en la respuesta, "telefonos" para incluir los teléfonos
+     * @param webRequest Petición, usada para atender If-None-Match
+     * @return Objeto Response en formato JSON
+     *
+     * @since 1.1.0
+     */
+    @GetMapping(path = "/api/v1/contact/{id}")
+    public CompletableFuture<ResponseEntity<Response<Contacto>>> getContacto(
+            @PathVariable(value="id") Integer id,
+            @RequestParam(value="include", required=false) String include,
+            WebRequest webRequest
+    ) {
+        var primary = recentWrites != null && recentWrites.contains(id);
+        return submitConditional(webRequest, primary, etag -> {
+            var contacto = libretaService.getContacto(id, withTelefonos(include));
+            if (contacto == null) {
+                return new ResponseEntity<>(Response.ok("El contacto no existe", null), HttpStatus.NOT_FOUND);
+            }
+            return ok(etag, contacto);
+        });
     }
 
     /**
@@ -163,18 +292,58 @@ public class LibretaController {
      * @since 1.0.0
      */
     @PostMapping(path = "/api/v1/contact")
-    public ResponseEntity<Response> createContacto(@RequestBody Contacto contacto) {
-        response.restart();
-        try {
+    public CompletableFuture<ResponseEntity<Response<Contacto>>> createContacto(@RequestBody Contacto contacto) {
+        return requestExecutor.submit(() -> {
             log.info("Contacto a crear: {}", contacto);
-            response.data = libretaService.createContacto(contacto);
-            httpStatus = HttpStatus.CREATED;
-        } catch (DataAccessException exception) {
-            getErrorMessageForResponse(exception);
-        } catch (Exception exception) {
-            getErrorMessageInternal(exception);
-        }
-        return new ResponseEntity(response, httpStatus);
+            return new ResponseEntity<>(Response.ok(libretaService.createContacto(contacto)), HttpStatus.CREATED);
+        });
+    }
+
+    /**
+     * Importa de forma masiva contactos y sus teléfonos desde un archivo NDJSON o CSV enviado en el cuerpo de la
+     * petición; el archivo se procesa a medida que se recibe
+     *
+     * @param contentType Tipo de contenido del archivo, application/x-ndjson o text/csv
+     * @param request Petición HTTP con el archivo
+     * @return Objeto Response en formato JSON con el resumen de la importación
+     * @throws IOException si no es posible leer el archivo
+     *
+     * @since 1.1.0
+     */
+    @PostMapping(path = "/api/v1/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<Response<ImportResult>> importContactos(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request
+    ) throws IOException {
+        var format = ImportFormat.fromMediaType(MediaType.parseMediaType(contentType));
+        var result = importacionService.importar(request.getInputStream(), format);
+        var message = String.format("Se importaron %d de %d filas", result.imported, result.total);
+        return ResponseEntity.ok(Response.ok(message, result));
+    }
+
+    /**
+     * Exporta todos los contactos y sus teléfonos en formato NDJSON o CSV; los contactos se escriben en la respuesta a
+     * medida que se leen de la base de datos
+     *
+     * @param format Formato de la exportación, ndjson o csv
+     * @param httpResponse Respuesta HTTP donde se escribe el archivo
+     * @throws IOException si no es posible escribir la respuesta
+     *
+     * @since 1.1.0
+     */
+    @GetMapping(path = "/api/v1/export")
+    public void exportContactos(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            HttpServletResponse httpResponse
+    ) throws IOException {
+        var exportFormat = ExportFormat.fromExtension(format);
+        httpResponse.setContentType(exportFormat.getMediaType() + ";charset=UTF-8");
+        httpResponse.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"contactos." + exportFormat.getExtension() + "\""
+        );
+        var total = exportacionService.exportar(httpResponse.getOutputStream(), exportFormat);
+        log.info("Contactos exportados: {}", total);
     }
 
     /**
@@ -187,18 +356,11 @@ public class LibretaController {
      * @since 1.0.0
      */
     @PostMapping(path = "/api/v1/phone")
-    public ResponseEntity<Response> createTelefono(@RequestBody Telefono telefono) {
-        response.restart();
-        try {
+    public CompletableFuture<ResponseEntity<Response<Telefono>>> createTelefono(@RequestBody Telefono telefono) {
+        return requestExecutor.submit(() -> {
             log.info("Telefono a crear: {}", telefono);
-            response.data = libretaService.createTelefono(telefono);
-            httpStatus = HttpStatus.CREATED;
-        } catch (DataAccessException exception) {
-            getErrorMessageForResponse(exception);
-        } catch (Exception exception) {
-            getErrorMessageInternal(exception);
-        }
-        return new ResponseEntity(response, httpStatus);
+            return new ResponseEntity<>(Response.ok(libretaService.createTelefono(telefono)), HttpStatus.CREATED);
+        });
     }
 
     /**
@@ -212,20 +374,18 @@ public class LibretaController {
      * @since 1.0.0
      */
     @PutMapping(path = "/api/v1/contact/{id}")
-    public ResponseEntity<Response> updateContacto(
+    public CompletableFuture<ResponseEntity<Response<Contacto>>> updateContacto(
             @RequestBody Contacto contacto,
             @PathVariable(value="id") Integer id
     ) {
-        response.restart();
-        try {
-            response.data = libretaService.updateContacto(id, contacto);
-            httpStatus = HttpStatus.OK;
-        } catch (DataAccessException exception) {
-            getErrorMessageForResponse(exception);
-        } catch (Exception exception) {
-            getErrorMessageInternal(exception);
-        }
-        return new ResponseEntity(response, httpStatus);
+        return requestExecutor.submit(() -> {
+            drainWriteBehind(id);
+            var answer = libretaService.updateContacto(id, contacto);
+            if (answer == null) {
+                return new ResponseEntity<>(Response.ok("El contacto no existe", null), HttpStatus.NOT_FOUND);
+            }
+            return ResponseEntity.ok(Response.ok(answer));
+        });
     }
 
     /**
@@ -239,20 +399,17 @@ public class LibretaController {
      * @since 1.0.0
      */
     @PutMapping(path = "/api/v1/phone/{id}")
-    public ResponseEntity<Response> updateTelefono(
+    public CompletableFuture<ResponseEntity<Response<Telefono>>> updateTelefono(
             @RequestBody Telefono telefono,
             @PathVariable(value="id") Integer id
     ) {
-        response.restart();
-        try {
-            response.data = libretaService.updateTelefono(id, telefono);
-            httpStatus = HttpStatus.OK;
-        } catch (DataAccessException exception) {
-            getErrorMessageForResponse(exception);
-        } catch (Exception exception) {
-            getErrorMessageInternal(exception);
-        }
-        return new ResponseEntity(response, httpStatus);
+        return requestExecutor.submit(() -> {
+            var answer = libretaService.updateTelefono(id, telefono);
+            if (answer == null) {
+                return new ResponseEntity<>(Response.ok("El telefono no existe", null), HttpStatus.NOT_FOUND);
+            }
+            return ResponseEntity.ok(Response.ok(answer));
+        });
     }
 
     /**
@@ -266,20 +423,16 @@ public class LibretaController {
      * @since 1.0.0
      */
     @PatchMapping(path = "/api/v1/contact/{id}/name")
-    public ResponseEntity<Response> updateNombreFromContacto(
+    public CompletableFuture<ResponseEntity<Response<Contacto>>> updateNombreFromContacto(
             @RequestBody Contacto contacto,
             @PathVariable(value="id") Integer id
     ) {
-        response.restart();
-        try {
-            response.data = libretaService.updateNombre(id, contacto);
-            httpStatus = HttpStatus.OK;
-        } catch (DataAccessException exception) {
-            getErrorMessageForResponse(exception);
-        } catch (Exception exception) {
-            getErrorMessageInternal(exception);
+        if (contactoWriteBehind != null) {
+            return writeBehindResponse(contactoWriteBehind.updateNombre(id, contacto));
         }
-        return new ResponseEntity(response, httpStatus);
+        return requestExecutor.submit(
+                () -> ResponseEntity.ok(Response.ok(libretaService.updateNombre(id, contacto)))
+        );
     }
 
     /**
@@ -293,20 +446,49 @@ public class LibretaController {
      * @since 1.0.0
      */
     @PatchMapping(path = "/api/v1/contact/{id}/lastname")
-    public ResponseEntity<Response> updateApellidoFromContacto(
+    public CompletableFuture<ResponseEntity<Response<Contacto>>> updateApellidoFromContacto(
             @RequestBody Contacto contacto,
             @PathVariable(value="id") Integer id
     ) {
-        response.restart();
-        try {
-            response.data = libretaService.updateApellidos(id, contacto);
-            httpStatus = HttpStatus.OK;
-        } catch (DataAccessException exception) {
-            getErrorMessageForResponse(exception);
-        } catch (Exception exception) {
-            getErrorMessageInternal(exception);
+        if (contactoWriteBehind != null) {
+            return writeBehindResponse(contactoWriteBehind.updateApellidos(id, contacto));
+        }
+        return requestExecutor.submit(
+                () -> ResponseEntity.ok(Response.ok(libretaService.updateApellidos(id, contacto)))
+        );
+    }
+
+    /**
+     * Arma la respuesta de un cambio encolado en la escritura diferida: 200 cuando ya quedó escrito, 404 cuando al
+     * escribirlo el contacto no existía o 202 cuando solo quedó en la cola
+     *
+     * @param contacto Contacto actualizado, disponible según el modo de confirmación, null si no existe
+     * @return Respuesta con el contacto
+     */
+    private CompletableFuture<ResponseEntity<Response<Contacto>>> writeBehindResponse(
+            CompletableFuture<Contacto> contacto
+    ) {
+        var status = contactoWriteBehind.isAsync() ? HttpStatus.ACCEPTED : HttpStatus.OK;
+        return contacto.thenApply(data -> data == null
+                ? new ResponseEntity<>(Response.ok("El contacto no existe", null), HttpStatus.NOT_FOUND)
+                : ResponseEntity.status(status).body(Response.ok(data)));
+    }
+
+    /**
+     * Escribe los cambios diferidos pendientes antes de una escritura que no pasa por la escritura diferida, para que
+     * un cambio encolado antes no la sobrescriba al escribirse después
+     *
+     * @param id Identificador del contacto a escribir, null si la escritura puede tocar cualquier contacto
+     */
+    private void drainWriteBehind(Integer id) {
+        if (contactoWriteBehind == null) {
+            return;
+        }
+        if (id == null) {
+            contactoWriteBehind.flush();
+        } else {
+            contactoWriteBehind.drain(id);
         }
-        return new ResponseEntity(response, httpStatus);
     }
 
     /**
@@ -320,49 +502,66 @@ public class LibretaController {
      * @since 1.0.0
      */
     @PatchMapping(path = "/api/v1/phone/{id}/number")
-    public ResponseEntity<Response> updateOnlyTelefono(
+    public CompletableFuture<ResponseEntity<Response<Telefono>>> updateOnlyTelefono(
             @RequestBody Telefono telefono,
             @PathVariable(value="id") Integer id
     ) {
-        response.restart();
-        try {
-            response.data = libretaService.updateOnlyTelefono(id, telefono);
-            httpStatus = HttpStatus.OK;
-        } catch (DataAccessException exception) {
-            getErrorMessageForResponse(exception);
-        } catch (Exception exception) {
-            getErrorMessageInternal(exception);
-        }
-        return new ResponseEntity(response, httpStatus);
+        return requestExecutor.submit(() -> {
+            var answer = libretaService.updateOnlyTelefono(id, telefono);
+            if (answer == null) {
+                return new ResponseEntity<>(Response.ok("El telefono no existe", null), HttpStatus.NOT_FOUND);
+            }
+            return ResponseEntity.ok(Response.ok(answer));
+        });
     }
 
     /**
-     * Borra un contacto del sistema
+     * Borra un contacto del sistema junto con sus teléfonos
      *
      * @param id Identificador del contacto a borrar
-     * @return Objeto Response en formato JSON
+     * @return Objeto Response en formato JSON, sin datos
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
      */
     @DeleteMapping(path = "/api/v1/contact/{id}")
-    public ResponseEntity<Response> deleteContacto(@PathVariable(value="id") Integer id) {
-        response.restart();
-        try {
-            response.data = libretaService.deleteContacto(id);
-            if (response.data == null) {
-                response.message = "El contacto no existe";
-                httpStatus = HttpStatus.NOT_FOUND;
+    public CompletableFuture<ResponseEntity<Response<Contacto>>> deleteContacto(@PathVariable(value="id") Integer id) {
+        return requestExecutor.submit(() -> {
+            drainWriteBehind(id);
+            if (!libretaService.deleteContacto(id)) {
+                return new ResponseEntity<>(Response.ok("El contacto no existe", null), HttpStatus.NOT_FOUND);
+            }
+            return ResponseEntity.ok(Response.<Contacto>ok("El contacto fue removido exitosamente", null));
+        });
+    }
+
+    /**
+     * Borra de forma masiva contactos y sus teléfonos, indicados por sus identificadores o por un filtro de nombre y/o
+     * apellidos
+     *
+     * @param request Identificadores o filtro de los contactos a borrar
+     * @return Objeto Response en formato JSON con la cantidad de contactos y teléfonos borrados
+     *
+     * @since 1.1.0
+     */
+    @PostMapping(path = "/api/v1/contact/delete")
+    public CompletableFuture<ResponseEntity<Response<BulkDeleteResult>>> deleteContactos(
+            @RequestBody BulkDeleteRequest request
+    ) {
+        return requestExecutor.submit(() -> {
+            drainWriteBehind(null);
+            BulkDeleteResult result;
+            if (request.ids != null) {
+                if (request.nombre != null || request.apellido != null) {
+                    throw new IllegalArgumentException("Indique los identificadores o un filtro, no ambos");
+                }
+                result = libretaService.deleteContactos(request.ids);
             } else {
-                response.message = "El contacto fue removido exitosamente";
-                httpStatus = HttpStatus.OK;
+                result = libretaService.deleteContactos(request.nombre, request.apellido);
             }
-        } catch (DataAccessException exception) {
-            getErrorMessageForResponse(exception);
-        } catch (Exception exception) {
-            getErrorMessageInternal(exception);
-        }
-        return new ResponseEntity(response, httpStatus);
+            var message = String.format("Se borraron %d contactos y %d teléfonos", result.contactos, result.telefonos);
+            return ResponseEntity.ok(Response.ok(message, result));
+        });
     }
 
     /**
@@ -375,23 +574,36 @@ public class LibretaController {
      * @since 1.0.0
      */
     @DeleteMapping(path = "/api/v1/phone/{id}")
-    public ResponseEntity<Response> deleteTelefono(@PathVariable(value="id") Integer id) {
-        response.restart();
-        try {
-            response.data = libretaService.deleteTelefono(id);
-            if (response.data == null) {
-                response.message = "El telefono no existe";
-                httpStatus = HttpStatus.NOT_FOUND;
-            } else {
-                response.message = "El telefono fue removido exitosamente";
-                httpStatus = HttpStatus.OK;
+    public CompletableFuture<ResponseEntity<Response<Telefono>>> deleteTelefono(@PathVariable(value="id") Integer id) {
+        return requestExecutor.submit(() -> {
+            var telefono = libretaService.deleteTelefono(id);
+            if (telefono == null) {
+                return new ResponseEntity<>(Response.ok("El telefono no existe", null), HttpStatus.NOT_FOUND);
             }
-        } catch (DataAccessException exception) {
-            getErrorMessageForResponse(exception);
-        } catch (Exception exception) {
-            getErrorMessageInternal(exception);
-        }
-        return new ResponseEntity(response, httpStatus);
+            return ResponseEntity.ok(Response.ok("El telefono fue removido exitosamente", telefono));
+        });
+    }
+
+    /**
+     * Ejecuta en orden un lote de operaciones de creación, actualización y borrado de contactos y teléfonos, en una
+     * sola petición y una sola transacción
+     *
+     * @param operations Operaciones a ejecutar
+     * @return Objeto Response en formato JSON con el resultado de cada operación
+     *
+     * @since 1.1.0
+     */
+    @PostMapping(path = "/api/v1/batch")
+    public CompletableFuture<ResponseEntity<Response<List<BatchResult>>>> batch(
+            @RequestBody List<BatchOperation> operations
+    ) {
+        return requestExecutor.submit(() -> {
+            drainWriteBehind(null);
+            var results = batchService.execute(operations);
+            var applied = results.stream().filter(result -> result.status < 300).count();
+            var message = String.format("Se aplicaron %d de %d operaciones", applied, results.size());
+            return ResponseEntity.ok(Response.ok(message, results));
+        });
     }
 
     /**
@@ -403,64 +615,137 @@ public class LibretaController {
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
      */
-    private ResponseEntity<Response> getResponseHome(HttpServletResponse httpResponse) {
-        response.restart();
+    private ResponseEntity<Response<Object>> getResponseHome(HttpServletResponse httpResponse) {
         try {
             httpResponse.sendRedirect("/api/v1/index");
+            return ResponseEntity.ok(Response.ok(null));
         } catch (IOException exception) {
-            response.error = true;
-            response.data = exception.getCause();
-            response.message = exception.getMessage();
-            httpStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+            return new ResponseEntity<>(
+                    Response.<Object>error(exception.getMessage(), exception.getCause()),
+                    HttpStatus.INTERNAL_SERVER_ERROR
+            );
         }
-        return new ResponseEntity(response, httpStatus);
     }
 
     /**
-     * Administrador para las excepciones del sistema
+     * Ejecuta una lectura condicional, ver {@link #submitConditional(WebRequest, boolean, Function)}
      *
-     * @param exception Objeto Exception
+     * @param webRequest Petición
+     * @param task Lectura a ejecutar, recibe la ETag que debe incluir en la respuesta
+     * @param <T> Tipo de la información de la respuesta
+     * @return Respuesta de la lectura o 304 si el cliente ya tiene la versión actual
      *
-     * @author Julian Lasso <julian.lasso@sofka.com.co>
-     * @since 1.0.0
+     * @since 1.1.0
      */
-    private void getErrorMessageInternal(Exception exception) {
-        response.error = true;
-        response.message = exception.getMessage();
-        response.data = exception.getCause();
-        httpStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+    private <T> CompletableFuture<ResponseEntity<Response<T>>> submitConditional(
+            WebRequest webRequest,
+            Function<String, ResponseEntity<Response<T>>> task
+    ) {
+        return submitConditional(webRequest, false, task);
     }
 
     /**
-     * Administrador para las excepciones a nivel de SQL con respecto al manejo del acceso a los datos
+     * Ejecuta una lectura condicional: la versión de la libreta se consulta en la misma transacción y conexión que la
+     * lectura, antes de leer, así la ETag corresponde a la información de esa conexión aunque sea una réplica y un
+     * cambio concurrente solo puede hacer que la ETag entregada sea anterior a la información y no al revés. Si la
+     * ETag coincide con If-None-Match responde 304 sin ejecutar la lectura. La ETag también depende de la cabecera
+     * Accept, porque cada formato negociado es una representación distinta
+     *
+     * @param webRequest Petición
+     * @param primary Indica si la lectura se debe hacer en la base de datos principal, por ejemplo para leer lo escrito
+     *                hace poco
+     * @param task Lectura a ejecutar, recibe la ETag que debe incluir en la respuesta, null si no debe llevar ETag
+     * @param <T> Tipo de la información de la respuesta
+     * @return Respuesta de la lectura o 304 si el cliente ya tiene la versión actual
+     *
+     * @since 1.1.0
+     */
+    private <T> CompletableFuture<ResponseEntity<Response<T>>> submitConditional(
+            WebRequest webRequest,
+            boolean primary,
+            Function<String, ResponseEntity<Response<T>>> task
+    ) {
+        var variant = webRequest.getHeader(HttpHeaders.ACCEPT);
+        var ifNoneMatch = webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        Supplier<ResponseEntity<Response<T>>> read = () -> libretaVersion.read(variant, etag -> {
+            if (etag != null && matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+            }
+            return task.apply(etag);
+        });
+        if (primary) {
+            return requestExecutor.submit(() -> DataSourceRouting.onPrimary(read));
+        }
+        return requestExecutor.submit(read);
+    }
+
+    /**
+     * Indica si alguna de las ETag de If-None-Match coincide con la ETag actual, con la comparación débil que exige
+     * If-None-Match
      *
-     * @param exception Objeto DataAccessException
+     * @param ifNoneMatch Valores de la cabecera If-None-Match, null si no se envió
+     * @param etag ETag actual
+     * @return true si el cliente ya tiene la versión actual
      *
-     * @author Julian Lasso <julian.lasso@sofka.com.co>
-     * @since 1.0.0
+     * @since 1.1.0
      */
-    private void getErrorMessageForResponse(DataAccessException exception) {
-        response.error = true;
-        if(exception.getRootCause() instanceof SQLException) {
-            SQLException sqlEx = (SQLException) exception.getRootCause();
-            var sqlErrorCode = sqlEx.getErrorCode();
-            switch (sqlErrorCode) {
-                case 1062:
-                    response.message = "El dato ya está registrado";
-                    break;
-                case 1452:
-                    response.message = "El usuario indicado no existe";
-                    break;
-                default:
-                    response.message = exception.getMessage();
-                    response.data = exception.getCause();
+    private static boolean matches(String[] ifNoneMatch, String etag) {
+        if (ifNoneMatch != null) {
+            for (var header : ifNoneMatch) {
+                for (var value : header.split(",")) {
+                    var candidate = value.trim();
+                    if (candidate.startsWith("W/")) {
+                        candidate = candidate.substring(2);
+                    }
+                    if (candidate.equals(etag)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Construye la respuesta exitosa de una lectura condicional
+     *
+     * @param etag ETag de la información, null si la respuesta no debe llevar ETag
+     * @param data Información de la respuesta
+     * @param <T> Tipo de la información
+     * @return Respuesta con la ETag y la cabecera Vary, la representación depende de la cabecera Accept
+     *
+     * @since 1.1.0
+     */
+    private static <T> ResponseEntity<Response<T>> ok(String etag, T data) {
+        var response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(Response.ok(data));
+    }
+
+    /**
+     * Interpreta el parámetro include de las peticiones de consulta
+     *
+     * @param include Asociaciones a incluir separadas por coma, null o vacío para no incluir ninguna
+     * @return true si se deben incluir los teléfonos
+     * @throws IllegalArgumentException si se solicita una asociación que no existe
+     *
+     * @since 1.1.0
+     */
+    private static boolean withTelefonos(String include) {
+        var answer = false;
+        if (include != null) {
+            for (var association : include.split(",")) {
+                var name = association.trim();
+                if (INCLUDE_TELEFONOS.equals(name)) {
+                    answer = true;
+                } else if (!name.isEmpty()) {
+                    throw new IllegalArgumentException("No es posible incluir " + name + " en la respuesta");
+                }
             }
-            httpStatus = HttpStatus.BAD_REQUEST;
-        } else {
-            response.message = exception.getMessage();
-            response.data = exception.getCause();
-            httpStatus = HttpStatus.INTERNAL_SERVER_ERROR;
         }
+        return answer;
     }
 
 }
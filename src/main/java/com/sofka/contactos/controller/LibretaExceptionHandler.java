@@ -0,0 +1,167 @@
+package com.sofka.contactos.controller;
+
+import com.sofka.contactos.admission.AdmissionRejectedException;
+import com.sofka.contactos.utility.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import java.sql.SQLException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Manejo centralizado de las excepciones de las API, convierte cada excepción en un objeto Response con su código HTTP
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Slf4j
+@RestControllerAdvice
+public class LibretaExceptionHandler extends ResponseEntityExceptionHandler {
+
+    /**
+     * Segundos que se le indica al cliente esperar antes de reintentar una petición rechazada por carga
+     */
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    /**
+     * Administrador para los datos no válidos enviados por el cliente
+     *
+     * @param exception Objeto IllegalArgumentException
+     * @return Objeto Response en formato JSON
+     *
+     * @since 1.1.0
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Response<Object>> handleIllegalArgument(IllegalArgumentException exception) {
+        return new ResponseEntity<>(Response.error(exception.getMessage(), null), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Administrador para las actualizaciones de un contacto o teléfono que otra petición modificó después de que el
+     * cliente lo leyera
+     *
+     * @param exception Objeto OptimisticLockingFailureException
+     * @return Objeto Response en formato JSON
+     *
+     * @since 1.1.0
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Response<Object>> handleOptimisticLocking(OptimisticLockingFailureException exception) {
+        return new ResponseEntity<>(
+                Response.error("El dato fue modificado por otra petición, léalo de nuevo antes de actualizarlo", null),
+                HttpStatus.CONFLICT
+        );
+    }
+
+    /**
+     * Administrador para las excepciones a nivel de SQL con respecto al manejo del acceso a los datos
+     *
+     * @param exception Objeto DataAccessException
+     * @return Objeto Response en formato JSON
+     *
+     * @author Julian Lasso <julian.lasso@sofka.com.co>
+     * @since 1.0.0
+     */
+    @ExceptionHandler(DataAccessException.class)
+    public ResponseEntity<Response<Object>> handleDataAccess(DataAccessException exception) {
+        if (exception.getRootCause() instanceof SQLException) {
+            SQLException sqlEx = (SQLException) exception.getRootCause();
+            var sqlErrorCode = sqlEx.getErrorCode();
+            switch (sqlErrorCode) {
+                case 1062:
+                    return new ResponseEntity<>(Response.error("El dato ya está registrado", null), HttpStatus.BAD_REQUEST);
+                case 1452:
+                    return new ResponseEntity<>(Response.error("El usuario indicado no existe", null), HttpStatus.BAD_REQUEST);
+                default:
+                    return new ResponseEntity<>(
+                            Response.<Object>error(exception.getMessage(), exception.getCause()),
+                            HttpStatus.BAD_REQUEST
+                    );
+            }
+        }
+        return new ResponseEntity<>(
+                Response.<Object>error(exception.getMessage(), exception.getCause()),
+                HttpStatus.INTERNAL_SERVER_ERROR
+        );
+    }
+
+    /**
+     * Administrador para las peticiones rechazadas porque la cola del ejecutor de peticiones está llena
+     *
+     * @param exception Objeto RejectedExecutionException
+     * @return Objeto Response en formato JSON
+     *
+     * @since 1.1.0
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Response<Object>> handleRejectedExecution(RejectedExecutionException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(Response.error("El sistema está ocupado, intente de nuevo en unos segundos", null));
+    }
+
+    /**
+     * Administrador para las peticiones rechazadas por el control de admisión
+     *
+     * @param exception Objeto AdmissionRejectedException
+     * @return Objeto Response en formato JSON con la cabecera Retry-After
+     *
+     * @since 1.1.0
+     */
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<Response<Object>> handleAdmissionRejected(AdmissionRejectedException exception) {
+        return ResponseEntity.status(exception.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(exception.getRetryAfterSeconds()))
+                .body(Response.error(exception.getMessage(), null));
+    }
+
+    /**
+     * Administrador para las excepciones del sistema
+     *
+     * @param exception Objeto Exception
+     * @return Objeto Response en formato JSON
+     *
+     * @author Julian Lasso <julian.lasso@sofka.com.co>
+     * @since 1.0.0
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Response<Object>> handleInternal(Exception exception) {
+        log.error("Error atendiendo la petición", exception);
+        return new ResponseEntity<>(
+                Response.<Object>error(exception.getMessage(), exception.getCause()),
+                HttpStatus.INTERNAL_SERVER_ERROR
+        );
+    }
+
+    /**
+     * Envuelve en un objeto Response las respuestas de las excepciones propias de Spring MVC (parámetros inválidos,
+     * cuerpos ilegibles, métodos no soportados, etc.)
+     *
+     * @param exception Excepción atendida
+     * @param body Cuerpo propuesto por Spring MVC
+     * @param headers Cabeceras de la respuesta
+     * @param status Código HTTP de la respuesta
+     * @param request Petición atendida
+     * @return Objeto Response en formato JSON
+     *
+     * @since 1.1.0
+     */
+    @Override
+    protected ResponseEntity<Object> handleExceptionInternal(
+            Exception exception,
+            Object body,
+            HttpHeaders headers,
+            HttpStatus status,
+            WebRequest request
+    ) {
+        return new ResponseEntity<>(Response.error(exception.getMessage(), body), headers, status);
+    }
+}
@@ -0,0 +1,56 @@
+package com.sofka.contactos.controller;
+
+import com.sofka.contactos.config.AsyncConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta el trabajo de las peticiones de la libreta
+ *
+ * Sin el modo asíncrono el trabajo se ejecuta en el mismo hilo de Tomcat y las excepciones se lanzan de inmediato; con
+ * libreta.async.enabled=true se entrega al ejecutor acotado de {@link AsyncConfig} y el hilo de Tomcat queda libre
+ * mientras se espera la base de datos. Si la cola del ejecutor está llena se lanza una RejectedExecutionException
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Component
+public class RequestExecutor {
+
+    /**
+     * Ejecutor acotado, null si el modo asíncrono no está activo
+     */
+    private final ThreadPoolTaskExecutor executor;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param executor Ejecutor acotado de las peticiones, si existe
+     *
+     * @since 1.1.0
+     */
+    public RequestExecutor(@Qualifier(AsyncConfig.LIBRETA_EXECUTOR) ObjectProvider<ThreadPoolTaskExecutor> executor) {
+        this.executor = executor.getIfAvailable();
+    }
+
+    /**
+     * Ejecuta el trabajo de una petición
+     *
+     * @param task Trabajo a ejecutar
+     * @param <T> Tipo del resultado
+     * @return Resultado del trabajo, ya completado si el modo asíncrono no está activo
+     *
+     * @since 1.1.0
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (executor == null) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+}
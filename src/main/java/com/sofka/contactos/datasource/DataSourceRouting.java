@@ -0,0 +1,54 @@
+package com.sofka.contactos.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Permite exigir que las consultas del hilo actual se hagan en la base de datos principal aunque estén dentro de una
+ * transacción de solo lectura, por ejemplo para leer un dato recién escrito que aún no llega a las réplicas
+ *
+ * La conexión real se obtiene en la primera consulta de la transacción, así que basta con ejecutar las consultas
+ * dentro de {@link #onPrimary(Supplier)}
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public final class DataSourceRouting {
+
+    /**
+     * Indica si el hilo actual debe usar la base de datos principal
+     */
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private DataSourceRouting() {
+    }
+
+    /**
+     * Ejecuta las consultas indicadas en la base de datos principal
+     *
+     * @param task Consultas a ejecutar
+     * @param <T> Tipo del resultado
+     * @return Resultado de las consultas
+     *
+     * @since 1.1.0
+     */
+    public static <T> T onPrimary(Supplier<T> task) {
+        var previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            PRIMARY_REQUIRED.set(previous);
+        }
+    }
+
+    /**
+     * Indica si el hilo actual debe usar la base de datos principal
+     *
+     * @return true si las consultas deben hacerse en la base de datos principal
+     *
+     * @since 1.1.0
+     */
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get();
+    }
+}
@@ -0,0 +1,204 @@
+package com.sofka.contactos.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que envía las transacciones de solo lectura a las réplicas y todo lo demás a la base de datos principal
+ *
+ * Debe usarse detrás de un LazyConnectionDataSourceProxy para que la conexión se pida en la primera consulta, cuando
+ * ya se sabe si la transacción es de solo lectura. Las lecturas dentro de una transacción de escritura, fuera de una
+ * transacción o dentro de {@link DataSourceRouting#onPrimary} se hacen en la principal. Si una réplica no entrega una
+ * conexión se marca como caída durante el tiempo de espera indicado y se intenta con la siguiente; si ninguna responde
+ * se usa la principal. Al cerrarse cierra los pools de las réplicas
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    /**
+     * Base de datos principal
+     */
+    private final DataSource primary;
+
+    /**
+     * Réplicas de solo lectura
+     */
+    private final List<Replica> replicas;
+
+    /**
+     * Estrategia de selección de réplicas
+     */
+    private final ReplicaSelectionStrategy strategy;
+
+    /**
+     * Tiempo que una réplica caída deja de recibir transacciones
+     */
+    private final long cooldownNanos;
+
+    /**
+     * Turno de la siguiente réplica en la estrategia ROUND_ROBIN
+     */
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Constructor de la clase
+     *
+     * @param primary Base de datos principal
+     * @param replicas Réplicas de solo lectura
+     * @param strategy Estrategia de selección de réplicas
+     * @param cooldown Tiempo que una réplica caída deja de recibir transacciones
+     *
+     * @since 1.1.0
+     */
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            List<? extends DataSource> replicas,
+            ReplicaSelectionStrategy strategy,
+            Duration cooldown
+    ) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica(i, replicas.get(i)));
+        }
+        this.strategy = strategy;
+        this.cooldownNanos = cooldown.toNanos();
+    }
+
+    /**
+     * Cierra los pools de conexiones de las réplicas, la base de datos principal se cierra por separado
+     *
+     * @since 1.1.0
+     */
+    public void close() {
+        for (var replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) replica.dataSource).close();
+                } catch (Exception exception) {
+                    log.warn("No fue posible cerrar la réplica {}", replica.index, exception);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!useReplica()) {
+            return primary.getConnection();
+        }
+        for (var replica : candidates()) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException exception) {
+                replica.markDown(cooldownNanos);
+                log.warn("La réplica {} no está disponible, se intenta con la siguiente", replica.index, exception);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!useReplica()) {
+            return primary.getConnection(username, password);
+        }
+        for (var replica : candidates()) {
+            try {
+                return replica.dataSource.getConnection(username, password);
+            } catch (SQLException exception) {
+                replica.markDown(cooldownNanos);
+                log.warn("La réplica {} no está disponible, se intenta con la siguiente", replica.index, exception);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Indica si la conexión actual puede atenderse en una réplica
+     *
+     * @return true si es una transacción de solo lectura que no exige la base de datos principal
+     *
+     * @since 1.1.0
+     */
+    private boolean useReplica() {
+        return !replicas.isEmpty()
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !DataSourceRouting.isPrimaryRequired();
+    }
+
+    /**
+     * Devuelve las réplicas disponibles en el orden en que deben intentarse según la estrategia
+     *
+     * @return Réplicas disponibles
+     *
+     * @since 1.1.0
+     */
+    private List<Replica> candidates() {
+        var now = System.nanoTime();
+        var available = new ArrayList<Replica>(replicas.size());
+        var start = strategy == ReplicaSelectionStrategy.ROUND_ROBIN
+                ? Math.floorMod(next.getAndIncrement(), replicas.size())
+                : 0;
+        for (int i = 0; i < replicas.size(); i++) {
+            var replica = replicas.get((start + i) % replicas.size());
+            if (replica.isUp(now)) {
+                available.add(replica);
+            }
+        }
+        if (strategy == ReplicaSelectionStrategy.LEAST_CONNECTIONS) {
+            available.sort((left, right) -> Integer.compare(left.activeConnections(), right.activeConnections()));
+        }
+        return available;
+    }
+
+    /**
+     * Réplica con su estado de disponibilidad
+     */
+    private static final class Replica {
+
+        private final int index;
+
+        private final DataSource dataSource;
+
+        private volatile long downUntil;
+
+        private volatile boolean down = false;
+
+        private Replica(int index, DataSource dataSource) {
+            this.index = index;
+            this.dataSource = dataSource;
+        }
+
+        private boolean isUp(long now) {
+            return !down || now - downUntil >= 0;
+        }
+
+        private void markDown(long cooldownNanos) {
+            downUntil = System.nanoTime() + cooldownNanos;
+            down = true;
+        }
+
+        private int activeConnections() {
+            if (dataSource instanceof HikariDataSource) {
+                var pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+                return pool == null ? 0 : pool.getActiveConnections();
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.sofka.contactos.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sofka.contactos.event.ContactoEvent;
+import com.sofka.contactos.event.TelefonoEvent;
+import com.sofka.contactos.repository.TelefonoRepository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Registro de los contactos escritos recientemente, sus lecturas se hacen en la base de datos principal mientras la
+ * escritura puede no haber llegado a las réplicas
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class RecentWrites {
+
+    /**
+     * Identificadores de los contactos escritos, expiran al terminar la ventana de lectura de lo escrito
+     */
+    private final Cache<Integer, Boolean> written;
+
+    /**
+     * Repositorio de Telefono, para encontrar el contacto de los teléfonos escritos
+     */
+    private final TelefonoRepository telefonoRepository;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param properties Configuración del enrutamiento
+     * @param telefonoRepository Repositorio de Telefono
+     *
+     * @since 1.1.0
+     */
+    public RecentWrites(RoutingProperties properties, TelefonoRepository telefonoRepository) {
+        this.written = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getReadYourWritesWindow())
+                .build();
+        this.telefonoRepository = telefonoRepository;
+    }
+
+    /**
+     * Registra la escritura de un contacto una vez confirmada la transacción
+     *
+     * @param event Evento de cambio del contacto
+     *
+     * @since 1.1.0
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContactoEvent(ContactoEvent event) {
+        written.put(event.getId(), Boolean.TRUE);
+    }
+
+    /**
+     * Registra la escritura del contacto dueño de un teléfono una vez confirmada la transacción
+     *
+     * @param event Evento de cambio del teléfono
+     *
+     * @since 1.1.0
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTelefonoEvent(TelefonoEvent event) {
+        telefonoRepository.findContactoIdById(event.getId()).ifPresent(id -> written.put(id, Boolean.TRUE));
+    }
+
+    /**
+     * Indica si el contacto fue escrito dentro de la ventana de lectura de lo escrito
+     *
+     * @param id Identificador del contacto
+     * @return true si sus lecturas deben hacerse en la base de datos principal
+     *
+     * @since 1.1.0
+     */
+    public boolean contains(Integer id) {
+        return id != null && written.getIfPresent(id) != null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.sofka.contactos.datasource;
+
+/**
+ * Estrategias para elegir la réplica que atiende una transacción de solo lectura
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public enum ReplicaSelectionStrategy {
+
+    /**
+     * Las réplicas se turnan en orden
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Se elige la réplica con menos conexiones activas en su pool
+     */
+    LEAST_CONNECTIONS
+}
@@ -0,0 +1,78 @@
+package com.sofka.contactos.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración del enrutamiento de las transacciones de solo lectura a las réplicas, propiedades
+ * libreta.datasource.routing.*
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "libreta.datasource.routing")
+public class RoutingProperties {
+
+    /**
+     * Indica si las transacciones de solo lectura se envían a las réplicas
+     */
+    private boolean enabled = false;
+
+    /**
+     * Estrategia de selección de réplicas
+     */
+    private ReplicaSelectionStrategy strategy = ReplicaSelectionStrategy.ROUND_ROBIN;
+
+    /**
+     * Tiempo máximo de espera por una conexión de una réplica antes de intentar con la siguiente
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Tiempo que una réplica caída deja de recibir transacciones
+     */
+    private Duration failoverCooldown = Duration.ofSeconds(10);
+
+    /**
+     * Tiempo durante el cual las lecturas de un contacto recién escrito se hacen en la base de datos principal, debe
+     * ser mayor al retraso de replicación esperado
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Réplicas de solo lectura
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Conexión a una réplica
+     */
+    @Data
+    public static class Replica {
+
+        /**
+         * URL JDBC de la réplica
+         */
+        private String url;
+
+        /**
+         * Usuario de la réplica, por defecto el de la base de datos principal
+         */
+        private String username;
+
+        /**
+         * Contraseña de la réplica, por defecto la de la base de datos principal
+         */
+        private String password;
+
+        /**
+         * Cantidad máxima de conexiones del pool de la réplica
+         */
+        private int maximumPoolSize = 10;
+    }
+}
@@ -2,6 +2,7 @@ package com.sofka.contactos.domain;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import java.io.Serializable;
@@ -19,6 +20,7 @@ import java.util.List;
 @Data
 @Entity
 @Table(name = "contacto")
+@NamedEntityGraph(name = Contacto.WITH_TELEFONOS, attributeNodes = @NamedAttributeNode("telefonos"))
 public class Contacto implements Serializable {
 
     /**
@@ -26,11 +28,33 @@ public class Contacto implements Serializable {
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Nombre del plan de carga que trae el contacto junto con sus teléfonos
+     */
+    public static final String WITH_TELEFONOS = "Contacto.telefonos";
+
+    /**
+     * Cantidad de colecciones de teléfonos que se cargan en una sola consulta cuando se recorre un listado de contactos;
+     * con hibernate.batch_fetch_style=dynamic la consulta lleva exactamente los contactos pendientes del listado
+     */
+    public static final int TELEFONOS_BATCH_SIZE = 1000;
+
     /**
      * Identificador de la tupla
+     *
+     * Se asigna desde una tabla de secuencias reservando bloques de identificadores, a diferencia de IDENTITY esto
+     * permite que Hibernate agrupe los INSERT en lotes JDBC
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "contacto_id")
+    @TableGenerator(
+            name = "contacto_id",
+            table = "libreta_secuencia",
+            pkColumnName = "sec_nombre",
+            valueColumnName = "sec_valor",
+            pkColumnValue = "contacto",
+            allocationSize = 1000
+    )
     @Column(name = "cnt_id", nullable = false)
     private Integer id;
 
@@ -53,20 +77,30 @@ public class Contacto implements Serializable {
     private Instant createdAt;
 
     /**
-     * Fecha y hora en que la tupla ha sido actualizada por última vez
+     * Fecha y hora en que la tupla ha sido actualizada por última vez, al crearla es la misma fecha de creación
      */
-    @Column(name = "cnt_updated_at")
+    @Column(name = "cnt_updated_at", nullable = false)
     private Instant updatedAt;
 
+    /**
+     * Versión de la tupla, aumenta con cada actualización y se usa para detectar escrituras concurrentes
+     */
+    @Version
+    @Column(name = "cnt_version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     /**
      * Punto de enlace entre la entidad del Contacto y Teléfono (un contacto puede tener muchos números de teléfono)
+     *
+     * Se carga solo cuando se solicita, ya sea con el plan {@link #WITH_TELEFONOS} o por bloques al recorrer un listado
      */
     @OneToMany(
-            fetch = FetchType.EAGER,
+            fetch = FetchType.LAZY,
             targetEntity = Telefono.class,
             cascade = CascadeType.REMOVE,
             mappedBy = "contacto"
     )
+    @BatchSize(size = TELEFONOS_BATCH_SIZE)
     @JsonManagedReference
     private List<Telefono> telefonos = new ArrayList<>();
 
@@ -1,6 +1,7 @@
 package com.sofka.contactos.domain;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 
 import javax.persistence.*;
@@ -26,9 +27,20 @@ public class Telefono implements Serializable {
 
     /**
      * Identificador de la tupla
+     *
+     * Se asigna desde una tabla de secuencias reservando bloques de identificadores, a diferencia de IDENTITY esto
+     * permite que Hibernate agrupe los INSERT en lotes JDBC
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "telefono_id")
+    @TableGenerator(
+            name = "telefono_id",
+            table = "libreta_secuencia",
+            pkColumnName = "sec_nombre",
+            valueColumnName = "sec_valor",
+            pkColumnValue = "telefono",
+            allocationSize = 1000
+    )
     @Column(name = "tel_id", nullable = false)
     private Integer id;
 
@@ -46,6 +58,14 @@ public class Telefono implements Serializable {
     @Column(name = "tel_telefono", nullable = false, length = 30)
     private String telefono;
 
+    /**
+     * Número de teléfono normalizado, solo con dígitos, usado para buscar el dueño de un número con el índice
+     * ix_telefono_numero_normalizado; null mientras el proceso de normalización no haya pasado por la tupla
+     */
+    @Column(name = "tel_numero_normalizado", length = 30)
+    @JsonIgnore
+    private String numeroNormalizado;
+
     /**
      * Fecha y hora en que la tupla ha sido creada
      */
@@ -58,4 +78,11 @@ public class Telefono implements Serializable {
     @Column(name = "tel_updated_at")
     private Instant updatedAt;
 
+    /**
+     * Versión de la tupla, aumenta con cada actualización y se usa para detectar escrituras concurrentes
+     */
+    @Version
+    @Column(name = "tel_version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.sofka.contactos.event;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Evento publicado por el servicio de la libreta cada vez que un contacto cambia
+ *
+ * Los componentes que mantienen información derivada de los contactos (índices, caches, etc.) lo escuchan una vez
+ * confirmada la transacción que lo originó
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Value
+public class ContactoEvent {
+
+    /**
+     * Tipos de cambio que puede sufrir un contacto
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        TELEFONOS_UPDATED
+    }
+
+    /**
+     * Tipo de cambio
+     */
+    Type type;
+
+    /**
+     * Identificador del contacto
+     */
+    Integer id;
+
+    /**
+     * Nombre del contacto, null si no cambió, si el contacto fue borrado o si solo cambiaron sus teléfonos
+     */
+    String nombre;
+
+    /**
+     * Apellidos del contacto, null si no cambiaron, si el contacto fue borrado o si solo cambiaron sus teléfonos
+     */
+    String apellido;
+
+    /**
+     * Números de teléfono del contacto, null si no se conocen al publicar el evento; solo se llenan al crear
+     * contactos junto con sus teléfonos, por ejemplo en la importación masiva
+     */
+    List<String> telefonos;
+
+    /**
+     * Crea el evento para un contacto nuevo
+     *
+     * @param id Identificador del contacto
+     * @param nombre Nombre del contacto
+     * @param apellido Apellidos del contacto
+     * @return Evento
+     *
+     * @since 1.1.0
+     */
+    public static ContactoEvent created(Integer id, String nombre, String apellido) {
+        return new ContactoEvent(Type.CREATED, id, nombre, apellido, null);
+    }
+
+    /**
+     * Crea el evento para un contacto nuevo creado junto con sus teléfonos
+     *
+     * @param id Identificador del contacto
+     * @param nombre Nombre del contacto
+     * @param apellido Apellidos del contacto
+     * @param telefonos Números de teléfono del contacto
+     * @return Evento
+     *
+     * @since 1.1.0
+     */
+    public static ContactoEvent created(Integer id, String nombre, String apellido, List<String> telefonos) {
+        return new ContactoEvent(Type.CREATED, id, nombre, apellido, telefonos);
+    }
+
+    /**
+     * Crea el evento para un contacto actualizado
+     *
+     * @param id Identificador del contacto
+     * @param nombre Nuevo nombre del contacto o null si no cambió
+     * @param apellido Nuevos apellidos del contacto o null si no cambiaron
+     * @return Evento
+     *
+     * @since 1.1.0
+     */
+    public static ContactoEvent updated(Integer id, String nombre, String apellido) {
+        return new ContactoEvent(Type.UPDATED, id, nombre, apellido, null);
+    }
+
+    /**
+     * Crea el evento para un contacto borrado
+     *
+     * @param id Identificador del contacto
+     * @return Evento
+     *
+     * @since 1.1.0
+     */
+    public static ContactoEvent deleted(Integer id) {
+        return new ContactoEvent(Type.DELETED, id, null, null, null);
+    }
+
+    /**
+     * Crea el evento para un contacto al que se le agregó, modificó o borró un teléfono
+     *
+     * @param id Identificador del contacto
+     * @return Evento
+     *
+     * @since 1.1.0
+     */
+    public static ContactoEvent telefonosUpdated(Integer id) {
+        return new ContactoEvent(Type.TELEFONOS_UPDATED, id, null, null, null);
+    }
+}
@@ -0,0 +1,23 @@
+package com.sofka.contactos.event;
+
+import lombok.Value;
+
+/**
+ * Evento publicado por {@link com.sofka.contactos.cache.LibretaVersion} cuando una lectura ve una versión de la
+ * libreta que incluye cambios confirmados por otra instancia
+ *
+ * Esos cambios no pasan por los oyentes de esta instancia, por eso los componentes que mantienen información derivada
+ * de los contactos en memoria (índice de búsqueda, vistas ordenadas) dejan de usarla de inmediato, para que la lectura
+ * en curso vaya a la base de datos, y la reconstruyen en segundo plano
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Value
+public class ExternalChangeEvent {
+
+    /**
+     * Versión de la libreta en que se vieron los cambios
+     */
+    long version;
+}
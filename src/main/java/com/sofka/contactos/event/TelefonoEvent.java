@@ -0,0 +1,34 @@
+package com.sofka.contactos.event;
+
+import lombok.Value;
+
+/**
+ * Evento publicado por el servicio de la libreta cuando cambia el número de un teléfono sin conocer su contacto
+ *
+ * Las actualizaciones de un teléfono se escriben con una sola sentencia UPDATE, sin leer antes la tupla, por eso el
+ * evento solo lleva el identificador del teléfono; los oyentes que necesitan el contacto lo buscan una vez confirmada
+ * la transacción y solo si de verdad lo usan
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Value
+public class TelefonoEvent {
+
+    /**
+     * Identificador del teléfono
+     */
+    Integer id;
+
+    /**
+     * Crea el evento para un teléfono actualizado
+     *
+     * @param id Identificador del teléfono
+     * @return Evento
+     *
+     * @since 1.1.0
+     */
+    public static TelefonoEvent updated(Integer id) {
+        return new TelefonoEvent(id);
+    }
+}
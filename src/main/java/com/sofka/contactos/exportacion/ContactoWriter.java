@@ -0,0 +1,33 @@
+package com.sofka.contactos.exportacion;
+
+import com.sofka.contactos.domain.Contacto;
+
+import java.io.IOException;
+
+/**
+ * Escritor de contactos para la exportación, escribe un contacto a la vez directamente en la salida
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public interface ContactoWriter {
+
+    /**
+     * Escribe un contacto con sus teléfonos
+     *
+     * @param contacto Contacto a escribir, con sus teléfonos cargados
+     * @throws IOException si no es posible escribir en la salida
+     *
+     * @since 1.1.0
+     */
+    public void write(Contacto contacto) throws IOException;
+
+    /**
+     * Envía al cliente lo escrito hasta el momento
+     *
+     * @throws IOException si no es posible escribir en la salida
+     *
+     * @since 1.1.0
+     */
+    public void flush() throws IOException;
+}
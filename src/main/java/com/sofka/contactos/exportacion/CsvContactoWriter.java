@@ -0,0 +1,91 @@
+package com.sofka.contactos.exportacion;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.importacion.CsvRowReader;
+import com.sofka.contactos.utility.Csv;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Escritor de contactos en formato CSV con las columnas id, nombre, apellido y telefonos; el mismo formato que acepta
+ * la importación masiva
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class CsvContactoWriter implements ContactoWriter {
+
+    /**
+     * Encabezado del archivo
+     */
+    private static final String HEADER = "id,nombre,apellido,telefonos\n";
+
+    /**
+     * Salida
+     */
+    private final Writer writer;
+
+    /**
+     * Indica si ya se escribió el encabezado
+     */
+    private boolean headerWritten = false;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param writer Salida
+     *
+     * @since 1.1.0
+     */
+    public CsvContactoWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Escribe un contacto con sus teléfonos en una línea
+     *
+     * @param contacto Contacto a escribir, con sus teléfonos cargados
+     * @throws IOException si no es posible escribir en la salida
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void write(Contacto contacto) throws IOException {
+        if (!headerWritten) {
+            writer.write(HEADER);
+            headerWritten = true;
+        }
+        writer.write(String.valueOf(contacto.getId()));
+        writer.write(Csv.SEPARATOR);
+        writer.write(Csv.escape(contacto.getNombre()));
+        writer.write(Csv.SEPARATOR);
+        writer.write(Csv.escape(contacto.getApellido()));
+        writer.write(Csv.SEPARATOR);
+        var telefonos = new StringBuilder();
+        for (var telefono : contacto.getTelefonos()) {
+            if (telefonos.length() > 0) {
+                telefonos.append(CsvRowReader.TELEFONOS_SEPARATOR);
+            }
+            telefonos.append(telefono.getTelefono());
+        }
+        writer.write(Csv.escape(telefonos.toString()));
+        writer.write('\n');
+    }
+
+    /**
+     * Envía al cliente lo escrito hasta el momento, si el libro está vacío escribe al menos el encabezado
+     *
+     * @throws IOException si no es posible escribir en la salida
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void flush() throws IOException {
+        if (!headerWritten) {
+            writer.write(HEADER);
+            headerWritten = true;
+        }
+        writer.flush();
+    }
+}
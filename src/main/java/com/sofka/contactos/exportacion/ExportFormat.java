@@ -0,0 +1,94 @@
+package com.sofka.contactos.exportacion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Formatos soportados por la exportación de contactos
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public enum ExportFormat {
+
+    /**
+     * Un objeto JSON por línea
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * Valores separados por coma con encabezado
+     */
+    CSV("text/csv", "csv");
+
+    /**
+     * Tipo de contenido HTTP del formato
+     */
+    private final String mediaType;
+
+    /**
+     * Extensión del archivo
+     */
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    /**
+     * Devuelve el tipo de contenido HTTP del formato
+     *
+     * @return Tipo de contenido
+     *
+     * @since 1.1.0
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Devuelve la extensión del archivo
+     *
+     * @return Extensión
+     *
+     * @since 1.1.0
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Crea el escritor de contactos del formato
+     *
+     * @param writer Salida
+     * @param mapper Serializador JSON
+     * @return Escritor de contactos
+     * @throws IOException si no es posible preparar la salida
+     *
+     * @since 1.1.0
+     */
+    public ContactoWriter open(Writer writer, ObjectMapper mapper) throws IOException {
+        return this == NDJSON ? new NdjsonContactoWriter(writer, mapper) : new CsvContactoWriter(writer);
+    }
+
+    /**
+     * Busca el formato a partir de su extensión
+     *
+     * @param extension Extensión del formato, ndjson o csv
+     * @return Formato
+     * @throws IllegalArgumentException si el formato no está soportado
+     *
+     * @since 1.1.0
+     */
+    public static ExportFormat fromExtension(String extension) {
+        for (var format : values()) {
+            if (format.extension.equalsIgnoreCase(extension)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("El formato " + extension + " no está soportado");
+    }
+}
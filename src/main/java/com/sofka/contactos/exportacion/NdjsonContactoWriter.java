@@ -0,0 +1,69 @@
+package com.sofka.contactos.exportacion;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sofka.contactos.domain.Contacto;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Escritor de contactos en formato NDJSON, un objeto JSON por línea
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class NdjsonContactoWriter implements ContactoWriter {
+
+    /**
+     * Generador JSON sobre la salida
+     */
+    private final JsonGenerator generator;
+
+    /**
+     * Serializador de los contactos
+     */
+    private final ObjectWriter objectWriter;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param writer Salida
+     * @param mapper Serializador JSON
+     * @throws IOException si no es posible crear el generador JSON
+     *
+     * @since 1.1.0
+     */
+    public NdjsonContactoWriter(Writer writer, ObjectMapper mapper) throws IOException {
+        this.generator = mapper.getFactory().createGenerator(writer).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.objectWriter = mapper.writerFor(Contacto.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Escribe un contacto con sus teléfonos en una línea
+     *
+     * @param contacto Contacto a escribir, con sus teléfonos cargados
+     * @throws IOException si no es posible escribir en la salida
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void write(Contacto contacto) throws IOException {
+        objectWriter.writeValue(generator, contacto);
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Envía al cliente lo escrito hasta el momento
+     *
+     * @throws IOException si no es posible escribir en la salida
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,134 @@
+package com.sofka.contactos.importacion;
+
+import com.sofka.contactos.utility.Csv;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector de archivos CSV, la primera línea es el encabezado y debe contener las columnas nombre y apellido; la columna
+ * telefonos es opcional y separa los números con punto y coma. Las demás columnas se ignoran
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class CsvRowReader implements RowReader {
+
+    /**
+     * Separador de los números de teléfono dentro de la columna telefonos
+     */
+    public static final String TELEFONOS_SEPARATOR = ";";
+
+    /**
+     * Lector del archivo
+     */
+    private final BufferedReader reader;
+
+    /**
+     * Número de la última línea leída
+     */
+    private long line = 0;
+
+    /**
+     * Posición de las columnas nombre, apellido y telefonos
+     */
+    private int nombreColumn = -1;
+
+    private int apellidoColumn = -1;
+
+    private int telefonosColumn = -1;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param reader Lector del archivo
+     *
+     * @since 1.1.0
+     */
+    public CsvRowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Lee la siguiente fila del archivo, las líneas vacías se ignoran
+     *
+     * @return Fila leída o null si el archivo terminó
+     * @throws ImportRowException si la línea no tiene el formato esperado
+     * @throws IOException si no es posible leer el archivo
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public ImportRow next() throws IOException {
+        if (line == 0) {
+            readHeader();
+        }
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+        List<String> values;
+        try {
+            values = Csv.parseLine(text);
+        } catch (IllegalArgumentException exception) {
+            throw new ImportRowException(line, exception.getMessage());
+        }
+        var telefonos = new ArrayList<String>();
+        var telefonosValue = column(values, telefonosColumn);
+        if (telefonosValue != null && !telefonosValue.isBlank()) {
+            for (var telefono : telefonosValue.split(TELEFONOS_SEPARATOR)) {
+                telefonos.add(telefono.trim());
+            }
+        }
+        return new ImportRow(line, column(values, nombreColumn), column(values, apellidoColumn), telefonos);
+    }
+
+    /**
+     * Lee el encabezado del archivo
+     *
+     * @throws IOException si no es posible leer el archivo o el encabezado no es válido
+     */
+    private void readHeader() throws IOException {
+        var header = reader.readLine();
+        line++;
+        if (header == null) {
+            throw new IOException("El archivo CSV está vacío");
+        }
+        var columns = Csv.parseLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).trim().toLowerCase()) {
+                case "nombre":
+                    nombreColumn = i;
+                    break;
+                case "apellido":
+                    apellidoColumn = i;
+                    break;
+                case "telefonos":
+                    telefonosColumn = i;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (nombreColumn < 0 || apellidoColumn < 0) {
+            throw new IllegalArgumentException("El encabezado del CSV debe contener las columnas nombre y apellido");
+        }
+    }
+
+    /**
+     * Devuelve el valor de una columna
+     *
+     * @param values Valores de la fila
+     * @param column Posición de la columna
+     * @return Valor de la columna o null si la fila no la tiene
+     */
+    private static String column(List<String> values, int column) {
+        return column >= 0 && column < values.size() ? values.get(column) : null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.sofka.contactos.importacion;
+
+/**
+ * Error encontrado al importar una fila
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public final class ImportError {
+
+    /**
+     * Número de línea del archivo en la que se encuentra la fila
+     */
+    public final long line;
+
+    /**
+     * Descripción del error
+     */
+    public final String message;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param line Número de línea del archivo
+     * @param message Descripción del error
+     *
+     * @since 1.1.0
+     */
+    public ImportError(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+}
@@ -0,0 +1,76 @@
+package com.sofka.contactos.importacion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+
+/**
+ * Formatos soportados por la importación masiva de contactos
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public enum ImportFormat {
+
+    /**
+     * Un objeto JSON por línea
+     */
+    NDJSON("application/x-ndjson"),
+
+    /**
+     * Valores separados por coma con encabezado
+     */
+    CSV("text/csv");
+
+    /**
+     * Tipo de contenido HTTP del formato
+     */
+    private final String mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Devuelve el tipo de contenido HTTP del formato
+     *
+     * @return Tipo de contenido
+     *
+     * @since 1.1.0
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Crea el lector de filas del formato
+     *
+     * @param reader Lector del archivo
+     * @param mapper Serializador JSON
+     * @return Lector de filas
+     *
+     * @since 1.1.0
+     */
+    public RowReader open(BufferedReader reader, ObjectMapper mapper) {
+        return this == NDJSON ? new NdjsonRowReader(reader, mapper) : new CsvRowReader(reader);
+    }
+
+    /**
+     * Busca el formato que corresponde a un tipo de contenido HTTP
+     *
+     * @param mediaType Tipo de contenido
+     * @return Formato
+     * @throws IllegalArgumentException si el tipo de contenido no está soportado
+     *
+     * @since 1.1.0
+     */
+    public static ImportFormat fromMediaType(MediaType mediaType) {
+        for (var format : values()) {
+            if (MediaType.parseMediaType(format.mediaType).isCompatibleWith(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("El formato " + mediaType + " no está soportado");
+    }
+}
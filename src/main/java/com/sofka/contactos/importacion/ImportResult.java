@@ -0,0 +1,56 @@
+package com.sofka.contactos.importacion;
+
+import java.util.List;
+
+/**
+ * Resumen de una importación masiva de contactos
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public final class ImportResult {
+
+    /**
+     * Cantidad de filas leídas
+     */
+    public final long total;
+
+    /**
+     * Cantidad de contactos importados
+     */
+    public final long imported;
+
+    /**
+     * Cantidad de teléfonos importados
+     */
+    public final long telefonos;
+
+    /**
+     * Cantidad de filas con error
+     */
+    public final long failed;
+
+    /**
+     * Errores encontrados, limitados a los primeros {@code ImportacionService.MAX_REPORTED_ERRORS}
+     */
+    public final List<ImportError> errors;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param total Cantidad de filas leídas
+     * @param imported Cantidad de contactos importados
+     * @param telefonos Cantidad de teléfonos importados
+     * @param failed Cantidad de filas con error
+     * @param errors Errores encontrados
+     *
+     * @since 1.1.0
+     */
+    public ImportResult(long total, long imported, long telefonos, long failed, List<ImportError> errors) {
+        this.total = total;
+        this.imported = imported;
+        this.telefonos = telefonos;
+        this.failed = failed;
+        this.errors = errors;
+    }
+}
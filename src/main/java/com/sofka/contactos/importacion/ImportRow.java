@@ -0,0 +1,49 @@
+package com.sofka.contactos.importacion;
+
+import java.util.List;
+
+/**
+ * Fila leída del archivo de importación: un contacto con sus números de teléfono
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public final class ImportRow {
+
+    /**
+     * Número de línea del archivo en la que se encuentra la fila
+     */
+    public final long line;
+
+    /**
+     * Nombre del contacto
+     */
+    public final String nombre;
+
+    /**
+     * Apellidos del contacto
+     */
+    public final String apellido;
+
+    /**
+     * Números de teléfono del contacto
+     */
+    public final List<String> telefonos;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param line Número de línea del archivo
+     * @param nombre Nombre del contacto
+     * @param apellido Apellidos del contacto
+     * @param telefonos Números de teléfono del contacto
+     *
+     * @since 1.1.0
+     */
+    public ImportRow(long line, String nombre, String apellido, List<String> telefonos) {
+        this.line = line;
+        this.nombre = nombre;
+        this.apellido = apellido;
+        this.telefonos = telefonos;
+    }
+}
@@ -0,0 +1,44 @@
+package com.sofka.contactos.importacion;
+
+/**
+ * Excepción lanzada cuando una fila del archivo de importación no tiene el formato esperado
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class ImportRowException extends IllegalArgumentException {
+
+    /**
+     * Variable usada para manejar el tema del identificador de la clase serializable
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Número de línea del archivo en la que se encuentra la fila
+     */
+    private final long line;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param line Número de línea del archivo
+     * @param message Descripción del error
+     *
+     * @since 1.1.0
+     */
+    public ImportRowException(long line, String message) {
+        super(message);
+        this.line = line;
+    }
+
+    /**
+     * Devuelve el número de línea del archivo en la que se encuentra la fila
+     *
+     * @return Número de línea
+     *
+     * @since 1.1.0
+     */
+    public long getLine() {
+        return line;
+    }
+}
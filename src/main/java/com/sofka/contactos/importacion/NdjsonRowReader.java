@@ -0,0 +1,97 @@
+package com.sofka.contactos.importacion;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector de archivos NDJSON, un objeto JSON por línea con la forma
+ * {"nombre": "...", "apellido": "...", "telefonos": ["...", {"telefono": "..."}]}
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class NdjsonRowReader implements RowReader {
+
+    /**
+     * Lector del archivo
+     */
+    private final BufferedReader reader;
+
+    /**
+     * Serializador JSON
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * Número de la última línea leída
+     */
+    private long line = 0;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param reader Lector del archivo
+     * @param mapper Serializador JSON
+     *
+     * @since 1.1.0
+     */
+    public NdjsonRowReader(BufferedReader reader, ObjectMapper mapper) {
+        this.reader = reader;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Lee la siguiente fila del archivo, las líneas vacías se ignoran
+     *
+     * @return Fila leída o null si el archivo terminó
+     * @throws ImportRowException si la línea no es un objeto JSON válido
+     * @throws IOException si no es posible leer el archivo
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public ImportRow next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+        JsonNode node;
+        try {
+            node = mapper.readTree(text);
+        } catch (JsonProcessingException exception) {
+            throw new ImportRowException(line, "La línea no es un objeto JSON válido");
+        }
+        if (!node.isObject()) {
+            throw new ImportRowException(line, "La línea no es un objeto JSON válido");
+        }
+        var telefonos = new ArrayList<String>();
+        var telefonosNode = node.path("telefonos");
+        if (!telefonosNode.isMissingNode() && !telefonosNode.isNull() && !telefonosNode.isArray()) {
+            throw new ImportRowException(line, "El campo telefonos debe ser un arreglo");
+        }
+        for (var telefono : telefonosNode) {
+            telefonos.add(telefono.isObject() ? text(telefono.get("telefono")) : text(telefono));
+        }
+        return new ImportRow(line, text(node.get("nombre")), text(node.get("apellido")), telefonos);
+    }
+
+    /**
+     * Devuelve el texto de un nodo JSON
+     *
+     * @param node Nodo JSON
+     * @return Texto del nodo o null si no existe
+     */
+    private static String text(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asText();
+    }
+}
@@ -0,0 +1,23 @@
+package com.sofka.contactos.importacion;
+
+import java.io.IOException;
+
+/**
+ * Lector de filas de un archivo de importación, lee una fila a la vez para no cargar el archivo completo en memoria
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public interface RowReader {
+
+    /**
+     * Lee la siguiente fila del archivo
+     *
+     * @return Fila leída o null si el archivo terminó
+     * @throws ImportRowException si la fila no tiene el formato esperado, el lector queda listo para leer la siguiente
+     * @throws IOException si no es posible leer el archivo
+     *
+     * @since 1.1.0
+     */
+    public ImportRow next() throws IOException;
+}
@@ -0,0 +1,31 @@
+package com.sofka.contactos.repository;
+
+/**
+ * Proyección con los datos de búsqueda de un contacto (identificador, nombre y apellidos)
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public interface ContactoNombre {
+
+    /**
+     * Identificador del contacto
+     *
+     * @return Identificador
+     */
+    Integer getId();
+
+    /**
+     * Nombre del contacto
+     *
+     * @return Nombre
+     */
+    String getNombre();
+
+    /**
+     * Apellidos del contacto
+     *
+     * @return Apellidos
+     */
+    String getApellido();
+}
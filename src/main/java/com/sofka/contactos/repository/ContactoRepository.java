@@ -1,12 +1,20 @@
 package com.sofka.contactos.repository;
 
 import com.sofka.contactos.domain.Contacto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositorio para la entidad Contacto
@@ -15,12 +23,18 @@ import java.util.List;
  * @author Julian Lasso <julian.lasso@sofka.com.co>
  * @since 1.0.0
  */
-public interface ContactoRepository extends JpaRepository<Contacto, Integer> {
+public interface ContactoRepository extends JpaRepository<Contacto, Integer>, ContactoRepositoryCustom {
 
     /**
-     * Busca los contactos que empizan por X dato tanto por nombre como por apellido
+     * Cantidad de filas que el controlador JDBC trae por cada viaje a la base de datos al recorrer los contactos
+     */
+    public static final int STREAM_FETCH_SIZE = 1000;
+
+    /**
+     * Busca los contactos que contienen X dato tanto por nombre como por apellido
      *
      * @param data Dato a buscar
+     * @param pageable Cantidad máxima de contactos a devolver
      * @return Listado de contactos encontrados
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
@@ -28,39 +42,65 @@ public interface ContactoRepository extends JpaRepository<Contacto, Integer> {
      */
     @Query(value = "SELECT cnt " +
             "FROM Contacto cnt " +
-            "WHERE (cnt.nombre LIKE :data% OR cnt.apellido LIKE :data%) " +
+            "WHERE cnt.nombre LIKE %:data% OR cnt.apellido LIKE %:data% " +
             "ORDER BY cnt.nombre ASC")
-    public List<Contacto> findByNombreOrApellidoStartingWith(@Param("data") String data);
+    public List<Contacto> findByNombreOrApellidoContains(@Param("data") String data, Pageable pageable);
 
     /**
-     * Busca los contactos que contienen X dato tanto por nombre como por apellido
+     * Devuelve el identificador, nombre y apellidos de los contactos con identificador mayor al indicado, ordenados
+     * por identificador; usado para construir el índice de búsqueda por bloques
      *
-     * @param data Dato a buscar
+     * @param id Identificador a partir del cual se buscan los contactos
+     * @param pageable Cantidad de contactos a devolver
      * @return Listado de contactos encontrados
      *
-     * @author Julian Lasso <julian.lasso@sofka.com.co>
-     * @since 1.0.0
+     * @since 1.1.0
      */
-    @Query(value = "SELECT cnt " +
+    @Query(value = "SELECT cnt.id AS id, cnt.nombre AS nombre, cnt.apellido AS apellido " +
             "FROM Contacto cnt " +
-            "WHERE cnt.nombre LIKE %:data% OR cnt.apellido LIKE %:data% " +
-            "ORDER BY cnt.nombre ASC")
-    public List<Contacto> findByNombreOrApellidoContains(@Param("data") String data);
+            "WHERE cnt.id > :id " +
+            "ORDER BY cnt.id ASC")
+    public List<ContactoNombre> findNombres(@Param("id") Integer id, Pageable pageable);
 
     /**
-     * Busca los contactos que finalizan por X dato tanto por nombre como por apellido
+     * Busca un contacto junto con sus teléfonos en una sola consulta
      *
-     * @param data Dato a buscar
+     * @param id Identificador del contacto
+     * @return Contacto encontrado
+     *
+     * @since 1.1.0
+     */
+    @EntityGraph(Contacto.WITH_TELEFONOS)
+    @Query(value = "SELECT cnt FROM Contacto cnt WHERE cnt.id = :id")
+    public Optional<Contacto> findWithTelefonosById(@Param("id") Integer id);
+
+    /**
+     * Busca los contactos indicados junto con sus teléfonos en una sola consulta
+     *
+     * @param ids Identificadores de los contactos
      * @return Listado de contactos encontrados
      *
-     * @author Julian Lasso <julian.lasso@sofka.com.co>
-     * @since 1.0.0
+     * @since 1.1.0
      */
-    @Query(value = "SELECT cnt " +
-            "FROM Contacto cnt " +
-            "WHERE cnt.nombre LIKE %:data OR cnt.apellido LIKE %:data " +
-            "ORDER BY cnt.nombre ASC")
-    public List<Contacto> findByNombreOrApellidoEndingWith(@Param("data") String data);
+    @EntityGraph(Contacto.WITH_TELEFONOS)
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query(value = "SELECT DISTINCT cnt FROM Contacto cnt WHERE cnt.id IN :ids")
+    public List<Contacto> findWithTelefonosByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Recorre todos los contactos ordenados por identificador sin cargarlos en memoria, el controlador JDBC los entrega
+     * en bloques de {@value #STREAM_FETCH_SIZE} filas; debe consumirse dentro de una transacción y cerrarse al terminar
+     *
+     * @return Flujo de contactos
+     *
+     * @since 1.1.0
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query(value = "SELECT cnt FROM Contacto cnt ORDER BY cnt.id ASC")
+    public Stream<Contacto> streamAll();
 
     /**
      * Actualiza el nombre de un contacto basado en su identificador
@@ -71,8 +111,10 @@ public interface ContactoRepository extends JpaRepository<Contacto, Integer> {
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
      */
-    @Modifying
-    @Query(value = "update Contacto cnt set cnt.nombre = :nombre, cnt.updatedAt = CURRENT_TIMESTAMP where cnt.id = :id")
+    @Modifying(clearAutomatically = true)
+    @Query(value = "update Contacto cnt " +
+            "set cnt.nombre = :nombre, cnt.updatedAt = CURRENT_TIMESTAMP, cnt.version = cnt.version + 1 " +
+            "where cnt.id = :id")
     public void updateNombre(@Param(value = "id") Integer id, @Param(value = "nombre") String nombre);
 
     /**
@@ -84,7 +126,74 @@ public interface ContactoRepository extends JpaRepository<Contacto, Integer> {
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
      */
-    @Modifying
-    @Query(value = "update Contacto cnt set cnt.apellido = :apellido, cnt.updatedAt = CURRENT_TIMESTAMP where cnt.id = :id")
+    @Modifying(clearAutomatically = true)
+    @Query(value = "update Contacto cnt " +
+            "set cnt.apellido = :apellido, cnt.updatedAt = CURRENT_TIMESTAMP, cnt.version = cnt.version + 1 " +
+            "where cnt.id = :id")
     public void updateApellido(@Param(value = "id") Integer id, @Param(value = "apellido") String apellido);
-}
\ No newline at end of file
+
+    /**
+     * Actualiza el nombre y los apellidos de un contacto sin leerlo antes; si se indica la versión, solo se actualiza
+     * cuando la tupla no ha cambiado desde que el cliente la leyó
+     *
+     * @param id Identificador del contacto
+     * @param nombre Nuevo nombre del contacto
+     * @param apellido Nuevos apellidos del contacto
+     * @param updatedAt Fecha y hora de la actualización
+     * @param version Versión leída por el cliente, null para actualizar sin validarla
+     * @return Cantidad de tuplas actualizadas, 0 si el contacto no existe o su versión cambió
+     *
+     * @since 1.1.0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "update Contacto cnt " +
+            "set cnt.nombre = :nombre, cnt.apellido = :apellido, cnt.updatedAt = :updatedAt, " +
+            "cnt.version = cnt.version + 1 " +
+            "where cnt.id = :id and (:version is null or cnt.version = :version)")
+    public int updateContacto(
+            @Param(value = "id") Integer id,
+            @Param(value = "nombre") String nombre,
+            @Param(value = "apellido") String apellido,
+            @Param(value = "updatedAt") Instant updatedAt,
+            @Param(value = "version") Long version
+    );
+
+    /**
+     * Devuelve los identificadores de los contactos con el nombre y/o los apellidos indicados, sin cargar las entidades
+     *
+     * @param nombre Nombre exacto del contacto, null para no filtrar por nombre
+     * @param apellido Apellidos exactos del contacto, null para no filtrar por apellidos
+     * @return Identificadores de los contactos encontrados
+     *
+     * @since 1.1.0
+     */
+    @Query(value = "SELECT cnt.id FROM Contacto cnt " +
+            "WHERE (:nombre is null or cnt.nombre = :nombre) and (:apellido is null or cnt.apellido = :apellido)")
+    public List<Integer> findIdsByNombreAndApellido(
+            @Param(value = "nombre") String nombre,
+            @Param(value = "apellido") String apellido
+    );
+
+    /**
+     * Devuelve cuáles de los identificadores indicados pertenecen a un contacto, sin cargar las entidades
+     *
+     * @param ids Identificadores de los contactos
+     * @return Identificadores de los contactos que existen
+     *
+     * @since 1.1.0
+     */
+    @Query(value = "SELECT cnt.id FROM Contacto cnt WHERE cnt.id IN :ids")
+    public List<Integer> findIdsByIdIn(@Param(value = "ids") Collection<Integer> ids);
+
+    /**
+     * Borra los contactos indicados con una sola sentencia, sus teléfonos deben haberse borrado antes
+     *
+     * @param ids Identificadores de los contactos
+     * @return Cantidad de contactos borrados
+     *
+     * @since 1.1.0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "delete from Contacto cnt where cnt.id in :ids")
+    public int deleteByIdIn(@Param(value = "ids") Collection<Integer> ids);
+}
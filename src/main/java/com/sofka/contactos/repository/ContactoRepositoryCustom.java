@@ -0,0 +1,67 @@
+package com.sofka.contactos.repository;
+
+import com.sofka.contactos.domain.Contacto;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * Consultas personalizadas para la entidad Contacto
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public interface ContactoRepositoryCustom {
+
+    /**
+     * Busca una página de contactos ordenada por los campos indicados y el identificador, iniciando justo después de
+     * la llave indicada (paginación por keyset)
+     *
+     * @param fields Campos de ordenamiento, el identificador siempre se agrega como último criterio
+     * @param order Tipo de orden ASC o DESC
+     * @param afterValues Valores de los campos de ordenamiento del último contacto entregado, null para la primera página
+     * @param afterId Identificador del último contacto entregado, null para la primera página
+     * @param limit Cantidad máxima de contactos a devolver
+     * @return Listado de contactos encontrados
+     *
+     * @since 1.1.0
+     */
+    public List<Contacto> findPage(
+            List<ContactoSortField> fields,
+            Sort.Direction order,
+            List<Object> afterValues,
+            Integer afterId,
+            int limit
+    );
+
+    /**
+     * Actualiza el nombre de varios contactos en un solo lote JDBC
+     *
+     * @param contactos Contactos con su identificador y su nuevo nombre
+     * @return Cantidad de tuplas actualizadas por cada contacto, en el mismo orden
+     *
+     * @since 1.1.0
+     */
+    public int[] updateNombres(List<Contacto> contactos);
+
+    /**
+     * Actualiza los apellidos de varios contactos en un solo lote JDBC
+     *
+     * @param contactos Contactos con su identificador y sus nuevos apellidos
+     * @return Cantidad de tuplas actualizadas por cada contacto, en el mismo orden
+     *
+     * @since 1.1.0
+     */
+    public int[] updateApellidos(List<Contacto> contactos);
+
+    /**
+     * Actualiza el nombre y/o los apellidos de varios contactos en un solo lote JDBC, con una sentencia por contacto
+     *
+     * @param contactos Contactos con su identificador, su nuevo nombre o null si no cambia y sus nuevos apellidos o
+     *                  null si no cambian
+     * @return Cantidad de tuplas actualizadas por cada contacto, en el mismo orden
+     *
+     * @since 1.1.0
+     */
+    public int[] updateNombresApellidos(List<Contacto> contactos);
+}
@@ -0,0 +1,154 @@
+package com.sofka.contactos.repository;
+
+import com.sofka.contactos.domain.Contacto;
+import org.springframework.data.domain.Sort;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+/**
+ * Implementación de las consultas personalizadas para la entidad Contacto
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class ContactoRepositoryImpl implements ContactoRepositoryCustom {
+
+    /**
+     * Administrador de entidades
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Busca una página de contactos ordenada por los campos indicados y el identificador, iniciando justo después de
+     * la llave indicada (paginación por keyset)
+     *
+     * La condición se arma como una comparación lexicográfica sobre (campos..., id), de esta forma la base de datos
+     * puede posicionarse directamente en el índice sin recorrer las tuplas de las páginas anteriores como sucede con
+     * OFFSET
+     *
+     * @param fields Campos de ordenamiento, el identificador siempre se agrega como último criterio
+     * @param order Tipo de orden ASC o DESC
+     * @param afterValues Valores de los campos de ordenamiento del último contacto entregado, null para la primera página
+     * @param afterId Identificador del último contacto entregado, null para la primera página
+     * @param limit Cantidad máxima de contactos a devolver
+     * @return Listado de contactos encontrados
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public List<Contacto> findPage(
+            List<ContactoSortField> fields,
+            Sort.Direction order,
+            List<Object> afterValues,
+            Integer afterId,
+            int limit
+    ) {
+        var operator = order.isAscending() ? " > " : " < ";
+        var direction = order.isAscending() ? " ASC" : " DESC";
+        var jpql = new StringBuilder("SELECT cnt FROM Contacto cnt");
+        if (afterId != null) {
+            jpql.append(" WHERE ");
+            for (int i = 0; i <= fields.size(); i++) {
+                if (i > 0) {
+                    jpql.append(" OR ");
+                }
+                jpql.append("(");
+                for (int j = 0; j < i; j++) {
+                    jpql.append("cnt.").append(fields.get(j).getAttribute()).append(" = :v").append(j).append(" AND ");
+                }
+                if (i < fields.size()) {
+                    jpql.append("cnt.").append(fields.get(i).getAttribute()).append(operator).append(":v").append(i);
+                } else {
+                    jpql.append("cnt.id").append(operator).append(":id");
+                }
+                jpql.append(")");
+            }
+        }
+        jpql.append(" ORDER BY ");
+        for (var field : fields) {
+            jpql.append("cnt.").append(field.getAttribute()).append(direction).append(", ");
+        }
+        jpql.append("cnt.id").append(direction);
+
+        var query = entityManager.createQuery(jpql.toString(), Contacto.class);
+        if (afterId != null) {
+            for (int i = 0; i < fields.size(); i++) {
+                query.setParameter("v" + i, afterValues.get(i));
+            }
+            query.setParameter("id", afterId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Actualiza el nombre de varios contactos en un solo lote JDBC
+     *
+     * @param contactos Contactos con su identificador y su nuevo nombre
+     * @return Cantidad de tuplas actualizadas por cada contacto, en el mismo orden
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public int[] updateNombres(List<Contacto> contactos) {
+        return JdbcBatch.execute(
+                entityManager,
+                "UPDATE contacto SET cnt_nombre = ?, cnt_updated_at = CURRENT_TIMESTAMP, " +
+                        "cnt_version = cnt_version + 1 WHERE cnt_id = ?",
+                contactos,
+                (statement, contacto) -> {
+                    statement.setString(1, contacto.getNombre());
+                    statement.setInt(2, contacto.getId());
+                }
+        );
+    }
+
+    /**
+     * Actualiza los apellidos de varios contactos en un solo lote JDBC
+     *
+     * @param contactos Contactos con su identificador y sus nuevos apellidos
+     * @return Cantidad de tuplas actualizadas por cada contacto, en el mismo orden
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public int[] updateApellidos(List<Contacto> contactos) {
+        return JdbcBatch.execute(
+                entityManager,
+                "UPDATE contacto SET cnt_apellido = ?, cnt_updated_at = CURRENT_TIMESTAMP, " +
+                        "cnt_version = cnt_version + 1 WHERE cnt_id = ?",
+                contactos,
+                (statement, contacto) -> {
+                    statement.setString(1, contacto.getApellido());
+                    statement.setInt(2, contacto.getId());
+                }
+        );
+    }
+
+    /**
+     * Actualiza el nombre y/o los apellidos de varios contactos en un solo lote JDBC; el campo que llega en null
+     * conserva su valor actual
+     *
+     * @param contactos Contactos con su identificador, su nuevo nombre o null si no cambia y sus nuevos apellidos o
+     *                  null si no cambian
+     * @return Cantidad de tuplas actualizadas por cada contacto, en el mismo orden
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public int[] updateNombresApellidos(List<Contacto> contactos) {
+        return JdbcBatch.execute(
+                entityManager,
+                "UPDATE contacto SET cnt_nombre = COALESCE(?, cnt_nombre), cnt_apellido = COALESCE(?, cnt_apellido), " +
+                        "cnt_updated_at = CURRENT_TIMESTAMP, cnt_version = cnt_version + 1 WHERE cnt_id = ?",
+                contactos,
+                (statement, contacto) -> {
+                    statement.setString(1, contacto.getNombre());
+                    statement.setString(2, contacto.getApellido());
+                    statement.setInt(3, contacto.getId());
+                }
+        );
+    }
+}
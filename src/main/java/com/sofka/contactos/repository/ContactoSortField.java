@@ -0,0 +1,179 @@
+package com.sofka.contactos.repository;
+
+import com.sofka.contactos.domain.Contacto;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Campos de la entidad Contacto por los cuales se permite ordenar y paginar la información
+ *
+ * El identificador del contacto siempre se usa como último criterio de ordenamiento para que la llave de cada tupla
+ * sea única
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public enum ContactoSortField {
+
+    /**
+     * Nombre del contacto
+     */
+    NOMBRE("nombre") {
+        @Override
+        public Object valueOf(Contacto contacto) {
+            return contacto.getNombre();
+        }
+
+        @Override
+        public Object parse(String value) {
+            return value;
+        }
+    },
+
+    /**
+     * Apellidos del contacto
+     */
+    APELLIDO("apellido") {
+        @Override
+        public Object valueOf(Contacto contacto) {
+            return contacto.getApellido();
+        }
+
+        @Override
+        public Object parse(String value) {
+            return value;
+        }
+    },
+
+    /**
+     * Fecha y hora de creación del contacto
+     */
+    CREATED_AT("createdAt") {
+        @Override
+        public Object valueOf(Contacto contacto) {
+            return contacto.getCreatedAt();
+        }
+
+        @Override
+        public Object parse(String value) {
+            return parseInstant(value);
+        }
+    },
+
+    /**
+     * Fecha y hora de la última modificación del contacto, al crearlo es la misma fecha de creación
+     */
+    UPDATED_AT("updatedAt") {
+        @Override
+        public Object valueOf(Contacto contacto) {
+            return contacto.getUpdatedAt();
+        }
+
+        @Override
+        public Object parse(String value) {
+            return parseInstant(value);
+        }
+    };
+
+    /**
+     * Separador de los campos cuando se ordena por varios
+     */
+    public static final String SEPARATOR = ",";
+
+    /**
+     * Nombre del atributo en la entidad Contacto
+     */
+    private final String attribute;
+
+    ContactoSortField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    /**
+     * Devuelve el nombre del atributo en la entidad Contacto
+     *
+     * @return Nombre del atributo
+     *
+     * @since 1.1.0
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Devuelve el valor del campo para un contacto
+     *
+     * @param contacto Objeto Contacto
+     * @return Valor del campo
+     *
+     * @since 1.1.0
+     */
+    public abstract Object valueOf(Contacto contacto);
+
+    /**
+     * Convierte el valor guardado en un cursor al tipo del campo
+     *
+     * @param value Valor en texto
+     * @return Valor del campo
+     *
+     * @since 1.1.0
+     */
+    public abstract Object parse(String value);
+
+    /**
+     * Convierte el valor de una fecha guardado en un cursor
+     *
+     * @param value Fecha en formato ISO-8601
+     * @return Fecha y hora
+     * @throws IllegalArgumentException si el valor no es una fecha válida
+     */
+    private static Instant parseInstant(String value) {
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException exception) {
+            throw new IllegalArgumentException("El valor " + value + " no es una fecha válida", exception);
+        }
+    }
+
+    /**
+     * Busca el campo a partir del nombre del atributo en la entidad Contacto
+     *
+     * @param attribute Nombre del atributo
+     * @return Campo de ordenamiento
+     * @throws IllegalArgumentException si no se permite ordenar por el atributo indicado
+     *
+     * @since 1.1.0
+     */
+    public static ContactoSortField fromAttribute(String attribute) {
+        for (var field : values()) {
+            if (field.attribute.equals(attribute)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("No se permite ordenar por el campo " + attribute);
+    }
+
+    /**
+     * Busca los campos a partir de los nombres de los atributos separados por comas, en el orden en que se indican
+     *
+     * @param attributes Nombres de los atributos, por ejemplo apellido,nombre
+     * @return Campos de ordenamiento
+     * @throws IllegalArgumentException si no se permite ordenar por alguno de los atributos o alguno está repetido
+     *
+     * @since 1.1.0
+     */
+    public static List<ContactoSortField> fromAttributes(String attributes) {
+        var fields = new ArrayList<ContactoSortField>();
+        for (var attribute : attributes.split(SEPARATOR, -1)) {
+            var field = fromAttribute(attribute.trim());
+            if (fields.contains(field)) {
+                throw new IllegalArgumentException("El campo " + attribute.trim() + " está repetido en el ordenamiento");
+            }
+            fields.add(field);
+        }
+        return List.copyOf(fields);
+    }
+}
@@ -0,0 +1,75 @@
+package com.sofka.contactos.repository;
+
+import org.hibernate.Session;
+
+import javax.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Ejecuta una misma sentencia SQL para varios elementos en un solo lote JDBC, sobre la conexión de la transacción
+ * actual
+ *
+ * Antes del lote se escriben los cambios pendientes del contexto de persistencia y después se limpia, igual que en las
+ * actualizaciones masivas de Spring Data con clearAutomatically, para que las entidades cargadas no oculten ni
+ * sobrescriban lo escrito por el lote
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+final class JdbcBatch {
+
+    private JdbcBatch() {
+    }
+
+    /**
+     * Asigna los parámetros de la sentencia para un elemento
+     *
+     * @param <T> Tipo de los elementos
+     */
+    @FunctionalInterface
+    interface Binder<T> {
+
+        /**
+         * Asigna los parámetros de la sentencia
+         *
+         * @param statement Sentencia preparada
+         * @param item Elemento
+         * @throws SQLException si no es posible asignar un parámetro
+         */
+        void bind(PreparedStatement statement, T item) throws SQLException;
+    }
+
+    /**
+     * Ejecuta la sentencia para cada elemento en un solo lote
+     *
+     * @param entityManager Administrador de entidades de la transacción actual
+     * @param sql Sentencia SQL
+     * @param items Elementos
+     * @param binder Asignación de los parámetros de cada elemento
+     * @param <T> Tipo de los elementos
+     * @return Cantidad de tuplas afectadas por cada elemento, en el mismo orden; {@link java.sql.Statement#SUCCESS_NO_INFO}
+     *         si el controlador no la informa
+     *
+     * @since 1.1.0
+     */
+    static <T> int[] execute(EntityManager entityManager, String sql, List<T> items, Binder<T> binder) {
+        if (items.isEmpty()) {
+            return new int[0];
+        }
+        entityManager.flush();
+        var session = entityManager.unwrap(Session.class);
+        var counts = session.doReturningWork(connection -> {
+            try (var statement = connection.prepareStatement(sql)) {
+                for (var item : items) {
+                    binder.bind(statement, item);
+                    statement.addBatch();
+                }
+                return statement.executeBatch();
+            }
+        });
+        entityManager.clear();
+        return counts;
+    }
+}
@@ -0,0 +1,24 @@
+package com.sofka.contactos.repository;
+
+/**
+ * Proyección con el número de un teléfono y el identificador de su contacto
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public interface TelefonoNumero {
+
+    /**
+     * Identificador del contacto dueño del teléfono
+     *
+     * @return Identificador del contacto
+     */
+    Integer getContactoId();
+
+    /**
+     * Número de teléfono
+     *
+     * @return Número
+     */
+    String getTelefono();
+}
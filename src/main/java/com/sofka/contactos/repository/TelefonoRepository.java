@@ -2,12 +2,16 @@ package com.sofka.contactos.repository;
 
 import com.sofka.contactos.domain.Contacto;
 import com.sofka.contactos.domain.Telefono;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio para la entidad Telefono
@@ -16,20 +20,77 @@ import java.util.List;
  * @author Julian Lasso <julian.lasso@sofka.com.co>
  * @since 1.0.0
  */
-public interface TelefonoRepository extends JpaRepository<Telefono, Integer> {
+public interface TelefonoRepository extends JpaRepository<Telefono, Integer>, TelefonoRepositoryCustom {
 
     /**
      * Actualiza solamente el teléfono basado en el identificador de la tupla
      *
      * @param id
      * @param telefono
+     * @param numeroNormalizado Número de teléfono normalizado
+     * @return Cantidad de tuplas actualizadas, 0 si el teléfono no existe
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
      */
-    @Modifying
-    @Query(value = "update Telefono tel set tel.telefono = :telefono, tel.updatedAt = CURRENT_TIMESTAMP where tel.id = :id")
-    public void updateTelefono(@Param(value = "id") Integer id, @Param(value = "telefono") String telefono);
+    @Modifying(clearAutomatically = true)
+    @Query(value = "update Telefono tel " +
+            "set tel.telefono = :telefono, tel.numeroNormalizado = :numeroNormalizado, " +
+            "tel.updatedAt = CURRENT_TIMESTAMP, tel.version = tel.version + 1 " +
+            "where tel.id = :id")
+    public int updateTelefono(
+            @Param(value = "id") Integer id,
+            @Param(value = "telefono") String telefono,
+            @Param(value = "numeroNormalizado") String numeroNormalizado
+    );
+
+    /**
+     * Actualiza el número de un teléfono sin leerlo antes y sin tocar su contacto; si se indica la versión, solo se
+     * actualiza cuando la tupla no ha cambiado desde que el cliente la leyó
+     *
+     * @param id Identificador del teléfono
+     * @param telefono Nuevo número de teléfono
+     * @param numeroNormalizado Nuevo número de teléfono normalizado
+     * @param updatedAt Fecha y hora de la actualización
+     * @param version Versión leída por el cliente, null para actualizar sin validarla
+     * @return Cantidad de tuplas actualizadas, 0 si el teléfono no existe o su versión cambió
+     *
+     * @since 1.1.0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "update Telefono tel " +
+            "set tel.telefono = :telefono, tel.numeroNormalizado = :numeroNormalizado, tel.updatedAt = :updatedAt, " +
+            "tel.version = tel.version + 1 " +
+            "where tel.id = :id and (:version is null or tel.version = :version)")
+    public int updateTelefonoVersionado(
+            @Param(value = "id") Integer id,
+            @Param(value = "telefono") String telefono,
+            @Param(value = "numeroNormalizado") String numeroNormalizado,
+            @Param(value = "updatedAt") Instant updatedAt,
+            @Param(value = "version") Long version
+    );
+
+    /**
+     * Devuelve el identificador del contacto dueño de un teléfono
+     *
+     * @param id Identificador del teléfono
+     * @return Identificador del contacto, vacío si el teléfono no existe
+     *
+     * @since 1.1.0
+     */
+    @Query(value = "SELECT tel.contacto.id FROM Telefono tel WHERE tel.id = :id")
+    public Optional<Integer> findContactoIdById(@Param(value = "id") Integer id);
+
+    /**
+     * Devuelve los identificadores de los contactos dueños de los teléfonos indicados
+     *
+     * @param ids Identificadores de los teléfonos
+     * @return Identificadores de los contactos, sin repetir
+     *
+     * @since 1.1.0
+     */
+    @Query(value = "SELECT DISTINCT tel.contacto.id FROM Telefono tel WHERE tel.id IN :ids")
+    public List<Integer> findContactoIdsByIdIn(@Param(value = "ids") Collection<Integer> ids);
 
     /**
      * Selecciona los teléfonos de un contacto en específico
@@ -42,4 +103,64 @@ public interface TelefonoRepository extends JpaRepository<Telefono, Integer> {
      */
     @Query(value = "SELECT tel FROM Telefono tel WHERE tel.contacto = :contacto")
     public List<Telefono> findAllByContacto(@Param(value = "contacto") Contacto contacto);
-}
\ No newline at end of file
+
+    /**
+     * Devuelve los números de teléfono de los contactos indicados junto con el identificador de su contacto; usado
+     * para indexar los teléfonos sin cargar las entidades
+     *
+     * @param contactoIds Identificadores de los contactos
+     * @return Números de teléfono encontrados, ordenados por contacto
+     *
+     * @since 1.1.0
+     */
+    @Query(value = "SELECT tel.contacto.id AS contactoId, tel.telefono AS telefono " +
+            "FROM Telefono tel " +
+            "WHERE tel.contacto.id IN :contactoIds " +
+            "ORDER BY tel.contacto.id ASC, tel.id ASC")
+    public List<TelefonoNumero> findNumeros(@Param(value = "contactoIds") Collection<Integer> contactoIds);
+
+    /**
+     * Devuelve los contactos dueños de un número de teléfono normalizado, en el orden en que se registró el número;
+     * se resuelve con el índice ix_telefono_numero_normalizado
+     *
+     * @param numeroNormalizado Número de teléfono normalizado
+     * @param pageable Cantidad de contactos a devolver
+     * @return Contactos encontrados
+     *
+     * @since 1.1.0
+     */
+    @Query(value = "SELECT c FROM Telefono tel JOIN tel.contacto c " +
+            "WHERE tel.numeroNormalizado = :numeroNormalizado " +
+            "ORDER BY tel.id ASC")
+    public List<Contacto> findContactosByNumeroNormalizado(
+            @Param(value = "numeroNormalizado") String numeroNormalizado,
+            Pageable pageable
+    );
+
+    /**
+     * Devuelve el identificador y el número de los teléfonos que aún no tienen su número normalizado, ordenados por
+     * identificador; no carga las entidades para que normalizarlos no pase por su versión
+     *
+     * @param afterId Identificador del último teléfono procesado, 0 para empezar desde el inicio
+     * @param pageable Cantidad de teléfonos a devolver
+     * @return Teléfonos sin normalizar
+     *
+     * @since 1.1.0
+     */
+    @Query(value = "SELECT tel.id AS id, tel.telefono AS telefono FROM Telefono tel " +
+            "WHERE tel.numeroNormalizado IS NULL AND tel.id > :afterId " +
+            "ORDER BY tel.id ASC")
+    public List<TelefonoSinNormalizar> findSinNormalizar(@Param(value = "afterId") Integer afterId, Pageable pageable);
+
+    /**
+     * Borra todos los teléfonos de los contactos indicados con una sola sentencia
+     *
+     * @param contactoIds Identificadores de los contactos
+     * @return Cantidad de teléfonos borrados
+     *
+     * @since 1.1.0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "delete from Telefono tel where tel.contacto.id in :contactoIds")
+    public int deleteByContactoIdIn(@Param(value = "contactoIds") Collection<Integer> contactoIds);
+}
@@ -0,0 +1,35 @@
+package com.sofka.contactos.repository;
+
+import com.sofka.contactos.domain.Telefono;
+
+import java.util.List;
+
+/**
+ * Consultas personalizadas para la entidad Telefono
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public interface TelefonoRepositoryCustom {
+
+    /**
+     * Actualiza solamente el número de varios teléfonos en un solo lote JDBC
+     *
+     * @param telefonos Teléfonos con su identificador, su nuevo número y su número normalizado
+     * @return Cantidad de tuplas actualizadas por cada teléfono, en el mismo orden
+     *
+     * @since 1.1.0
+     */
+    public int[] updateTelefonos(List<Telefono> telefonos);
+
+    /**
+     * Asigna el número normalizado de varios teléfonos que aún no lo tienen en un solo lote JDBC, sin cambiar su
+     * versión ni su fecha de actualización; los teléfonos que ya tienen número normalizado no se tocan
+     *
+     * @param telefonos Teléfonos con su identificador y su número
+     * @return Cantidad de tuplas actualizadas por cada teléfono, en el mismo orden
+     *
+     * @since 1.1.0
+     */
+    public int[] updateNumerosNormalizados(List<TelefonoSinNormalizar> telefonos);
+}
@@ -0,0 +1,68 @@
+package com.sofka.contactos.repository;
+
+import com.sofka.contactos.domain.Telefono;
+import com.sofka.contactos.utility.NumeroTelefono;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+/**
+ * Implementación de las consultas personalizadas para la entidad Telefono
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class TelefonoRepositoryImpl implements TelefonoRepositoryCustom {
+
+    /**
+     * Administrador de entidades
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Actualiza solamente el número de varios teléfonos en un solo lote JDBC
+     *
+     * @param telefonos Teléfonos con su identificador, su nuevo número y su número normalizado
+     * @return Cantidad de tuplas actualizadas por cada teléfono, en el mismo orden
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public int[] updateTelefonos(List<Telefono> telefonos) {
+        return JdbcBatch.execute(
+                entityManager,
+                "UPDATE telefono SET tel_telefono = ?, tel_numero_normalizado = ?, " +
+                        "tel_updated_at = CURRENT_TIMESTAMP, tel_version = tel_version + 1 WHERE tel_id = ?",
+                telefonos,
+                (statement, telefono) -> {
+                    statement.setString(1, telefono.getTelefono());
+                    statement.setString(2, telefono.getNumeroNormalizado());
+                    statement.setInt(3, telefono.getId());
+                }
+        );
+    }
+
+    /**
+     * Asigna el número normalizado de varios teléfonos que aún no lo tienen en un solo lote JDBC, sin cambiar su
+     * versión ni su fecha de actualización; los teléfonos que ya tienen número normalizado no se tocan
+     *
+     * @param telefonos Teléfonos con su identificador y su número
+     * @return Cantidad de tuplas actualizadas por cada teléfono, en el mismo orden
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public int[] updateNumerosNormalizados(List<TelefonoSinNormalizar> telefonos) {
+        return JdbcBatch.execute(
+                entityManager,
+                "UPDATE telefono SET tel_numero_normalizado = ? WHERE tel_id = ? AND tel_numero_normalizado IS NULL",
+                telefonos,
+                (statement, telefono) -> {
+                    statement.setString(1, NumeroTelefono.normalize(telefono.getTelefono()));
+                    statement.setInt(2, telefono.getId());
+                }
+        );
+    }
+}
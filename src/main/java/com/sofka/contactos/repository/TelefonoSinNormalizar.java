@@ -0,0 +1,24 @@
+package com.sofka.contactos.repository;
+
+/**
+ * Proyección con el identificador y el número de un teléfono que aún no tiene su número normalizado
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public interface TelefonoSinNormalizar {
+
+    /**
+     * Identificador del teléfono
+     *
+     * @return Identificador
+     */
+    Integer getId();
+
+    /**
+     * Número de teléfono tal como se registró
+     *
+     * @return Número
+     */
+    String getTelefono();
+}
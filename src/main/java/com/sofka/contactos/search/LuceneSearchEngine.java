@@ -0,0 +1,673 @@
+package com.sofka.contactos.search;
+
+import com.sofka.contactos.repository.ContactoNombre;
+import com.sofka.contactos.repository.ContactoRepository;
+import com.sofka.contactos.repository.TelefonoRepository;
+import com.sofka.contactos.service.interfaces.ISearchEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Motor de búsqueda de texto completo basado en un índice Lucene en disco sobre el nombre, los apellidos y los
+ * números de teléfono de los contactos
+ *
+ * Los textos se indexan sin tildes y en minúsculas, por lo que José y jose son el mismo término. Cada término del dato
+ * buscado debe aparecer en el contacto: como palabra completa, como prefijo de una palabra, contenido en el nombre o
+ * los apellidos a partir de tres caracteres o como parte de un teléfono; los resultados se ordenan por relevancia.
+ * Se usa cuando libreta.search.engine es lucene
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "libreta.search.engine", havingValue = "lucene")
+public class LuceneSearchEngine implements ISearchEngine {
+
+    /**
+     * Campo con el identificador del contacto
+     */
+    private static final String ID = "id";
+
+    /**
+     * Campo con el nombre del contacto
+     */
+    private static final String NOMBRE = "nombre";
+
+    /**
+     * Campo con los apellidos del contacto
+     */
+    private static final String APELLIDO = "apellido";
+
+    /**
+     * Campo con los trigramas del nombre y los apellidos, usado para las búsquedas por contenido
+     */
+    private static final String GRAMS = "grams";
+
+    /**
+     * Campo con los dígitos de cada número de teléfono del contacto; se indexan todos sus sufijos para que una búsqueda
+     * por prefijo encuentre cualquier parte del número
+     */
+    private static final String TELEFONOS = "telefonos";
+
+    /**
+     * Tamaño de los n-gramas del campo {@link #GRAMS} y tamaño mínimo de los sufijos del campo {@link #TELEFONOS}
+     */
+    private static final int GRAM_SIZE = 3;
+
+    /**
+     * Cantidad de contactos leídos por consulta durante la reconstrucción del índice
+     */
+    private static final int REBUILD_CHUNK_SIZE = 5000;
+
+    /**
+     * Relevancia de una coincidencia por palabra completa
+     */
+    private static final float TERM_BOOST = 4f;
+
+    /**
+     * Relevancia de una coincidencia en un teléfono
+     */
+    private static final float TELEFONO_BOOST = 3f;
+
+    /**
+     * Relevancia de una coincidencia por prefijo de una palabra
+     */
+    private static final float PREFIX_BOOST = 2f;
+
+    /**
+     * Relevancia de una coincidencia por contenido
+     */
+    private static final float GRAMS_BOOST = 1f;
+
+    /**
+     * Expresión para reconocer un dato a buscar compuesto solo por un número de teléfono
+     */
+    private static final Pattern TELEFONO = Pattern.compile("[0-9+()\\s.-]*[0-9][0-9+()\\s.-]*");
+
+    /**
+     * Expresión para remover todo lo que no es un dígito de un número de teléfono
+     */
+    private static final Pattern NOT_DIGITS = Pattern.compile("[^0-9]");
+
+    /**
+     * Orden de los resultados, del más relevante al menos relevante y entre iguales por identificador
+     */
+    private static final Sort BEST_FIRST = new Sort(SortField.FIELD_SCORE, new SortField(ID, SortField.Type.INT));
+
+    /**
+     * Repositorio de Contacto
+     */
+    @Autowired
+    private ContactoRepository contactoRepository;
+
+    /**
+     * Repositorio de Telefono
+     */
+    @Autowired
+    private TelefonoRepository telefonoRepository;
+
+    /**
+     * Directorio del índice, si no se indica se usa un directorio temporal que se borra al detener el sistema
+     */
+    @Value("${libreta.search.lucene.directory:}")
+    private String directoryPath;
+
+    /**
+     * Analizador de los textos del índice y de los datos a buscar
+     */
+    private final Analyzer analyzer = new ContactoAnalyzer();
+
+    /**
+     * Bloqueo para las escrituras en el índice, evita perder cambios al actualizar parcialmente un contacto
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Indica si hay cambios en el índice que aún no son visibles para las búsquedas
+     */
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    /**
+     * Ruta del directorio del índice
+     */
+    private Path path;
+
+    /**
+     * Indica si el directorio del índice es temporal
+     */
+    private boolean temporary;
+
+    /**
+     * Directorio del índice
+     */
+    private Directory directory;
+
+    /**
+     * Escritor del índice
+     */
+    private IndexWriter writer;
+
+    /**
+     * Administrador de los lectores del índice
+     */
+    private SearcherManager searcherManager;
+
+    /**
+     * Contactos modificados mientras se reconstruye el índice, estos no se sobrescriben con los datos leídos
+     */
+    private Set<Integer> touchedDuringRebuild;
+
+    /**
+     * Indica si el índice ya fue construido
+     */
+    private volatile boolean ready = false;
+
+    /**
+     * Cantidad de veces que se ha invalidado el índice, una reconstrucción solo deja el índice listo si no se invalidó
+     * mientras tanto
+     */
+    private long invalidations;
+
+    /**
+     * Abre el índice; su contenido anterior se descarta porque se reconstruye al iniciar el sistema
+     *
+     * @throws IOException si no es posible abrir el directorio del índice
+     *
+     * @since 1.1.0
+     */
+    @PostConstruct
+    public void open() throws IOException {
+        temporary = directoryPath == null || directoryPath.isBlank();
+        path = temporary ? Files.createTempDirectory("libreta-lucene") : Paths.get(directoryPath);
+        directory = FSDirectory.open(path);
+        var config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE)
+                .setRAMBufferSizeMB(64);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+        log.info("Índice de búsqueda Lucene abierto en {}", path);
+    }
+
+    /**
+     * Cierra el índice y borra su directorio si es temporal
+     *
+     * @throws IOException si no es posible cerrar o borrar el índice
+     *
+     * @since 1.1.0
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        if (temporary) {
+            try (Stream<Path> files = Files.walk(path)) {
+                for (var file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Agrega o actualiza un contacto en el índice conservando sus teléfonos indexados
+     *
+     * @param id Identificador del contacto
+     * @param nombre Nombre del contacto, null para conservar el que ya está indexado
+     * @param apellido Apellidos del contacto, null para conservar los que ya están indexados
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void index(Integer id, String nombre, String apellido) {
+        index(id, nombre, apellido, null);
+    }
+
+    /**
+     * Agrega o actualiza un contacto junto con sus números de teléfono en el índice
+     *
+     * Si falta alguno de los datos se toma del documento indexado, para lo cual primero se hacen visibles los cambios
+     * pendientes; esto solo ocurre en las actualizaciones parciales
+     *
+     * @param id Identificador del contacto
+     * @param nombre Nombre del contacto, null para conservar el que ya está indexado
+     * @param apellido Apellidos del contacto, null para conservar los que ya están indexados
+     * @param telefonos Números de teléfono del contacto, null para conservar los que ya están indexados
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void index(Integer id, String nombre, String apellido, List<String> telefonos) {
+        lock.lock();
+        try {
+            if (nombre == null || apellido == null || telefonos == null) {
+                var old = find(id);
+                if (old == null) {
+                    if (nombre == null || apellido == null) {
+                        return;
+                    }
+                    telefonos = telefonos != null ? telefonos : List.of();
+                } else {
+                    nombre = nombre != null ? nombre : old.get(NOMBRE);
+                    apellido = apellido != null ? apellido : old.get(APELLIDO);
+                    telefonos = telefonos != null ? telefonos : List.of(old.getValues(TELEFONOS));
+                }
+            }
+            writer.updateDocument(idTerm(id), document(id, nombre, apellido, telefonos));
+            dirty.set(true);
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.add(id);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Indica si el motor indexa los números de teléfono de los contactos
+     *
+     * @return true, los teléfonos se pueden buscar por cualquier parte del número
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public boolean indexesTelefonos() {
+        return true;
+    }
+
+    /**
+     * Quita un contacto del índice
+     *
+     * @param id Identificador del contacto
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void remove(Integer id) {
+        lock.lock();
+        try {
+            writer.deleteDocuments(idTerm(id));
+            dirty.set(true);
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.add(id);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Busca un dato entre el nombre, los apellidos y los teléfonos de los contactos indexados
+     *
+     * Un dato compuesto solo por dígitos y separadores se busca también como parte de los teléfonos sin tener en
+     * cuenta los separadores
+     *
+     * @param dataToSearch Dato a buscar
+     * @param limit Cantidad máxima de resultados
+     * @return Identificadores de los contactos encontrados, del más relevante al menos relevante
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public List<Integer> search(String dataToSearch, int limit) {
+        if (dataToSearch == null || limit < 1) {
+            return List.of();
+        }
+        var query = query(dataToSearch);
+        if (query == null) {
+            return List.of();
+        }
+        try {
+            refresh();
+            var searcher = searcherManager.acquire();
+            try {
+                var hits = searcher.search(query, limit, BEST_FIRST).scoreDocs;
+                var answer = new ArrayList<Integer>(hits.length);
+                for (var hit : hits) {
+                    answer.add(Integer.valueOf(searcher.doc(hit.doc, Set.of(ID)).get(ID)));
+                }
+                return answer;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Reconstruye el índice completo a partir de la base de datos
+     *
+     * Los contactos se leen por bloques ordenados por identificador y los teléfonos de cada bloque en una sola
+     * consulta; los cambios que llegan mientras tanto se aplican de inmediato y tienen prioridad sobre los datos
+     * leídos. Si el índice se invalida durante la reconstrucción no queda listo y se espera la siguiente
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public synchronized void rebuild() {
+        var start = System.currentTimeMillis();
+        long generation;
+        lock.lock();
+        try {
+            ready = false;
+            generation = invalidations;
+            writer.deleteAll();
+            touchedDuringRebuild = new HashSet<>();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            lock.unlock();
+        }
+        var total = 0L;
+        var afterId = 0;
+        List<ContactoNombre> chunk;
+        do {
+            chunk = contactoRepository.findNombres(afterId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            var ids = chunk.stream().map(ContactoNombre::getId).collect(Collectors.toList());
+            var telefonos = new HashMap<Integer, List<String>>();
+            if (!ids.isEmpty()) {
+                for (var numero : telefonoRepository.findNumeros(ids)) {
+                    telefonos.computeIfAbsent(numero.getContactoId(), key -> new ArrayList<>()).add(numero.getTelefono());
+                }
+            }
+            lock.lock();
+            try {
+                for (var contacto : chunk) {
+                    if (!touchedDuringRebuild.contains(contacto.getId())) {
+                        var document = document(
+                                contacto.getId(),
+                                contacto.getNombre(),
+                                contacto.getApellido(),
+                                telefonos.getOrDefault(contacto.getId(), List.of())
+                        );
+                        writer.addDocument(document);
+                        total++;
+                    }
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            } finally {
+                lock.unlock();
+            }
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+        lock.lock();
+        try {
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            touchedDuringRebuild = null;
+            ready = generation == invalidations;
+            log.info("Índice de búsqueda Lucene construido con {} contactos en {} ms",
+                    total, System.currentTimeMillis() - start);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deja de usar el índice hasta que termine la siguiente reconstrucción
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void invalidate() {
+        lock.lock();
+        try {
+            invalidations++;
+            ready = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Indica si el índice ya fue construido y puede responder búsquedas
+     *
+     * @return true si el índice está listo
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Hace visibles para las búsquedas los cambios pendientes del índice
+     *
+     * @throws IOException si no es posible abrir el nuevo lector del índice
+     */
+    private void refresh() throws IOException {
+        if (dirty.compareAndSet(true, false)) {
+            searcherManager.maybeRefreshBlocking();
+        }
+    }
+
+    /**
+     * Busca el documento indexado de un contacto con los cambios pendientes incluidos
+     *
+     * @param id Identificador del contacto
+     * @return Documento del contacto o null si no está indexado
+     * @throws IOException si no es posible leer el índice
+     */
+    private Document find(Integer id) throws IOException {
+        refresh();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            var hits = searcher.search(new TermQuery(idTerm(id)), 1).scoreDocs;
+            return hits.length == 0 ? null : searcher.doc(hits[0].doc);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Construye la consulta para un dato a buscar, cada término del dato debe coincidir con el contacto
+     *
+     * @param dataToSearch Dato a buscar
+     * @return Consulta o null si el dato no tiene términos
+     */
+    private Query query(String dataToSearch) {
+        var terms = analyze(NOMBRE, dataToSearch);
+        var telefono = TELEFONO.matcher(dataToSearch).matches()
+                ? NOT_DIGITS.matcher(dataToSearch).replaceAll("")
+                : null;
+        if (terms.isEmpty() && telefono == null) {
+            return null;
+        }
+        var textQuery = new BooleanQuery.Builder();
+        for (var term : terms) {
+            textQuery.add(termQuery(term), BooleanClause.Occur.MUST);
+        }
+        if (telefono == null) {
+            return textQuery.build();
+        }
+        var telefonoQuery = new BoostQuery(new PrefixQuery(new Term(TELEFONOS, telefono)), TELEFONO_BOOST);
+        if (terms.isEmpty()) {
+            return telefonoQuery;
+        }
+        return new BooleanQuery.Builder()
+                .add(textQuery.build(), BooleanClause.Occur.SHOULD)
+                .add(telefonoQuery, BooleanClause.Occur.SHOULD)
+                .build();
+    }
+
+    /**
+     * Construye las alternativas para que un término coincida con el contacto
+     *
+     * @param term Término normalizado
+     * @return Consulta del término
+     */
+    private Query termQuery(String term) {
+        var query = new BooleanQuery.Builder();
+        for (var field : List.of(NOMBRE, APELLIDO)) {
+            query.add(new BoostQuery(new TermQuery(new Term(field, term)), TERM_BOOST), BooleanClause.Occur.SHOULD);
+            query.add(new BoostQuery(new PrefixQuery(new Term(field, term)), PREFIX_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        if (term.length() >= GRAM_SIZE) {
+            var grams = new BooleanQuery.Builder();
+            for (var gram : analyze(GRAMS, term)) {
+                grams.add(new TermQuery(new Term(GRAMS, gram)), BooleanClause.Occur.FILTER);
+            }
+            query.add(new BoostQuery(new ConstantScoreQuery(grams.build()), GRAMS_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        if (!NOT_DIGITS.matcher(term).find()) {
+            var telefono = new PrefixQuery(new Term(TELEFONOS, term));
+            query.add(new BoostQuery(telefono, TELEFONO_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    /**
+     * Divide un texto en los términos de un campo usando el analizador del índice
+     *
+     * @param field Campo del índice
+     * @param text Texto a analizar
+     * @return Términos sin repetir en el orden en que aparecen
+     */
+    private List<String> analyze(String field, String text) {
+        var terms = new ArrayList<String>();
+        try (var stream = analyzer.tokenStream(field, text)) {
+            var attribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                var term = attribute.toString();
+                if (!terms.contains(term)) {
+                    terms.add(term);
+                }
+            }
+            stream.end();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return terms;
+    }
+
+    /**
+     * Construye el documento de un contacto
+     *
+     * @param id Identificador del contacto
+     * @param nombre Nombre del contacto
+     * @param apellido Apellidos del contacto
+     * @param telefonos Números de teléfono del contacto
+     * @return Documento para el índice
+     */
+    private static Document document(Integer id, String nombre, String apellido, List<String> telefonos) {
+        var document = new Document();
+        document.add(new StringField(ID, id.toString(), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID, id));
+        document.add(new TextField(NOMBRE, nombre, Field.Store.YES));
+        document.add(new TextField(APELLIDO, apellido, Field.Store.YES));
+        document.add(new TextField(GRAMS, nombre, Field.Store.NO));
+        document.add(new TextField(GRAMS, apellido, Field.Store.NO));
+        for (var telefono : telefonos) {
+            var digits = NOT_DIGITS.matcher(telefono).replaceAll("");
+            if (!digits.isEmpty()) {
+                document.add(new StoredField(TELEFONOS, digits));
+                document.add(new StringField(TELEFONOS, digits, Field.Store.NO));
+                for (int i = 1; i + GRAM_SIZE <= digits.length(); i++) {
+                    document.add(new StringField(TELEFONOS, digits.substring(i), Field.Store.NO));
+                }
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Término que identifica el documento de un contacto
+     *
+     * @param id Identificador del contacto
+     * @return Término del identificador
+     */
+    private static Term idTerm(Integer id) {
+        return new Term(ID, id.toString());
+    }
+
+    /**
+     * Analizador de los textos de los contactos: separa las palabras, las pasa a minúsculas y les quita las tildes; el
+     * campo {@link #GRAMS} además se divide en trigramas
+     */
+    private static final class ContactoAnalyzer extends Analyzer {
+
+        private ContactoAnalyzer() {
+            super(PER_FIELD_REUSE_STRATEGY);
+        }
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            var tokenizer = new StandardTokenizer();
+            TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer));
+            if (GRAMS.equals(fieldName)) {
+                stream = new NGramTokenFilter(stream, GRAM_SIZE, GRAM_SIZE, false);
+            }
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+
+        @Override
+        protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
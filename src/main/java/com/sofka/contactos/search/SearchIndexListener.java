@@ -0,0 +1,135 @@
+package com.sofka.contactos.search;
+
+import com.sofka.contactos.event.ContactoEvent;
+import com.sofka.contactos.event.ExternalChangeEvent;
+import com.sofka.contactos.event.TelefonoEvent;
+import com.sofka.contactos.repository.TelefonoNumero;
+import com.sofka.contactos.repository.TelefonoRepository;
+import com.sofka.contactos.service.interfaces.ISearchEngine;
+import com.sofka.contactos.utility.BackgroundRebuild;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Mantiene el índice de búsqueda al día con los cambios de los contactos; los cambios de otras instancias se aplican
+ * reconstruyendo el índice en segundo plano
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Component
+public class SearchIndexListener {
+
+    /**
+     * Motor de búsqueda de contactos
+     */
+    @Autowired
+    private ISearchEngine searchEngine;
+
+    /**
+     * Repositorio de Telefono
+     */
+    @Autowired
+    private TelefonoRepository telefonoRepository;
+
+    /**
+     * Reconstrucción del índice en segundo plano
+     */
+    private final BackgroundRebuild backgroundRebuild = new BackgroundRebuild("search-index-rebuild", this::rebuild);
+
+    /**
+     * Construye el índice a partir de la base de datos una vez el sistema ha iniciado
+     *
+     * @since 1.1.0
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        searchEngine.rebuild();
+    }
+
+    /**
+     * Deja de usar el índice, para que la búsqueda en curso vaya a la base de datos, y lo reconstruye en segundo plano
+     * con los cambios confirmados por otra instancia
+     *
+     * @param event Evento de los cambios de otra instancia
+     *
+     * @since 1.1.0
+     */
+    @EventListener
+    public void onExternalChange(ExternalChangeEvent event) {
+        searchEngine.invalidate();
+        backgroundRebuild.request();
+    }
+
+    /**
+     * Aplica en el índice el cambio de un contacto una vez confirmada la transacción, antes de invalidar el cache para
+     * que una búsqueda no vuelva a guardar en el cache resultados anteriores al cambio
+     *
+     * @param event Evento del contacto
+     *
+     * @since 1.1.0
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContactoEvent(ContactoEvent event) {
+        switch (event.getType()) {
+            case CREATED:
+            case UPDATED:
+                searchEngine.index(event.getId(), event.getNombre(), event.getApellido(), event.getTelefonos());
+                break;
+            case DELETED:
+                searchEngine.remove(event.getId());
+                break;
+            case TELEFONOS_UPDATED:
+                indexTelefonos(event.getId());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Vuelve a indexar los teléfonos del contacto dueño de un teléfono actualizado una vez confirmada la transacción;
+     * el contacto solo se busca si el motor indexa los teléfonos
+     *
+     * @param event Evento del teléfono
+     *
+     * @since 1.1.0
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTelefonoEvent(TelefonoEvent event) {
+        if (searchEngine.indexesTelefonos()) {
+            telefonoRepository.findContactoIdById(event.getId()).ifPresent(this::indexTelefonos);
+        }
+    }
+
+    /**
+     * Vuelve a indexar los números de teléfono de un contacto si el motor los indexa
+     *
+     * @param id Identificador del contacto
+     */
+    private void indexTelefonos(Integer id) {
+        if (searchEngine.indexesTelefonos()) {
+            var telefonos = telefonoRepository.findNumeros(List.of(id)).stream()
+                    .map(TelefonoNumero::getTelefono)
+                    .collect(Collectors.toList());
+            searchEngine.index(id, null, null, telefonos);
+        }
+    }
+
+    /**
+     * Reconstruye el índice
+     */
+    private void rebuild() {
+        searchEngine.rebuild();
+    }
+}
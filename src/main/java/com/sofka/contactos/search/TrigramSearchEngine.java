@@ -0,0 +1,493 @@
+package com.sofka.contactos.search;
+
+import com.sofka.contactos.repository.ContactoNombre;
+import com.sofka.contactos.repository.ContactoRepository;
+import com.sofka.contactos.service.interfaces.ISearchEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.sofka.contactos.utility.Texto.normalize;
+
+/**
+ * Motor de búsqueda en memoria basado en un índice de trigramas sobre el nombre y los apellidos de los contactos
+ *
+ * Cada trigrama apunta a la lista ordenada de identificadores de los contactos que lo contienen, de forma que una
+ * búsqueda por prefijo, sufijo o contenido se resuelve intersectando las listas de los trigramas del dato buscado, sin
+ * consultar la base de datos. Es el motor por defecto, se usa cuando libreta.search.engine es trigram o no se indica
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "libreta.search.engine", havingValue = "trigram", matchIfMissing = true)
+public class TrigramSearchEngine implements ISearchEngine {
+
+    /**
+     * Tamaño de los n-gramas del índice
+     */
+    private static final int GRAM_SIZE = 3;
+
+    /**
+     * Cantidad de contactos leídos por consulta durante la reconstrucción del índice
+     */
+    private static final int REBUILD_CHUNK_SIZE = 5000;
+
+    /**
+     * Orden de relevancia de los resultados, del más relevante al menos relevante
+     */
+    private static final Comparator<Hit> BEST_FIRST = Comparator
+            .comparingInt((Hit hit) -> -hit.score)
+            .thenComparingInt(hit -> hit.entry.length())
+            .thenComparing(hit -> hit.entry.nombre)
+            .thenComparingInt(hit -> hit.id);
+
+    /**
+     * Repositorio de Contacto
+     */
+    @Autowired
+    private ContactoRepository contactoRepository;
+
+    /**
+     * Bloqueo para la lectura y escritura del índice
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Listas de identificadores de contactos por trigrama
+     */
+    private final Map<String, IntList> postings = new HashMap<>();
+
+    /**
+     * Datos normalizados de cada contacto indexado
+     */
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    /**
+     * Contactos modificados mientras se reconstruye el índice, estos no se sobrescriben con los datos leídos
+     */
+    private Set<Integer> touchedDuringRebuild;
+
+    /**
+     * Indica si el índice ya fue construido
+     */
+    private volatile boolean ready = false;
+
+    /**
+     * Cantidad de veces que se ha invalidado el índice, una reconstrucción solo deja el índice listo si no se invalidó
+     * mientras tanto
+     */
+    private long invalidations;
+
+    /**
+     * Agrega o actualiza un contacto en el índice
+     *
+     * @param id Identificador del contacto
+     * @param nombre Nombre del contacto, null para conservar el que ya está indexado
+     * @param apellido Apellidos del contacto, null para conservar los que ya están indexados
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void index(Integer id, String nombre, String apellido) {
+        lock.writeLock().lock();
+        try {
+            var old = entries.get(id);
+            var newNombre = nombre != null ? normalize(nombre) : old != null ? old.nombre : null;
+            var newApellido = apellido != null ? normalize(apellido) : old != null ? old.apellido : null;
+            if (newNombre == null || newApellido == null) {
+                return;
+            }
+            if (old != null) {
+                removeEntry(id, old);
+            }
+            addEntry(id, new Entry(newNombre, newApellido));
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Quita un contacto del índice
+     *
+     * @param id Identificador del contacto
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void remove(Integer id) {
+        lock.writeLock().lock();
+        try {
+            var old = entries.get(id);
+            if (old != null) {
+                removeEntry(id, old);
+            }
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca un dato entre el nombre y/o los apellidos de los contactos indexados
+     *
+     * Los resultados se ordenan por relevancia: coincidencia exacta, luego por prefijo, luego por sufijo y por último
+     * por contenido; entre iguales se prefiere el contacto con el nombre más corto
+     *
+     * @param dataToSearch Dato a buscar
+     * @param limit Cantidad máxima de resultados
+     * @return Identificadores de los contactos encontrados, del más relevante al menos relevante
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public List<Integer> search(String dataToSearch, int limit) {
+        var data = normalize(dataToSearch);
+        if (data.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        var heap = new PriorityQueue<Hit>(limit + 1, BEST_FIRST.reversed());
+        lock.readLock().lock();
+        try {
+            var candidates = data.length() >= GRAM_SIZE ? candidatesByGrams(data) : candidatesByKeys(data);
+            for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+                var entry = entries.get(id);
+                var score = entry == null ? 0 : entry.score(data);
+                if (score > 0) {
+                    heap.add(new Hit(id, score, entry));
+                    if (heap.size() > limit) {
+                        heap.poll();
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        var hits = new ArrayList<>(heap);
+        hits.sort(BEST_FIRST);
+        var answer = new ArrayList<Integer>(hits.size());
+        for (var hit : hits) {
+            answer.add(hit.id);
+        }
+        return answer;
+    }
+
+    /**
+     * Reconstruye el índice completo a partir de la base de datos
+     *
+     * Los contactos se leen por bloques ordenados por identificador; los cambios que llegan mientras tanto se aplican
+     * de inmediato y tienen prioridad sobre los datos leídos. Si el índice se invalida durante la reconstrucción no
+     * queda listo y se espera la siguiente
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public synchronized void rebuild() {
+        var start = System.currentTimeMillis();
+        long generation;
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            generation = invalidations;
+            postings.clear();
+            entries.clear();
+            touchedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        var afterId = 0;
+        List<ContactoNombre> chunk;
+        do {
+            chunk = contactoRepository.findNombres(afterId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (var contacto : chunk) {
+                    if (!touchedDuringRebuild.contains(contacto.getId())) {
+                        var entry = new Entry(normalize(contacto.getNombre()), normalize(contacto.getApellido()));
+                        addEntry(contacto.getId(), entry);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+        lock.writeLock().lock();
+        try {
+            touchedDuringRebuild = null;
+            ready = generation == invalidations;
+            log.info("Índice de búsqueda construido con {} contactos y {} trigramas en {} ms",
+                    entries.size(), postings.size(), System.currentTimeMillis() - start);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Deja de usar el índice hasta que termine la siguiente reconstrucción
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            invalidations++;
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indica si el índice ya fue construido y puede responder búsquedas
+     *
+     * @return true si el índice está listo
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Busca los candidatos para un dato de al menos tres caracteres intersectando las listas de sus trigramas,
+     * empezando por la lista más corta
+     *
+     * @param data Dato normalizado
+     * @return Identificadores de los candidatos
+     */
+    private BitSet candidatesByGrams(String data) {
+        var lists = new ArrayList<IntList>();
+        for (var gram : grams(data)) {
+            var list = postings.get(gram);
+            if (list == null) {
+                return new BitSet();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(IntList::size));
+        var smallest = lists.get(0);
+        var candidates = new BitSet();
+        for (int i = 0; i < smallest.size(); i++) {
+            var id = smallest.get(i);
+            var inAll = true;
+            for (int j = 1; j < lists.size() && inAll; j++) {
+                inAll = lists.get(j).contains(id);
+            }
+            if (inAll) {
+                candidates.set(id);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Busca los candidatos para un dato de menos de tres caracteres uniendo las listas de los trigramas que lo
+     * contienen; se recorren las llaves del índice, nunca la tabla de contactos
+     *
+     * @param data Dato normalizado
+     * @return Identificadores de los candidatos
+     */
+    private BitSet candidatesByKeys(String data) {
+        var candidates = new BitSet();
+        for (var posting : postings.entrySet()) {
+            if (posting.getKey().contains(data)) {
+                var list = posting.getValue();
+                for (int i = 0; i < list.size(); i++) {
+                    candidates.set(list.get(i));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Agrega los trigramas de un contacto al índice
+     *
+     * @param id Identificador del contacto
+     * @param entry Datos normalizados del contacto
+     */
+    private void addEntry(Integer id, Entry entry) {
+        entries.put(id, entry);
+        for (var gram : entry.grams()) {
+            postings.computeIfAbsent(gram, key -> new IntList()).add(id);
+        }
+    }
+
+    /**
+     * Quita los trigramas de un contacto del índice
+     *
+     * @param id Identificador del contacto
+     * @param entry Datos normalizados del contacto
+     */
+    private void removeEntry(Integer id, Entry entry) {
+        entries.remove(id);
+        for (var gram : entry.grams()) {
+            var list = postings.get(gram);
+            if (list != null && list.remove(id) && list.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Calcula los trigramas de un texto, si el texto es más corto que un trigrama se usa el texto completo
+     *
+     * @param text Texto normalizado
+     * @return Trigramas sin repetir
+     */
+    private static Set<String> grams(String text) {
+        var grams = new LinkedHashSet<String>();
+        if (text.length() < GRAM_SIZE) {
+            if (!text.isEmpty()) {
+                grams.add(text);
+            }
+            return grams;
+        }
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * Datos normalizados de un contacto indexado
+     */
+    private static final class Entry {
+
+        private final String nombre;
+
+        private final String apellido;
+
+        private Entry(String nombre, String apellido) {
+            this.nombre = nombre;
+            this.apellido = apellido;
+        }
+
+        private int length() {
+            return nombre.length() + apellido.length();
+        }
+
+        private Set<String> grams() {
+            var grams = TrigramSearchEngine.grams(nombre);
+            grams.addAll(TrigramSearchEngine.grams(apellido));
+            return grams;
+        }
+
+        private int score(String data) {
+            return Math.max(score(nombre, data), score(apellido, data));
+        }
+
+        private static int score(String field, String data) {
+            if (field.equals(data)) {
+                return 4;
+            } else if (field.startsWith(data)) {
+                return 3;
+            } else if (field.endsWith(data)) {
+                return 2;
+            } else if (field.contains(data)) {
+                return 1;
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Resultado de una búsqueda con su puntaje
+     */
+    private static final class Hit {
+
+        private final int id;
+
+        private final int score;
+
+        private final Entry entry;
+
+        private Hit(int id, int score, Entry entry) {
+            this.id = id;
+            this.score = score;
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * Lista ordenada de enteros sin repetir, guardada en un arreglo primitivo para no crear un objeto por cada
+     * identificador indexado
+     */
+    static final class IntList {
+
+        private int[] values = new int[4];
+
+        private int size = 0;
+
+        int size() {
+            return size;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        void add(int value) {
+            if (size > 0 && values[size - 1] < value) {
+                ensureCapacity();
+                values[size++] = value;
+                return;
+            }
+            var position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            ensureCapacity();
+            System.arraycopy(values, position, values, position + 1, size - position);
+            values[position] = value;
+            size++;
+        }
+
+        boolean remove(int value) {
+            var position = Arrays.binarySearch(values, 0, size, value);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        private void ensureCapacity() {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size + (size >> 1) + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.sofka.contactos.service;
+
+import com.sofka.contactos.batch.BatchOperation;
+import com.sofka.contactos.batch.BatchOperationException;
+import com.sofka.contactos.batch.BatchOperationType;
+import com.sofka.contactos.batch.BatchResult;
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.domain.Telefono;
+import com.sofka.contactos.service.interfaces.IBatch;
+import com.sofka.contactos.service.interfaces.ILibreta;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Clase tipo Servicio para ejecutar lotes de operaciones de la libreta
+ *
+ * Las operaciones se ejecutan en orden con los métodos de {@link ILibreta}, todas en una sola transacción o, si se
+ * configura libreta.batch.chunk-size, en bloques de ese tamaño cada uno en su propia transacción. Las actualizaciones
+ * consecutivas del mismo tipo (nombre, apellidos o número de teléfono) se envían juntas en una sola sentencia en lote.
+ * Si una operación falla se deshace su bloque completo y las operaciones siguientes no se ejecutan; los bloques
+ * anteriores quedan confirmados
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Slf4j
+@Service
+public class BatchService implements IBatch {
+
+    /**
+     * Servicio para el manejo de la libreta
+     */
+    @Autowired
+    private ILibreta libreta;
+
+    /**
+     * Administrador de entidades, se sincroniza después de cada operación individual para que sus errores se
+     * atribuyan a ella y no aparezcan al confirmar el bloque
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Cantidad de operaciones por transacción, 0 para ejecutar todo el lote en una sola transacción
+     */
+    @Value("${libreta.batch.chunk-size:0}")
+    private int chunkSize;
+
+    /**
+     * Cantidad máxima de operaciones por lote
+     */
+    @Value("${libreta.batch.max-operations:1000}")
+    private int maxOperations;
+
+    /**
+     * Plantilla para ejecutar cada bloque en su propia transacción
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param transactionManager Administrador de transacciones
+     *
+     * @since 1.1.0
+     */
+    public BatchService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Ejecuta en orden las operaciones de un lote
+     *
+     * @param operations Operaciones a ejecutar
+     * @return Resultado de cada operación, en el mismo orden; las operaciones deshechas o no ejecutadas por la falla
+     *         de otra operación responden con 424
+     * @throws IllegalArgumentException si el lote está vacío, es demasiado grande o alguna operación está incompleta
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public List<BatchResult> execute(List<BatchOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("El lote no tiene operaciones");
+        }
+        if (operations.size() > maxOperations) {
+            throw new IllegalArgumentException("El lote no puede tener más de " + maxOperations + " operaciones");
+        }
+        for (int i = 0; i < operations.size(); i++) {
+            validate(i, operations.get(i));
+        }
+        var results = new BatchResult[operations.size()];
+        var size = chunkSize > 0 ? chunkSize : operations.size();
+        for (int from = 0; from < operations.size(); from += size) {
+            var start = from;
+            var end = Math.min(from + size, operations.size());
+            try {
+                transactionTemplate.executeWithoutResult(status -> run(operations, start, end, results));
+            } catch (BatchOperationException exception) {
+                log.warn("La operación {} del lote falló, se deshacen las operaciones {} a {}: {}",
+                        exception.getIndex(), start, end - 1, exception.getMessage());
+                fail(results, start, exception);
+                break;
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Ejecuta las operaciones de un bloque dentro de la transacción actual
+     *
+     * @param operations Operaciones del lote
+     * @param start Posición de la primera operación del bloque
+     * @param end Posición siguiente a la última operación del bloque
+     * @param results Resultados de las operaciones
+     * @throws BatchOperationException si alguna operación falla
+     */
+    private void run(List<BatchOperation> operations, int start, int end, BatchResult[] results) {
+        var i = start;
+        while (i < end) {
+            var type = operations.get(i).op;
+            var last = i + 1;
+            if (type.isGroupable()) {
+                while (last < end && operations.get(last).op == type) {
+                    last++;
+                }
+            }
+            try {
+                if (type.isGroupable()) {
+                    runGroup(type, operations, i, last, results);
+                } else {
+                    results[i] = runOne(i, operations.get(i));
+                    entityManager.flush();
+                }
+            } catch (RuntimeException exception) {
+                throw new BatchOperationException(i, exception);
+            }
+            i = last;
+        }
+    }
+
+    /**
+     * Ejecuta una operación individual
+     *
+     * @param index Posición de la operación en el lote
+     * @param operation Operación
+     * @return Resultado de la operación
+     */
+    private BatchResult runOne(int index, BatchOperation operation) {
+        switch (operation.op) {
+            case CREATE_CONTACT:
+                return ok(index, HttpStatus.CREATED, libreta.createContacto(operation.contacto));
+            case UPDATE_CONTACT:
+                var actualizado = libreta.updateContacto(operation.id, operation.contacto);
+                return actualizado == null
+                        ? notFound(index, "El contacto no existe")
+                        : ok(index, HttpStatus.OK, actualizado);
+            case DELETE_CONTACT:
+                return libreta.deleteContacto(operation.id)
+                        ? ok(index, HttpStatus.OK, null)
+                        : notFound(index, "El contacto no existe");
+            case CREATE_PHONE:
+                return ok(index, HttpStatus.CREATED, libreta.createTelefono(operation.telefono));
+            case UPDATE_PHONE:
+                var telefonoActualizado = libreta.updateTelefono(operation.id, operation.telefono);
+                return telefonoActualizado == null
+                        ? notFound(index, "El telefono no existe")
+                        : ok(index, HttpStatus.OK, telefonoActualizado);
+            case DELETE_PHONE:
+                var telefono = libreta.deleteTelefono(operation.id);
+                return telefono == null
+                        ? notFound(index, "El telefono no existe")
+                        : ok(index, HttpStatus.OK, telefono);
+            default:
+                throw new IllegalStateException("Operación no soportada: " + operation.op);
+        }
+    }
+
+    /**
+     * Ejecuta un grupo de actualizaciones consecutivas del mismo tipo en una sola sentencia en lote
+     *
+     * @param type Tipo de las operaciones
+     * @param operations Operaciones del lote
+     * @param start Posición de la primera operación del grupo
+     * @param end Posición siguiente a la última operación del grupo
+     * @param results Resultados de las operaciones
+     */
+    private void runGroup(
+            BatchOperationType type,
+            List<BatchOperation> operations,
+            int start,
+            int end,
+            BatchResult[] results
+    ) {
+        int[] counts;
+        String notFound;
+        var items = new ArrayList<Object>(end - start);
+        if (type == BatchOperationType.UPDATE_PHONE_NUMBER) {
+            var telefonos = new ArrayList<Telefono>(end - start);
+            for (int i = start; i < end; i++) {
+                var operation = operations.get(i);
+                operation.telefono.setId(operation.id);
+                telefonos.add(operation.telefono);
+            }
+            counts = libreta.updateOnlyTelefonos(telefonos);
+            notFound = "El telefono no existe";
+            items.addAll(telefonos);
+        } else {
+            var contactos = new ArrayList<Contacto>(end - start);
+            for (int i = start; i < end; i++) {
+                var operation = operations.get(i);
+                operation.contacto.setId(operation.id);
+                contactos.add(operation.contacto);
+            }
+            counts = type == BatchOperationType.UPDATE_NAME
+                    ? libreta.updateNombres(contactos)
+                    : libreta.updateApellidos(contactos);
+            notFound = "El contacto no existe";
+            items.addAll(contactos);
+        }
+        for (int i = start; i < end; i++) {
+            results[i] = counts[i - start] == 0
+                    ? notFound(i, notFound)
+                    : ok(i, HttpStatus.OK, items.get(i - start));
+        }
+    }
+
+    /**
+     * Marca como fallidas las operaciones desde el bloque deshecho hasta el final del lote
+     *
+     * @param results Resultados de las operaciones
+     * @param start Posición de la primera operación del bloque deshecho
+     * @param exception Falla de la operación
+     */
+    private static void fail(BatchResult[] results, int start, BatchOperationException exception) {
+        var cause = exception.getCause();
+        HttpStatus status;
+        if (cause instanceof OptimisticLockingFailureException) {
+            status = HttpStatus.CONFLICT;
+        } else if (cause instanceof IllegalArgumentException || cause instanceof DataIntegrityViolationException) {
+            status = HttpStatus.BAD_REQUEST;
+        } else {
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+        var message = "No se aplicó porque la operación " + exception.getIndex() + " falló";
+        for (int i = start; i < results.length; i++) {
+            results[i] = i == exception.getIndex()
+                    ? new BatchResult(i, status.value(), exception.getMessage(), null)
+                    : new BatchResult(i, HttpStatus.FAILED_DEPENDENCY.value(), message, null);
+        }
+    }
+
+    /**
+     * Valida que una operación tenga los datos que requiere su tipo
+     *
+     * @param index Posición de la operación en el lote
+     * @param operation Operación
+     * @throws IllegalArgumentException si falta algún dato
+     */
+    private static void validate(int index, BatchOperation operation) {
+        if (operation == null || operation.op == null) {
+            throw new IllegalArgumentException("La operación " + index + " no indica su tipo");
+        }
+        var type = operation.op;
+        if (type != BatchOperationType.CREATE_CONTACT && type != BatchOperationType.CREATE_PHONE
+                && operation.id == null) {
+            throw new IllegalArgumentException("La operación " + index + " requiere el campo id");
+        }
+        switch (type) {
+            case CREATE_CONTACT:
+            case UPDATE_CONTACT:
+            case UPDATE_NAME:
+            case UPDATE_LASTNAME:
+                if (operation.contacto == null) {
+                    throw new IllegalArgumentException("La operación " + index + " requiere el campo contacto");
+                }
+                break;
+            case CREATE_PHONE:
+            case UPDATE_PHONE:
+            case UPDATE_PHONE_NUMBER:
+                if (operation.telefono == null) {
+                    throw new IllegalArgumentException("La operación " + index + " requiere el campo telefono");
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Resultado exitoso de una operación
+     *
+     * @param index Posición de la operación en el lote
+     * @param status Código HTTP de la operación
+     * @param data Contacto o teléfono resultante
+     * @return Resultado de la operación
+     */
+    private static BatchResult ok(int index, HttpStatus status, Object data) {
+        return new BatchResult(index, status.value(), "", data);
+    }
+
+    /**
+     * Resultado de una operación sobre un contacto o teléfono que no existe
+     *
+     * @param index Posición de la operación en el lote
+     * @param message Mensaje de la operación
+     * @return Resultado de la operación
+     */
+    private static BatchResult notFound(int index, String message) {
+        return new BatchResult(index, HttpStatus.NOT_FOUND.value(), message, null);
+    }
+}
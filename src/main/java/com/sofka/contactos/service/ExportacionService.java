@@ -0,0 +1,118 @@
+package com.sofka.contactos.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.exportacion.ContactoWriter;
+import com.sofka.contactos.exportacion.ExportFormat;
+import com.sofka.contactos.repository.ContactoRepository;
+import com.sofka.contactos.service.interfaces.IExportacion;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Clase tipo Servicio para la exportación masiva de contactos
+ *
+ * Los contactos se leen con un cursor del lado de la base de datos y se escriben por bloques de {@link #CHUNK_SIZE};
+ * los teléfonos de cada bloque se cargan en una sola consulta y el contexto de persistencia se limpia después de
+ * escribir el bloque, de forma que la memoria usada no depende del tamaño del libro de contactos
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Service
+public class ExportacionService implements IExportacion {
+
+    /**
+     * Cantidad de contactos que se escriben antes de limpiar el contexto de persistencia
+     */
+    public static final int CHUNK_SIZE = ContactoRepository.STREAM_FETCH_SIZE;
+
+    /**
+     * Administrador de entidades
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Repositorio de Contacto
+     */
+    @Autowired
+    private ContactoRepository contactoRepository;
+
+    /**
+     * Serializador JSON
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Exporta todos los contactos y sus teléfonos escribiéndolos en la salida a medida que se leen
+     *
+     * @param output Salida donde se escriben los contactos
+     * @param format Formato de la exportación
+     * @return Cantidad de contactos exportados
+     * @throws IOException si no es posible escribir en la salida
+     *
+     * @since 1.1.0
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportar(OutputStream output, ExportFormat format) throws IOException {
+        var writer = format.open(
+                new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)), objectMapper
+        );
+        var chunk = new ArrayList<Contacto>(CHUNK_SIZE);
+        long total = 0;
+        try (var contactos = contactoRepository.streamAll()) {
+            var iterator = contactos.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    total += writeChunk(chunk, writer);
+                }
+            }
+        }
+        total += writeChunk(chunk, writer);
+        writer.flush();
+        return total;
+    }
+
+    /**
+     * Escribe un bloque de contactos, cargando sus teléfonos en una sola consulta, y luego los libera del contexto de
+     * persistencia
+     *
+     * @param chunk Bloque de contactos, queda vacío al terminar
+     * @param writer Escritor de contactos
+     * @return Cantidad de contactos escritos
+     * @throws IOException si no es posible escribir en la salida
+     *
+     * @since 1.1.0
+     */
+    private int writeChunk(List<Contacto> chunk, ContactoWriter writer) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        // Inicializar una colección carga las de todo el bloque gracias a @BatchSize
+        Hibernate.initialize(chunk.get(0).getTelefonos());
+        for (var contacto : chunk) {
+            writer.write(contacto);
+        }
+        writer.flush();
+        var size = chunk.size();
+        chunk.clear();
+        entityManager.clear();
+        return size;
+    }
+}
@@ -0,0 +1,271 @@
+package com.sofka.contactos.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.domain.Telefono;
+import com.sofka.contactos.event.ContactoEvent;
+import com.sofka.contactos.importacion.ImportError;
+import com.sofka.contactos.importacion.ImportFormat;
+import com.sofka.contactos.importacion.ImportResult;
+import com.sofka.contactos.importacion.ImportRow;
+import com.sofka.contactos.importacion.ImportRowException;
+import com.sofka.contactos.service.interfaces.IImportacion;
+import com.sofka.contactos.utility.NumeroTelefono;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Clase tipo Servicio para la importación masiva de contactos
+ *
+ * El archivo se lee fila por fila y se guarda por bloques de {@link #CHUNK_SIZE} filas, cada bloque en su propia
+ * transacción y con los INSERT agrupados en lotes JDBC; el contexto de persistencia se limpia después de cada bloque
+ * para que la memoria usada no dependa del tamaño del archivo
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Slf4j
+@Service
+public class ImportacionService implements IImportacion {
+
+    /**
+     * Cantidad de filas que se guardan en cada transacción
+     */
+    public static final int CHUNK_SIZE = 1000;
+
+    /**
+     * Cantidad máxima de errores que se reportan en el resumen, los demás solo se cuentan
+     */
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    /**
+     * Longitud máxima del nombre y los apellidos de un contacto
+     */
+    private static final int MAX_NOMBRE_LENGTH = 100;
+
+    /**
+     * Longitud máxima de un número de teléfono
+     */
+    private static final int MAX_TELEFONO_LENGTH = 30;
+
+    /**
+     * Administrador de entidades
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Serializador JSON
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Publicador de los eventos de cambio de los contactos
+     */
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Plantilla para ejecutar cada bloque en su propia transacción
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param transactionManager Administrador de transacciones
+     *
+     * @since 1.1.0
+     */
+    public ImportacionService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Importa los contactos y sus teléfonos leyendo el archivo fila por fila
+     *
+     * Las filas inválidas se reportan y se omiten sin detener la importación. Si un bloque falla al guardarse, se
+     * vuelve a intentar fila por fila para aislar las filas que causan el error
+     *
+     * @param input Contenido del archivo
+     * @param format Formato del archivo
+     * @return Resumen de la importación con los errores por fila
+     * @throws IOException si no es posible leer el archivo
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public ImportResult importar(InputStream input, ImportFormat format) throws IOException {
+        var start = System.currentTimeMillis();
+        var progress = new Progress();
+        var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        var rows = format.open(reader, objectMapper);
+        var chunk = new ArrayList<ImportRow>(CHUNK_SIZE);
+        while (true) {
+            ImportRow row;
+            try {
+                row = rows.next();
+            } catch (ImportRowException exception) {
+                progress.total++;
+                progress.fail(exception.getLine(), exception.getMessage());
+                continue;
+            }
+            if (row == null) {
+                break;
+            }
+            progress.total++;
+            var error = validate(row);
+            if (error != null) {
+                progress.fail(row.line, error);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == CHUNK_SIZE) {
+                save(chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            save(chunk, progress);
+        }
+        log.info("Importación terminada: {} filas, {} contactos, {} teléfonos, {} errores en {} ms",
+                progress.total, progress.imported, progress.telefonos, progress.failed,
+                System.currentTimeMillis() - start);
+        return new ImportResult(progress.total, progress.imported, progress.telefonos, progress.failed, progress.errors);
+    }
+
+    /**
+     * Guarda un bloque de filas en una sola transacción; si falla, guarda cada fila en su propia transacción
+     *
+     * @param chunk Filas a guardar
+     * @param progress Avance de la importación
+     */
+    private void save(List<ImportRow> chunk, Progress progress) {
+        try {
+            progress.telefonos += transactionTemplate.execute(status -> persist(chunk));
+            progress.imported += chunk.size();
+        } catch (RuntimeException chunkException) {
+            log.warn("El bloque de importación falló, se reintenta fila por fila: {}", chunkException.getMessage());
+            for (var row : chunk) {
+                try {
+                    progress.telefonos += transactionTemplate.execute(status -> persist(List.of(row)));
+                    progress.imported++;
+                } catch (RuntimeException rowException) {
+                    progress.fail(row.line, rowException.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Persiste los contactos y teléfonos de un bloque de filas dentro de la transacción actual
+     *
+     * @param rows Filas a guardar
+     * @return Cantidad de teléfonos guardados
+     */
+    private int persist(List<ImportRow> rows) {
+        var now = Instant.now();
+        var contactos = new ArrayList<Contacto>(rows.size());
+        var numeros = new ArrayList<List<String>>(rows.size());
+        var telefonos = 0;
+        for (var row : rows) {
+            var contacto = new Contacto();
+            contacto.setNombre(row.nombre.trim());
+            contacto.setApellido(row.apellido.trim());
+            contacto.setCreatedAt(now);
+            contacto.setUpdatedAt(now);
+            entityManager.persist(contacto);
+            var numerosContacto = new ArrayList<String>(row.telefonos.size());
+            for (var numero : row.telefonos) {
+                var telefono = new Telefono();
+                telefono.setContacto(contacto);
+                telefono.setTelefono(numero.trim());
+                telefono.setNumeroNormalizado(NumeroTelefono.normalize(telefono.getTelefono()));
+                telefono.setCreatedAt(now);
+                entityManager.persist(telefono);
+                numerosContacto.add(telefono.getTelefono());
+                telefonos++;
+            }
+            contactos.add(contacto);
+            numeros.add(numerosContacto);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        for (int i = 0; i < contactos.size(); i++) {
+            var contacto = contactos.get(i);
+            eventPublisher.publishEvent(ContactoEvent.created(
+                    contacto.getId(), contacto.getNombre(), contacto.getApellido(), numeros.get(i)
+            ));
+        }
+        return telefonos;
+    }
+
+    /**
+     * Valida una fila antes de guardarla
+     *
+     * @param row Fila a validar
+     * @return Descripción del error o null si la fila es válida
+     */
+    private static String validate(ImportRow row) {
+        if (row.nombre == null || row.nombre.isBlank()) {
+            return "El nombre es obligatorio";
+        }
+        if (row.nombre.trim().length() > MAX_NOMBRE_LENGTH) {
+            return "El nombre supera los " + MAX_NOMBRE_LENGTH + " caracteres";
+        }
+        if (row.apellido == null || row.apellido.isBlank()) {
+            return "El apellido es obligatorio";
+        }
+        if (row.apellido.trim().length() > MAX_NOMBRE_LENGTH) {
+            return "El apellido supera los " + MAX_NOMBRE_LENGTH + " caracteres";
+        }
+        for (var telefono : row.telefonos) {
+            if (telefono == null || telefono.isBlank()) {
+                return "Los teléfonos no pueden estar vacíos";
+            }
+            if (telefono.trim().length() > MAX_TELEFONO_LENGTH) {
+                return "El teléfono " + telefono + " supera los " + MAX_TELEFONO_LENGTH + " caracteres";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Avance de una importación
+     */
+    private static final class Progress {
+
+        private long total = 0;
+
+        private long imported = 0;
+
+        private long telefonos = 0;
+
+        private long failed = 0;
+
+        private final List<ImportError> errors = new ArrayList<>();
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportError(line, message));
+            }
+        }
+    }
+}
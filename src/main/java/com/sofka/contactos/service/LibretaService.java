@@ -1,30 +1,80 @@
 package com.sofka.contactos.service;
 
+import com.sofka.contactos.batch.BulkDeleteResult;
+import com.sofka.contactos.config.CacheConfig;
+import com.sofka.contactos.config.MetricsConfig;
+import com.sofka.contactos.datasource.DataSourceRouting;
+import com.sofka.contactos.datasource.RecentWrites;
 import com.sofka.contactos.domain.Contacto;
 import com.sofka.contactos.domain.Telefono;
+import com.sofka.contactos.event.ContactoEvent;
+import com.sofka.contactos.event.TelefonoEvent;
 import com.sofka.contactos.repository.ContactoRepository;
+import com.sofka.contactos.repository.ContactoSortField;
 import com.sofka.contactos.repository.TelefonoRepository;
 import com.sofka.contactos.service.interfaces.ILibreta;
+import com.sofka.contactos.service.interfaces.ISearchEngine;
+import com.sofka.contactos.sortedview.SortedViews;
+import com.sofka.contactos.utility.Cursor;
+import com.sofka.contactos.utility.KeysetPage;
+import com.sofka.contactos.utility.NumeroTelefono;
+import io.micrometer.core.annotation.Timed;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Clase tipo Servicio para el manejo de la libreta
  *
+ * Cada método público se mide con el timer {@link MetricsConfig#SERVICE_TIMER}, etiquetado por nombre de método
+ *
  * @version 1.0.0 2022-03-20
  * @author Julian Lasso <julian.lasso@sofka.com.co>
  * @since 1.0.0
  */
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, description = "Tiempo de ejecución de los métodos de la libreta")
 public class LibretaService implements ILibreta {
 
+    /**
+     * Cantidad de contactos por página cuando no se indica
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Cantidad máxima de contactos por página
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * Cantidad máxima de identificadores por sentencia en los borrados masivos
+     */
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    /**
+     * Mensaje para los cursores de una vista ordenada que se está reconstruyendo
+     */
+    private static final String VIEW_NOT_READY =
+            "El cursor es de una vista ordenada que se está reconstruyendo, vuelva a pedir la primera página";
+
+    /**
+     * Campo usado para ordenar por el identificador del contacto
+     */
+    private static final String ID_FIELD = "id";
+
     /**
      * Repositorio de Contacto
      */
@@ -37,6 +87,30 @@ public class LibretaService implements ILibreta {
     @Autowired
     private TelefonoRepository telefonoRepository;
 
+    /**
+     * Motor de búsqueda de contactos
+     */
+    @Autowired
+    private ISearchEngine searchEngine;
+
+    /**
+     * Vistas ordenadas de los contactos
+     */
+    @Autowired
+    private SortedViews sortedViews;
+
+    /**
+     * Publicador de los eventos de cambio de los contactos
+     */
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Registro de los contactos escritos recientemente, solo existe si las lecturas se envían a réplicas
+     */
+    @Autowired(required = false)
+    private RecentWrites recentWrites;
+
     /**
      * Devuelve una lista de Contactos con todos contactos del sistema
      *
@@ -55,9 +129,10 @@ public class LibretaService implements ILibreta {
      * Devuelve una lista de Contactos con todos contactos del sistema ordenados por el campo indicado ya sea ascendente
      * o descendete
      *
-     * @param field campo por el cual ordenar
+     * @param field campo por el cual ordenar, o varios separados por comas
      * @param order método de ordenado ASC o DESC
      * @return Lista de contactos
+     * @throws IllegalArgumentException si algún campo no es válido
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
@@ -65,29 +140,198 @@ public class LibretaService implements ILibreta {
     @Override
     @Transactional(readOnly = true)
     public List<Contacto> getList(String field, Sort.Direction order) {
-        return contactoRepository.findAll(Sort.by(order, field));
+        var sort = Sort.by(order, ID_FIELD);
+        if (!ID_FIELD.equals(field)) {
+            var attributes = ContactoSortField.fromAttributes(field).stream()
+                    .map(ContactoSortField::getAttribute)
+                    .toArray(String[]::new);
+            sort = Sort.by(order, attributes).and(sort);
+        }
+        return contactoRepository.findAll(sort);
+    }
+
+    /**
+     * Devuelve un contacto basado en su identificador; si el contacto fue escrito hace poco y las lecturas se envían a
+     * réplicas, se lee en la base de datos principal
+     *
+     * @param id Identificador del contacto
+     * @param withTelefonos Indica si se deben cargar los teléfonos del contacto
+     * @return Objeto del contacto o null si no existe
+     *
+     * @since 1.1.0
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.CONTACTOS, unless = "!@libretaVersion.isCurrent()")
+    @Transactional(readOnly = true)
+    public Contacto getContacto(Integer id, boolean withTelefonos) {
+        if (recentWrites != null && recentWrites.contains(id)) {
+            return DataSourceRouting.onPrimary(() -> findContacto(id, withTelefonos));
+        }
+        return findContacto(id, withTelefonos);
+    }
+
+    /**
+     * Devuelve una página de contactos ordenados por su identificador
+     *
+     * @param cursor Cursor devuelto por la página anterior, null para la primera página
+     * @param size Cantidad de contactos por página, null para usar el valor por defecto
+     * @param withTelefonos Indica si se deben cargar los teléfonos de los contactos
+     * @return Página de contactos con el cursor de la siguiente página
+     *
+     * @since 1.1.0
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Contacto> getPage(String cursor, Integer size, boolean withTelefonos) {
+        return getPage(ID_FIELD, Sort.Direction.ASC, cursor, size, withTelefonos);
+    }
+
+    /**
+     * Devuelve una página de contactos ordenados por uno o varios campos ya sea ascendente o descendente
+     *
+     * Se pide un contacto adicional al tamaño de la página para saber si existe una página siguiente sin necesidad
+     * de contar las tuplas de la tabla. Cuando hay una vista ordenada lista para los campos solicitados, los
+     * identificadores de la página se toman de la vista y solo se leen esos contactos; si no, la página se lee con el
+     * índice de la base de datos. Los teléfonos, cuando se solicitan, se cargan por bloques con una consulta
+     * adicional para toda la página
+     *
+     * El cursor indica de qué origen salió la página y las siguientes salen del mismo, porque la vista y la collation
+     * de la base de datos no ordenan los textos exactamente igual: un recorrido que empezó en la base de datos sigue en
+     * ella aunque la vista ya esté lista, y el cursor de una vista que se está reconstruyendo se rechaza
+     *
+     * @param field campo por el cual ordenar, o varios separados por comas, por ejemplo apellido,nombre
+     * @param order método de ordenado ASC o DESC
+     * @param cursor Cursor devuelto por la página anterior, null para la primera página
+     * @param size Cantidad de contactos por página, null para usar el valor por defecto
+     * @param withTelefonos Indica si se deben cargar los teléfonos de los contactos
+     * @return Página de contactos con el cursor de la siguiente página
+     * @throws IllegalArgumentException si el campo, el tamaño o el cursor no son válidos, o si el cursor es de una
+     *         vista que se está reconstruyendo
+     *
+     * @since 1.1.0
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Contacto> getPage(
+            String field,
+            Sort.Direction order,
+            String cursor,
+            Integer size,
+            boolean withTelefonos
+    ) {
+        var fields = ID_FIELD.equals(field)
+                ? List.<ContactoSortField>of()
+                : ContactoSortField.fromAttributes(field);
+        var limit = getPageSize(size);
+        var source = sortedViews.isReady() && sortedViews.hasView(fields)
+                ? Cursor.Source.VIEW
+                : Cursor.Source.DATABASE;
+        List<Object> afterValues = null;
+        Integer afterId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            var decoded = Cursor.decode(cursor);
+            if (!decoded.orderBy.equals(field) || decoded.order != order || decoded.values.size() != fields.size()) {
+                throw new IllegalArgumentException("El cursor no corresponde al ordenamiento solicitado");
+            }
+            if (decoded.source == Cursor.Source.VIEW && source != Cursor.Source.VIEW) {
+                throw new IllegalArgumentException(VIEW_NOT_READY);
+            }
+            source = decoded.source;
+            afterValues = new ArrayList<>(fields.size());
+            for (int i = 0; i < fields.size(); i++) {
+                afterValues.add(fields.get(i).parse(decoded.values.get(i)));
+            }
+            afterId = decoded.id;
+        }
+        List<Integer> ids = null;
+        if (source == Cursor.Source.VIEW) {
+            ids = sortedViews.page(fields, order, afterValues, afterId, limit + 1);
+            if (ids == null && afterId != null) {
+                throw new IllegalArgumentException(VIEW_NOT_READY);
+            }
+        }
+        List<Contacto> contactos;
+        boolean hasNext;
+        if (ids != null) {
+            hasNext = ids.size() > limit;
+            contactos = findInOrder(hasNext ? ids.subList(0, limit) : ids, withTelefonos);
+        } else {
+            source = Cursor.Source.DATABASE;
+            contactos = contactoRepository.findPage(fields, order, afterValues, afterId, limit + 1);
+            hasNext = contactos.size() > limit;
+            if (hasNext) {
+                contactos = new ArrayList<>(contactos.subList(0, limit));
+            }
+        }
+        String nextCursor = null;
+        if (hasNext && !contactos.isEmpty()) {
+            var last = contactos.get(contactos.size() - 1);
+            var values = new ArrayList<String>(fields.size());
+            for (var sortField : fields) {
+                values.add(String.valueOf(sortField.valueOf(last)));
+            }
+            nextCursor = new Cursor(field, order, values, last.getId(), source).encode();
+        }
+        if (withTelefonos) {
+            initializeTelefonos(contactos);
+        }
+        return new KeysetPage<>(contactos, limit, nextCursor);
     }
 
     /**
      * Busca un dato entre el nombre o los apellidos en un contacto
      *
+     * La búsqueda se resuelve con el motor de búsqueda configurado en una sola consulta al índice; mientras el índice
+     * se construye al iniciar el sistema se consulta directamente la base de datos
+     *
      * @param dataToSearch Dato a buscar
-     * @return Lita de contactos
+     * @param limit Cantidad máxima de contactos a devolver, null para usar el valor por defecto
+     * @param withTelefonos Indica si se deben cargar los teléfonos de los contactos
+     * @return Lita de contactos ordenada por relevancia
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Contacto> searchContacto(String dataToSearch) {
-        var contacto1 = contactoRepository.findByNombreOrApellidoStartingWith(dataToSearch);
-        var contacto2 = contactoRepository.findByNombreOrApellidoContains(dataToSearch);
-        var contacto3 = contactoRepository.findByNombreOrApellidoEndingWith(dataToSearch);
-        var answer = new HashSet<Contacto>();
-        answer.addAll(contacto1);
-        answer.addAll(contacto2);
-        answer.addAll(contacto3);
-        return answer.stream().collect(Collectors.toList());
+    public List<Contacto> searchContacto(String dataToSearch, Integer limit, boolean withTelefonos) {
+        var size = getPageSize(limit);
+        if (!searchEngine.isReady()) {
+            var contactos = contactoRepository.findByNombreOrApellidoContains(dataToSearch, PageRequest.of(0, size));
+            if (withTelefonos) {
+                initializeTelefonos(contactos);
+            }
+            return contactos;
+        }
+        return findInOrder(searchEngine.search(dataToSearch, size), withTelefonos);
+    }
+
+    /**
+     * Devuelve el contacto dueño de un número de teléfono con una sola consulta sobre el número normalizado; si varios
+     * contactos tienen el mismo número se devuelve el primero que lo registró
+     *
+     * @param numero Número de teléfono, con o sin espacios, signos y separadores
+     * @param withTelefonos Indica si se deben cargar los teléfonos del contacto
+     * @return Objeto del contacto o null si ningún contacto tiene el número
+     * @throws IllegalArgumentException si el número no tiene dígitos
+     *
+     * @since 1.1.0
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Contacto getContactoByTelefono(String numero, boolean withTelefonos) {
+        var numeroNormalizado = NumeroTelefono.normalize(numero);
+        if (numeroNormalizado == null || numeroNormalizado.isEmpty()) {
+            throw new IllegalArgumentException("El número de teléfono debe tener al menos un dígito");
+        }
+        var contactos = telefonoRepository.findContactosByNumeroNormalizado(numeroNormalizado, PageRequest.of(0, 1));
+        if (contactos.isEmpty()) {
+            return null;
+        }
+        if (withTelefonos) {
+            initializeTelefonos(contactos);
+        }
+        return contactos.get(0);
     }
 
     /**
@@ -103,7 +347,10 @@ public class LibretaService implements ILibreta {
     @Transactional
     public Contacto createContacto(Contacto contacto) {
         contacto.setCreatedAt(Instant.now());
-        return contactoRepository.save(contacto);
+        contacto.setUpdatedAt(contacto.getCreatedAt());
+        var answer = contactoRepository.save(contacto);
+        eventPublisher.publishEvent(ContactoEvent.created(answer.getId(), answer.getNombre(), answer.getApellido()));
+        return answer;
     }
 
     /**
@@ -119,15 +366,22 @@ public class LibretaService implements ILibreta {
     @Transactional
     public Telefono createTelefono(Telefono telefono) {
         telefono.setCreatedAt(Instant.now());
-        return telefonoRepository.save(telefono);
+        telefono.setNumeroNormalizado(NumeroTelefono.normalize(telefono.getTelefono()));
+        var answer = telefonoRepository.save(telefono);
+        publishTelefonosUpdated(answer.getContacto());
+        return answer;
     }
 
     /**
      * Actualiza una tupla completa de un contacto
      *
+     * Se escribe directamente con una sola sentencia UPDATE, sin leer antes el contacto; si el contacto trae la
+     * versión que leyó el cliente, la actualización solo se aplica si nadie más lo modificó desde entonces
+     *
      * @param id Identificador del contacto a actualizar
      * @param contacto Objeto del contacto a actualizar
-     * @return Objeto del contacto actualizado
+     * @return Objeto del contacto actualizado o null si no existe
+     * @throws ObjectOptimisticLockingFailureException si la versión del contacto cambió
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
@@ -137,7 +391,20 @@ public class LibretaService implements ILibreta {
     public Contacto updateContacto(Integer id, Contacto contacto) {
         contacto.setId(id);
         contacto.setUpdatedAt(Instant.now());
-        return contactoRepository.save(contacto);
+        var updated = contactoRepository.updateContacto(
+                id, contacto.getNombre(), contacto.getApellido(), contacto.getUpdatedAt(), contacto.getVersion()
+        );
+        if (updated == 0) {
+            if (contacto.getVersion() != null && contactoRepository.existsById(id)) {
+                throw new ObjectOptimisticLockingFailureException(Contacto.class, id);
+            }
+            return null;
+        }
+        if (contacto.getVersion() != null) {
+            contacto.setVersion(contacto.getVersion() + 1);
+        }
+        eventPublisher.publishEvent(ContactoEvent.updated(id, contacto.getNombre(), contacto.getApellido()));
+        return contacto;
     }
 
     /**
@@ -156,6 +423,7 @@ public class LibretaService implements ILibreta {
         contacto.setId(id);
         contacto.setUpdatedAt(Instant.now());
         contactoRepository.updateNombre(id, contacto.getNombre());
+        eventPublisher.publishEvent(ContactoEvent.updated(id, contacto.getNombre(), null));
         return contacto;
     }
 
@@ -175,15 +443,21 @@ public class LibretaService implements ILibreta {
         contacto.setId(id);
         contacto.setUpdatedAt(Instant.now());
         contactoRepository.updateApellido(id, contacto.getApellido());
+        eventPublisher.publishEvent(ContactoEvent.updated(id, null, contacto.getApellido()));
         return contacto;
     }
 
     /**
      * Actualiza la tupla completa de un teléfono en el sistema
      *
+     * Se escribe directamente con una sola sentencia UPDATE, sin leer antes el teléfono y sin cambiar su contacto; si
+     * el teléfono trae la versión que leyó el cliente, la actualización solo se aplica si nadie más lo modificó desde
+     * entonces
+     *
      * @param id Identificador del teléfono a actualizar
      * @param telefono Objeto del teléfono a actualizar
-     * @return Objeto del teléfono actualizado
+     * @return Objeto del teléfono actualizado o null si no existe
+     * @throws ObjectOptimisticLockingFailureException si la versión del teléfono cambió
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
@@ -193,16 +467,35 @@ public class LibretaService implements ILibreta {
     public Telefono updateTelefono(Integer id, Telefono telefono) {
         telefono.setId(id);
         telefono.setUpdatedAt(Instant.now());
-        telefonoRepository.save(telefono);
+        telefono.setNumeroNormalizado(NumeroTelefono.normalize(telefono.getTelefono()));
+        var updated = telefonoRepository.updateTelefonoVersionado(
+                id,
+                telefono.getTelefono(),
+                telefono.getNumeroNormalizado(),
+                telefono.getUpdatedAt(),
+                telefono.getVersion()
+        );
+        if (updated == 0) {
+            if (telefono.getVersion() != null && telefonoRepository.existsById(id)) {
+                throw new ObjectOptimisticLockingFailureException(Telefono.class, id);
+            }
+            return null;
+        }
+        if (telefono.getVersion() != null) {
+            telefono.setVersion(telefono.getVersion() + 1);
+        }
+        eventPublisher.publishEvent(TelefonoEvent.updated(id));
         return telefono;
     }
 
     /**
      * Actualiza solamente el teléfono de un contacto a partir del ID de la tupla del teléfono
      *
+     * Se escribe con una sola sentencia UPDATE, sin leer antes el teléfono
+     *
      * @param id Identificador del teléfono a actualizar
      * @param telefono Objeto del teléfono a actualizar
-     * @return Objeto del teléfono actualizado
+     * @return Objeto del teléfono actualizado o null si no existe
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
@@ -212,29 +505,195 @@ public class LibretaService implements ILibreta {
     public Telefono updateOnlyTelefono(Integer id, Telefono telefono) {
         telefono.setId(id);
         telefono.setUpdatedAt(Instant.now());
-        telefonoRepository.updateTelefono(id, telefono.getTelefono());
+        telefono.setNumeroNormalizado(NumeroTelefono.normalize(telefono.getTelefono()));
+        if (telefonoRepository.updateTelefono(id, telefono.getTelefono(), telefono.getNumeroNormalizado()) == 0) {
+            return null;
+        }
+        eventPublisher.publishEvent(TelefonoEvent.updated(id));
         return telefono;
     }
 
+    /**
+     * Actualiza el nombre de varios contactos con una sola sentencia en lote
+     *
+     * @param contactos Contactos con su identificador y su nuevo nombre
+     * @return Cantidad de tuplas actualizadas por cada contacto, en el mismo orden; 0 si el contacto no existe
+     *
+     * @since 1.1.0
+     */
+    @Override
+    @Transactional
+    public int[] updateNombres(List<Contacto> contactos) {
+        var counts = contactoRepository.updateNombres(contactos);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                var contacto = contactos.get(i);
+                eventPublisher.publishEvent(ContactoEvent.updated(contacto.getId(), contacto.getNombre(), null));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Actualiza los apellidos de varios contactos con una sola sentencia en lote
+     *
+     * @param contactos Contactos con su identificador y sus nuevos apellidos
+     * @return Cantidad de tuplas actualizadas por cada contacto, en el mismo orden; 0 si el contacto no existe
+     *
+     * @since 1.1.0
+     */
+    @Override
+    @Transactional
+    public int[] updateApellidos(List<Contacto> contactos) {
+        var counts = contactoRepository.updateApellidos(contactos);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                var contacto = contactos.get(i);
+                eventPublisher.publishEvent(ContactoEvent.updated(contacto.getId(), null, contacto.getApellido()));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Actualiza el nombre y/o los apellidos de varios contactos con una sola sentencia en lote
+     *
+     * @param contactos Contactos con su identificador, su nuevo nombre o null si no cambia y sus nuevos apellidos o
+     *                  null si no cambian
+     * @return Cantidad de tuplas actualizadas por cada contacto, en el mismo orden; 0 si el contacto no existe
+     *
+     * @since 1.1.0
+     */
+    @Override
+    @Transactional
+    public int[] updateNombresApellidos(List<Contacto> contactos) {
+        var counts = contactoRepository.updateNombresApellidos(contactos);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                var contacto = contactos.get(i);
+                eventPublisher.publishEvent(
+                        ContactoEvent.updated(contacto.getId(), contacto.getNombre(), contacto.getApellido())
+                );
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Actualiza solamente el número de varios teléfonos con una sola sentencia en lote
+     *
+     * @param telefonos Teléfonos con su identificador y su nuevo número
+     * @return Cantidad de tuplas actualizadas por cada teléfono, en el mismo orden; 0 si el teléfono no existe
+     *
+     * @since 1.1.0
+     */
+    @Override
+    @Transactional
+    public int[] updateOnlyTelefonos(List<Telefono> telefonos) {
+        var ids = new ArrayList<Integer>(telefonos.size());
+        for (var telefono : telefonos) {
+            telefono.setUpdatedAt(Instant.now());
+            telefono.setNumeroNormalizado(NumeroTelefono.normalize(telefono.getTelefono()));
+            ids.add(telefono.getId());
+        }
+        for (var contactoId : telefonoRepository.findContactoIdsByIdIn(ids)) {
+            eventPublisher.publishEvent(ContactoEvent.telefonosUpdated(contactoId));
+        }
+        return telefonoRepository.updateTelefonos(telefonos);
+    }
+
     /**
      * Borra un contacto del sistema
      *
+     * Se borran los teléfonos y el contacto con dos sentencias DELETE, sin leer antes el contacto ni sus teléfonos; la
+     * existencia del contacto se conoce por la cantidad de tuplas borradas
+     *
      * @param id Identificación del contacto a borrar
-     * @return Objeto del contacto borrado
+     * @return true si el contacto existía y fue borrado
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
      */
     @Override
     @Transactional
-    public Contacto deleteContacto(Integer id) {
-        var contacto = contactoRepository.findById(id);
-        if (contacto.isPresent()) {
-            contactoRepository.delete(contacto.get());
-            return contacto.get();
-        } else {
-            return null;
+    public boolean deleteContacto(Integer id) {
+        telefonoRepository.deleteByContactoIdIn(List.of(id));
+        if (contactoRepository.deleteByIdIn(List.of(id)) == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(ContactoEvent.deleted(id));
+        return true;
+    }
+
+    /**
+     * Borra varios contactos y sus teléfonos sin cargarlos: por cada bloque de {@link #DELETE_CHUNK_SIZE}
+     * identificadores se consulta cuáles existen y solo esos se borran con dos sentencias, así el evento de borrado se
+     * publica solo por los contactos que existían y ninguno si no se borró nada
+     *
+     * @param ids Identificadores de los contactos a borrar
+     * @return Cantidad de contactos y teléfonos borrados
+     * @throws IllegalArgumentException si la lista tiene identificadores nulos
+     *
+     * @since 1.1.0
+     */
+    @Override
+    @Transactional
+    public BulkDeleteResult deleteContactos(List<Integer> ids) {
+        var distinct = new ArrayList<Integer>(new LinkedHashSet<>(ids));
+        if (distinct.contains(null)) {
+            throw new IllegalArgumentException("Los identificadores de los contactos no pueden ser nulos");
+        }
+        var existing = new ArrayList<Integer>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += DELETE_CHUNK_SIZE) {
+            var chunk = distinct.subList(from, Math.min(from + DELETE_CHUNK_SIZE, distinct.size()));
+            existing.addAll(contactoRepository.findIdsByIdIn(chunk));
         }
+        return deleteExisting(existing);
+    }
+
+    /**
+     * Borra los contactos con el nombre y/o los apellidos indicados y sus teléfonos, sin cargarlos
+     *
+     * @param nombre Nombre exacto de los contactos, null para no filtrar por nombre
+     * @param apellido Apellidos exactos de los contactos, null para no filtrar por apellidos
+     * @return Cantidad de contactos y teléfonos borrados
+     * @throws IllegalArgumentException si no se indica ningún filtro
+     *
+     * @since 1.1.0
+     */
+    @Override
+    @Transactional
+    public BulkDeleteResult deleteContactos(String nombre, String apellido) {
+        if (nombre == null && apellido == null) {
+            throw new IllegalArgumentException("Debe indicar el nombre y/o los apellidos de los contactos a borrar");
+        }
+        return deleteExisting(contactoRepository.findIdsByNombreAndApellido(nombre, apellido));
+    }
+
+    /**
+     * Borra contactos que se acaban de consultar y sus teléfonos, con dos sentencias por cada bloque de
+     * {@link #DELETE_CHUNK_SIZE} identificadores, y publica el evento de borrado de cada uno
+     *
+     * Si otra transacción borra alguno entre la consulta y el borrado, su evento se publica dos veces; quitar un
+     * contacto que ya no está no cambia nada en los oyentes
+     *
+     * @param ids Identificadores de los contactos, sin repetidos
+     * @return Cantidad de contactos y teléfonos borrados
+     */
+    private BulkDeleteResult deleteExisting(List<Integer> ids) {
+        var contactos = 0L;
+        var telefonos = 0L;
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            var chunk = ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size()));
+            telefonos += telefonoRepository.deleteByContactoIdIn(chunk);
+            contactos += contactoRepository.deleteByIdIn(chunk);
+        }
+        if (contactos > 0) {
+            for (var id : ids) {
+                eventPublisher.publishEvent(ContactoEvent.deleted(id));
+            }
+        }
+        return new BulkDeleteResult(contactos, telefonos);
     }
 
     /**
@@ -252,9 +711,99 @@ public class LibretaService implements ILibreta {
         var telefono = telefonoRepository.findById(id);
         if (telefono.isPresent()) {
             telefonoRepository.delete(telefono.get());
+            publishTelefonosUpdated(telefono.get().getContacto());
             return telefono.get();
         } else {
             return null;
         }
     }
+
+    /**
+     * Busca un contacto por su identificador
+     *
+     * @param id Identificador del contacto
+     * @param withTelefonos Indica si se deben cargar los teléfonos del contacto
+     * @return Objeto del contacto o null si no existe
+     *
+     * @since 1.1.0
+     */
+    private Contacto findContacto(Integer id, boolean withTelefonos) {
+        var contacto = withTelefonos
+                ? contactoRepository.findWithTelefonosById(id)
+                : contactoRepository.findById(id);
+        return contacto.orElse(null);
+    }
+
+    /**
+     * Publica el evento de cambio de los teléfonos de un contacto
+     *
+     * @param contacto Contacto dueño de los teléfonos, puede ser null
+     *
+     * @since 1.1.0
+     */
+    private void publishTelefonosUpdated(Contacto contacto) {
+        if (contacto != null && contacto.getId() != null) {
+            eventPublisher.publishEvent(ContactoEvent.telefonosUpdated(contacto.getId()));
+        }
+    }
+
+    /**
+     * Lee los contactos de una lista de identificadores con una sola consulta y los devuelve en el orden de la lista,
+     * omitiendo los que ya no existen
+     *
+     * @param ids Identificadores de los contactos
+     * @param withTelefonos Indica si se deben cargar los teléfonos de los contactos
+     * @return Contactos en el orden de los identificadores
+     */
+    private List<Contacto> findInOrder(List<Integer> ids, boolean withTelefonos) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        var found = withTelefonos
+                ? contactoRepository.findWithTelefonosByIdIn(ids)
+                : contactoRepository.findAllById(ids);
+        var contactos = found.stream()
+                .collect(Collectors.toMap(Contacto::getId, Function.identity()));
+        var answer = new ArrayList<Contacto>(ids.size());
+        for (var id : ids) {
+            var contacto = contactos.get(id);
+            if (contacto != null) {
+                answer.add(contacto);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Carga los teléfonos de un listado de contactos; al estar mapeados con carga por bloques, la primera colección
+     * que se inicializa trae también las de los demás contactos del listado en la misma consulta
+     *
+     * @param contactos Listado de contactos
+     *
+     * @since 1.1.0
+     */
+    private void initializeTelefonos(List<Contacto> contactos) {
+        for (var contacto : contactos) {
+            Hibernate.initialize(contacto.getTelefonos());
+        }
+    }
+
+    /**
+     * Valida el tamaño de página o la cantidad de resultados solicitados
+     *
+     * @param size Cantidad de contactos por página, null para usar el valor por defecto
+     * @return Tamaño de página a usar
+     * @throws IllegalArgumentException si el tamaño no está entre 1 y el máximo permitido
+     *
+     * @since 1.1.0
+     */
+    private int getPageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("La cantidad de contactos solicitada debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
 }
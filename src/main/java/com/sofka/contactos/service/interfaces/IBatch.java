@@ -0,0 +1,25 @@
+package com.sofka.contactos.service.interfaces;
+
+import com.sofka.contactos.batch.BatchOperation;
+import com.sofka.contactos.batch.BatchResult;
+
+import java.util.List;
+
+/**
+ * Interface para el servicio de ejecución de lotes de operaciones
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public interface IBatch {
+
+    /**
+     * Ejecuta en orden las operaciones de un lote
+     *
+     * @param operations Operaciones a ejecutar
+     * @return Resultado de cada operación, en el mismo orden
+     *
+     * @since 1.1.0
+     */
+    public List<BatchResult> execute(List<BatchOperation> operations);
+}
@@ -0,0 +1,27 @@
+package com.sofka.contactos.service.interfaces;
+
+import com.sofka.contactos.exportacion.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Interface para el servicio de exportación masiva de contactos
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public interface IExportacion {
+
+    /**
+     * Exporta todos los contactos y sus teléfonos escribiéndolos en la salida a medida que se leen
+     *
+     * @param output Salida donde se escriben los contactos
+     * @param format Formato de la exportación
+     * @return Cantidad de contactos exportados
+     * @throws IOException si no es posible escribir en la salida
+     *
+     * @since 1.1.0
+     */
+    public long exportar(OutputStream output, ExportFormat format) throws IOException;
+}
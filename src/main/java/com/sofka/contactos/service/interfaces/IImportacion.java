@@ -0,0 +1,28 @@
+package com.sofka.contactos.service.interfaces;
+
+import com.sofka.contactos.importacion.ImportFormat;
+import com.sofka.contactos.importacion.ImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Interface para el servicio de importación masiva de contactos
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public interface IImportacion {
+
+    /**
+     * Importa los contactos y sus teléfonos leyendo el archivo fila por fila
+     *
+     * @param input Contenido del archivo
+     * @param format Formato del archivo
+     * @return Resumen de la importación con los errores por fila
+     * @throws IOException si no es posible leer el archivo
+     *
+     * @since 1.1.0
+     */
+    public ImportResult importar(InputStream input, ImportFormat format) throws IOException;
+}
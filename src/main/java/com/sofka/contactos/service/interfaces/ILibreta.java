@@ -1,7 +1,9 @@
 package com.sofka.contactos.service.interfaces;
 
+import com.sofka.contactos.batch.BulkDeleteResult;
 import com.sofka.contactos.domain.Contacto;
 import com.sofka.contactos.domain.Telefono;
+import com.sofka.contactos.utility.KeysetPage;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
@@ -38,16 +40,73 @@ public interface ILibreta {
      */
     public List<Contacto> getList(String field, Sort.Direction order);
 
+    /**
+     * Devuelve un contacto basado en su identificador
+     *
+     * @param id Identificador del contacto
+     * @param withTelefonos Indica si se deben cargar los teléfonos del contacto
+     * @return Objeto del contacto o null si no existe
+     *
+     * @since 1.1.0
+     */
+    public Contacto getContacto(Integer id, boolean withTelefonos);
+
+    /**
+     * Devuelve una página de contactos ordenados por su identificador
+     *
+     * @param cursor Cursor devuelto por la página anterior, null para la primera página
+     * @param size Cantidad de contactos por página, null para usar el valor por defecto
+     * @param withTelefonos Indica si se deben cargar los teléfonos de los contactos
+     * @return Página de contactos con el cursor de la siguiente página
+     *
+     * @since 1.1.0
+     */
+    public KeysetPage<Contacto> getPage(String cursor, Integer size, boolean withTelefonos);
+
+    /**
+     * Devuelve una página de contactos ordenados por el campo indicado (nombre, apellido, createdAt o
+     * updatedAt), o por varios separados por comas, ya sea ascendente o descendente
+     *
+     * @param field campo por el cual ordenar, o varios separados por comas, por ejemplo apellido,nombre
+     * @param order método de ordenado ASC o DESC
+     * @param cursor Cursor devuelto por la página anterior, null para la primera página
+     * @param size Cantidad de contactos por página, null para usar el valor por defecto
+     * @param withTelefonos Indica si se deben cargar los teléfonos de los contactos
+     * @return Página de contactos con el cursor de la siguiente página
+     *
+     * @since 1.1.0
+     */
+    public KeysetPage<Contacto> getPage(
+            String field,
+            Sort.Direction order,
+            String cursor,
+            Integer size,
+            boolean withTelefonos
+    );
+
     /**
      * Busca un dato dado entre el nombre y/o los apellidos en un contacto
      *
      * @param dataToSearch Dato a buscar
-     * @return Lita de contactos
+     * @param limit Cantidad máxima de contactos a devolver, null para usar el valor por defecto
+     * @param withTelefonos Indica si se deben cargar los teléfonos de los contactos
+     * @return Lita de contactos ordenada por relevancia
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
      */
-    public List<Contacto> searchContacto(String dataToSearch);
+    public List<Contacto> searchContacto(String dataToSearch, Integer limit, boolean withTelefonos);
+
+    /**
+     * Devuelve el contacto dueño de un número de teléfono
+     *
+     * @param numero Número de teléfono, con o sin espacios, signos y separadores
+     * @param withTelefonos Indica si se deben cargar los teléfonos del contacto
+     * @return Objeto del contacto o null si ningún contacto tiene el número
+     *
+     * @since 1.1.0
+     */
+    public Contacto getContactoByTelefono(String numero, boolean withTelefonos);
 
     /**
      * Crea un contacto en el sistema
@@ -75,8 +134,8 @@ public interface ILibreta {
      * Actualiza una tupla completa de un contacto
      *
      * @param id Identificador del contacto a actualizar
-     * @param contacto Objeto del contacto a actualizar
-     * @return Objeto del contacto actualizado
+     * @param contacto Objeto del contacto a actualizar, con la versión leída para detectar escrituras concurrentes
+     * @return Objeto del contacto actualizado o null si no existe
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
@@ -111,8 +170,8 @@ public interface ILibreta {
      * Actualiza la tupla completa de un teléfono en el sistema basado en su identificador
      *
      * @param id Identificador del teléfono a actualizar
-     * @param telefono Objeto del teléfono a actualizar
-     * @return Objeto del teléfono actualizado
+     * @param telefono Objeto del teléfono a actualizar, con la versión leída para detectar escrituras concurrentes
+     * @return Objeto del teléfono actualizado o null si no existe
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
@@ -124,23 +183,85 @@ public interface ILibreta {
      *
      * @param id Identificador del teléfono a actualizar
      * @param telefono Objeto del teléfono a actualizar
-     * @return Objeto del teléfono actualizado
+     * @return Objeto del teléfono actualizado o null si no existe
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
      */
     public Telefono updateOnlyTelefono(Integer id, Telefono telefono);
 
+    /**
+     * Actualiza el nombre de varios contactos con una sola sentencia en lote
+     *
+     * @param contactos Contactos con su identificador y su nuevo nombre
+     * @return Cantidad de tuplas actualizadas por cada contacto, en el mismo orden; 0 si el contacto no existe
+     *
+     * @since 1.1.0
+     */
+    public int[] updateNombres(List<Contacto> contactos);
+
+    /**
+     * Actualiza los apellidos de varios contactos con una sola sentencia en lote
+     *
+     * @param contactos Contactos con su identificador y sus nuevos apellidos
+     * @return Cantidad de tuplas actualizadas por cada contacto, en el mismo orden; 0 si el contacto no existe
+     *
+     * @since 1.1.0
+     */
+    public int[] updateApellidos(List<Contacto> contactos);
+
+    /**
+     * Actualiza el nombre y/o los apellidos de varios contactos con una sola sentencia en lote
+     *
+     * @param contactos Contactos con su identificador, su nuevo nombre o null si no cambia y sus nuevos apellidos o
+     *                  null si no cambian
+     * @return Cantidad de tuplas actualizadas por cada contacto, en el mismo orden; 0 si el contacto no existe
+     *
+     * @since 1.1.0
+     */
+    public int[] updateNombresApellidos(List<Contacto> contactos);
+
+    /**
+     * Actualiza solamente el número de varios teléfonos con una sola sentencia en lote
+     *
+     * @param telefonos Teléfonos con su identificador y su nuevo número
+     * @return Cantidad de tuplas actualizadas por cada teléfono, en el mismo orden; 0 si el teléfono no existe
+     *
+     * @since 1.1.0
+     */
+    public int[] updateOnlyTelefonos(List<Telefono> telefonos);
+
     /**
      * Borra un contacto del sistema basado en su identificador
      *
      * @param id Identificación del contacto a borrar
-     * @return Objeto del contacto borrado
+     * @return true si el contacto existía y fue borrado
      *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
      */
-    Contacto deleteContacto(Integer id);
+    boolean deleteContacto(Integer id);
+
+    /**
+     * Borra varios contactos y sus teléfonos sin cargarlos
+     *
+     * @param ids Identificadores de los contactos a borrar
+     * @return Cantidad de contactos y teléfonos borrados
+     *
+     * @since 1.1.0
+     */
+    public BulkDeleteResult deleteContactos(List<Integer> ids);
+
+    /**
+     * Borra los contactos con el nombre y/o los apellidos indicados y sus teléfonos, sin cargarlos
+     *
+     * @param nombre Nombre exacto de los contactos, null para no filtrar por nombre
+     * @param apellido Apellidos exactos de los contactos, null para no filtrar por apellidos
+     * @return Cantidad de contactos y teléfonos borrados
+     *
+     * @since 1.1.0
+     */
+    public BulkDeleteResult deleteContactos(String nombre, String apellido);
 
     /**
      * Borra un teléfono del sistema basado en su identificador
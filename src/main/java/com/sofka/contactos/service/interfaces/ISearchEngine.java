@@ -0,0 +1,94 @@
+package com.sofka.contactos.service.interfaces;
+
+import java.util.List;
+
+/**
+ * Interface para los motores de búsqueda de contactos
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public interface ISearchEngine {
+
+    /**
+     * Agrega o actualiza un contacto en el índice
+     *
+     * @param id Identificador del contacto
+     * @param nombre Nombre del contacto, null para conservar el que ya está indexado
+     * @param apellido Apellidos del contacto, null para conservar los que ya están indexados
+     *
+     * @since 1.1.0
+     */
+    public void index(Integer id, String nombre, String apellido);
+
+    /**
+     * Agrega o actualiza un contacto junto con sus números de teléfono en el índice; los motores que no indexan
+     * teléfonos los ignoran
+     *
+     * @param id Identificador del contacto
+     * @param nombre Nombre del contacto, null para conservar el que ya está indexado
+     * @param apellido Apellidos del contacto, null para conservar los que ya están indexados
+     * @param telefonos Números de teléfono del contacto, null para conservar los que ya están indexados
+     *
+     * @since 1.1.0
+     */
+    public default void index(Integer id, String nombre, String apellido, List<String> telefonos) {
+        index(id, nombre, apellido);
+    }
+
+    /**
+     * Indica si el motor indexa los números de teléfono de los contactos
+     *
+     * @return true si los teléfonos se pueden buscar
+     *
+     * @since 1.1.0
+     */
+    public default boolean indexesTelefonos() {
+        return false;
+    }
+
+    /**
+     * Quita un contacto del índice
+     *
+     * @param id Identificador del contacto
+     *
+     * @since 1.1.0
+     */
+    public void remove(Integer id);
+
+    /**
+     * Busca un dato entre el nombre y/o los apellidos de los contactos indexados, y sus teléfonos si el motor los
+     * indexa
+     *
+     * @param dataToSearch Dato a buscar
+     * @param limit Cantidad máxima de resultados
+     * @return Identificadores de los contactos encontrados, del más relevante al menos relevante
+     *
+     * @since 1.1.0
+     */
+    public List<Integer> search(String dataToSearch, int limit);
+
+    /**
+     * Reconstruye el índice completo a partir de la base de datos
+     *
+     * @since 1.1.0
+     */
+    public void rebuild();
+
+    /**
+     * Deja de usar el índice hasta que termine la siguiente reconstrucción, porque puede no tener cambios confirmados
+     * por otra instancia; mientras tanto las búsquedas se hacen en la base de datos
+     *
+     * @since 1.1.0
+     */
+    public void invalidate();
+
+    /**
+     * Indica si el índice ya fue construido y puede responder búsquedas
+     *
+     * @return true si el índice está listo
+     *
+     * @since 1.1.0
+     */
+    public boolean isReady();
+}
@@ -0,0 +1,89 @@
+package com.sofka.contactos.sortedview;
+
+import com.sofka.contactos.event.ContactoEvent;
+import com.sofka.contactos.event.ExternalChangeEvent;
+import com.sofka.contactos.utility.BackgroundRebuild;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Mantiene las vistas ordenadas al día con los cambios de los contactos; los cambios de otras instancias se aplican
+ * reconstruyendo las vistas en segundo plano
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Component
+public class SortedViewListener {
+
+    /**
+     * Vistas ordenadas de los contactos
+     */
+    @Autowired
+    private SortedViews sortedViews;
+
+    /**
+     * Reconstrucción de las vistas en segundo plano
+     */
+    private final BackgroundRebuild backgroundRebuild = new BackgroundRebuild("sorted-views-rebuild", this::rebuild);
+
+    /**
+     * Construye las vistas a partir de la base de datos una vez el sistema ha iniciado
+     *
+     * @since 1.1.0
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        sortedViews.rebuild();
+    }
+
+    /**
+     * Deja de usar las vistas, para que la lectura en curso vaya a la base de datos, y las reconstruye en segundo plano
+     * con los cambios confirmados por otra instancia
+     *
+     * @param event Evento de los cambios de otra instancia
+     *
+     * @since 1.1.0
+     */
+    @EventListener
+    public void onExternalChange(ExternalChangeEvent event) {
+        sortedViews.invalidate();
+        backgroundRebuild.request();
+    }
+
+    /**
+     * Aplica en las vistas el cambio de un contacto una vez confirmada la transacción, antes de invalidar el cache para
+     * que una página no vuelva a guardar en el cache un orden anterior al cambio
+     *
+     * @param event Evento del contacto
+     *
+     * @since 1.1.0
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContactoEvent(ContactoEvent event) {
+        switch (event.getType()) {
+            case CREATED:
+            case UPDATED:
+                sortedViews.index(event.getId(), event.getNombre(), event.getApellido());
+                break;
+            case DELETED:
+                sortedViews.remove(event.getId());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Reconstruye las vistas
+     */
+    private void rebuild() {
+        sortedViews.rebuild();
+    }
+}
@@ -0,0 +1,419 @@
+package com.sofka.contactos.sortedview;
+
+import com.sofka.contactos.repository.ContactoNombre;
+import com.sofka.contactos.repository.ContactoRepository;
+import com.sofka.contactos.repository.ContactoSortField;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.sofka.contactos.utility.Texto.normalize;
+
+/**
+ * Vistas ordenadas en memoria de los identificadores de los contactos, una por cada lista de campos configurada en
+ * libreta.sorted-views, separadas por punto y coma, por ejemplo nombre;apellido,nombre
+ *
+ * Cada vista es un árbol con los datos normalizados de los contactos ordenados por los campos de la vista y por último
+ * por el identificador, igual que la comparación que hace MySQL con su collation por defecto, de forma que una página
+ * se resuelve recorriendo el árbol desde la llave del cursor y luego se leen solo los contactos de la página por su
+ * identificador. Los datos normalizados de cada contacto se comparten entre todas las vistas
+ *
+ * Las vistas se mantienen al día con los eventos de los contactos, que solo traen el nombre y los apellidos, por eso
+ * solo se permiten vistas de esos campos; el ordenamiento por fecha de creación o de modificación sigue usando los
+ * índices de la base de datos. Se reconstruyen a partir de la base de datos al iniciar el sistema con
+ * {@link #rebuild()}, y cada vez que otra instancia confirma cambios, que no pasan por los eventos de esta:
+ * {@link #invalidate()} las deja de usar hasta que termine la siguiente reconstrucción
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Slf4j
+@Component
+public class SortedViews {
+
+    /**
+     * Campos que se pueden mantener en una vista ordenada
+     */
+    public static final Set<ContactoSortField> SUPPORTED_FIELDS = EnumSet.of(
+            ContactoSortField.NOMBRE,
+            ContactoSortField.APELLIDO
+    );
+
+    /**
+     * Separador de las vistas en la configuración
+     */
+    private static final String VIEW_SEPARATOR = ";";
+
+    /**
+     * Cantidad de contactos leídos por consulta durante la reconstrucción de las vistas
+     */
+    private static final int REBUILD_CHUNK_SIZE = 5000;
+
+    /**
+     * Repositorio de Contacto
+     */
+    @Autowired
+    private ContactoRepository contactoRepository;
+
+    /**
+     * Bloqueo para la lectura y escritura de las vistas
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Datos normalizados de cada contacto, compartidos por todas las vistas
+     */
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    /**
+     * Vistas ordenadas por la lista de campos de cada una
+     */
+    private final Map<List<ContactoSortField>, TreeSet<Entry>> views = new HashMap<>();
+
+    /**
+     * Contactos modificados mientras se reconstruyen las vistas, estos no se sobrescriben con los datos leídos
+     */
+    private Set<Integer> touchedDuringRebuild;
+
+    /**
+     * Indica si las vistas ya fueron construidas
+     */
+    private volatile boolean ready = false;
+
+    /**
+     * Cantidad de veces que se han invalidado las vistas, una reconstrucción solo deja las vistas listas si no se
+     * invalidaron mientras tanto
+     */
+    private long invalidations;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param configuration Listas de campos de las vistas separadas por punto y coma
+     * @throws IllegalArgumentException si alguna vista tiene campos que no se permiten o que no se pueden mantener
+     *
+     * @since 1.1.0
+     */
+    public SortedViews(
+            @Value("${libreta.sorted-views:nombre;apellido;apellido,nombre;nombre,apellido}") String configuration
+    ) {
+        for (var view : configuration.split(VIEW_SEPARATOR)) {
+            if (view.isBlank()) {
+                continue;
+            }
+            var fields = ContactoSortField.fromAttributes(view);
+            if (!SUPPORTED_FIELDS.containsAll(fields)) {
+                throw new IllegalArgumentException("No se puede mantener una vista ordenada por " + view.trim());
+            }
+            views.put(fields, new TreeSet<>(comparator(fields)));
+        }
+    }
+
+    /**
+     * Indica si existe una vista para una lista de campos
+     *
+     * @param fields Campos de ordenamiento
+     * @return true si hay una vista configurada para esos campos en ese orden
+     *
+     * @since 1.1.0
+     */
+    public boolean hasView(List<ContactoSortField> fields) {
+        return views.containsKey(fields);
+    }
+
+    /**
+     * Indica si las vistas ya fueron construidas y pueden responder páginas
+     *
+     * @return true si las vistas están listas
+     *
+     * @since 1.1.0
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Deja de usar las vistas hasta que termine la siguiente reconstrucción, porque pueden no tener cambios confirmados
+     * por otra instancia; mientras tanto las páginas se leen de la base de datos
+     *
+     * @since 1.1.0
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            invalidations++;
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Devuelve la cantidad de contactos en las vistas
+     *
+     * @return Cantidad de contactos
+     *
+     * @since 1.1.0
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Devuelve los identificadores de una página de contactos de una vista
+     *
+     * @param fields Campos de la vista
+     * @param order Método de ordenado ASC o DESC
+     * @param afterValues Valores de los campos del último contacto de la página anterior, null para la primera página
+     * @param afterId Identificador del último contacto de la página anterior, null para la primera página
+     * @param limit Cantidad máxima de identificadores
+     * @return Identificadores de los contactos en el orden de la vista, null si las vistas se están reconstruyendo
+     * @throws IllegalArgumentException si no hay una vista para los campos indicados
+     *
+     * @since 1.1.0
+     */
+    public List<Integer> page(
+            List<ContactoSortField> fields,
+            Sort.Direction order,
+            List<Object> afterValues,
+            Integer afterId,
+            int limit
+    ) {
+        var ids = new ArrayList<Integer>(limit);
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return null;
+            }
+            var view = views.get(fields);
+            if (view == null) {
+                throw new IllegalArgumentException("No hay una vista ordenada por " + fields);
+            }
+            NavigableSet<Entry> set = order == Sort.Direction.DESC ? view.descendingSet() : view;
+            if (afterId != null) {
+                set = set.tailSet(probe(fields, afterValues, afterId), false);
+            }
+            for (var entry : set) {
+                if (ids.size() >= limit) {
+                    break;
+                }
+                ids.add(entry.id);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    /**
+     * Agrega o actualiza un contacto en las vistas
+     *
+     * @param id Identificador del contacto
+     * @param nombre Nombre del contacto, null para conservar el que ya está en las vistas
+     * @param apellido Apellidos del contacto, null para conservar los que ya están en las vistas
+     *
+     * @since 1.1.0
+     */
+    public void index(Integer id, String nombre, String apellido) {
+        lock.writeLock().lock();
+        try {
+            var old = entries.get(id);
+            var newNombre = nombre != null ? normalize(nombre) : old != null ? old.nombre : null;
+            var newApellido = apellido != null ? normalize(apellido) : old != null ? old.apellido : null;
+            if (newNombre == null || newApellido == null) {
+                return;
+            }
+            if (old != null) {
+                removeEntry(old);
+            }
+            addEntry(new Entry(id, newNombre, newApellido));
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Quita un contacto de las vistas
+     *
+     * @param id Identificador del contacto
+     *
+     * @since 1.1.0
+     */
+    public void remove(Integer id) {
+        lock.writeLock().lock();
+        try {
+            var old = entries.get(id);
+            if (old != null) {
+                removeEntry(old);
+            }
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reconstruye todas las vistas a partir de la base de datos
+     *
+     * Los contactos se leen por bloques ordenados por identificador; los cambios que llegan mientras tanto se aplican
+     * de inmediato y tienen prioridad sobre los datos leídos. Mientras tanto las páginas se leen de la base de datos;
+     * si las vistas se invalidan durante la reconstrucción no quedan listas y se espera la siguiente
+     *
+     * @since 1.1.0
+     */
+    public synchronized void rebuild() {
+        if (views.isEmpty()) {
+            return;
+        }
+        var start = System.currentTimeMillis();
+        long generation;
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            generation = invalidations;
+            entries.clear();
+            views.values().forEach(TreeSet::clear);
+            touchedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        var afterId = 0;
+        List<ContactoNombre> chunk;
+        do {
+            chunk = contactoRepository.findNombres(afterId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (var contacto : chunk) {
+                    if (!touchedDuringRebuild.contains(contacto.getId())) {
+                        addEntry(new Entry(
+                                contacto.getId(),
+                                normalize(contacto.getNombre()),
+                                normalize(contacto.getApellido())
+                        ));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+        lock.writeLock().lock();
+        try {
+            touchedDuringRebuild = null;
+            ready = generation == invalidations;
+            log.info("Vistas ordenadas {} construidas con {} contactos en {} ms",
+                    views.keySet(), entries.size(), System.currentTimeMillis() - start);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Agrega un contacto a todas las vistas
+     *
+     * @param entry Datos normalizados del contacto
+     */
+    private void addEntry(Entry entry) {
+        entries.put(entry.id, entry);
+        for (var view : views.values()) {
+            view.add(entry);
+        }
+    }
+
+    /**
+     * Quita un contacto de todas las vistas, debe ser el mismo objeto que está en ellas para encontrarlo en los árboles
+     *
+     * @param entry Datos normalizados del contacto
+     */
+    private void removeEntry(Entry entry) {
+        entries.remove(entry.id);
+        for (var view : views.values()) {
+            view.remove(entry);
+        }
+    }
+
+    /**
+     * Crea la llave de búsqueda en una vista a partir de los valores de un cursor
+     *
+     * @param fields Campos de la vista
+     * @param values Valores de los campos
+     * @param id Identificador del contacto
+     * @return Llave de búsqueda
+     */
+    private static Entry probe(List<ContactoSortField> fields, List<Object> values, Integer id) {
+        String nombre = "";
+        String apellido = "";
+        for (int i = 0; i < fields.size(); i++) {
+            var value = normalize(String.valueOf(values.get(i)));
+            if (fields.get(i) == ContactoSortField.NOMBRE) {
+                nombre = value;
+            } else {
+                apellido = value;
+            }
+        }
+        return new Entry(id, nombre, apellido);
+    }
+
+    /**
+     * Crea el comparador de una vista: los campos en el orden indicado y por último el identificador
+     *
+     * @param fields Campos de la vista
+     * @return Comparador de los datos normalizados
+     */
+    private static Comparator<Entry> comparator(List<ContactoSortField> fields) {
+        Comparator<Entry> comparator = null;
+        for (var field : fields) {
+            Comparator<Entry> byField = field == ContactoSortField.NOMBRE
+                    ? Comparator.comparing((Entry entry) -> entry.nombre)
+                    : Comparator.comparing((Entry entry) -> entry.apellido);
+            comparator = comparator == null ? byField : comparator.thenComparing(byField);
+        }
+        Comparator<Entry> byId = Comparator.comparingInt((Entry entry) -> entry.id);
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    /**
+     * Datos normalizados de un contacto en las vistas
+     */
+    private static final class Entry {
+
+        private final int id;
+
+        private final String nombre;
+
+        private final String apellido;
+
+        private Entry(int id, String nombre, String apellido) {
+            this.id = id;
+            this.nombre = nombre;
+            this.apellido = apellido;
+        }
+    }
+}
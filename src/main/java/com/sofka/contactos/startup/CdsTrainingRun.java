@@ -0,0 +1,95 @@
+package com.sofka.contactos.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Ejecución de entrenamiento del archivo de clases compartidas (AppCDS) del perfil Maven cds, se activa con
+ * libreta.startup.training-run=true
+ *
+ * Una vez el sistema ha iniciado atiende una petición de listado contra sí mismo, para que también se carguen las
+ * clases de Spring MVC, Jackson y Hibernate que usa la primera petición, y termina el proceso. La JVM registra todas
+ * las clases cargadas hasta ese momento en la lista con la que después se genera el archivo. Si el proceso no inició
+ * un servidor web termina con error, para que el archivo nunca se genere a partir de un proceso distinto al de
+ * producción
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "libreta.startup.training-run", havingValue = "true")
+public class CdsTrainingRun {
+
+    /**
+     * Ruta de la petición de entrenamiento
+     */
+    private final String path;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param path Ruta de la petición de entrenamiento
+     *
+     * @since 1.1.0
+     */
+    public CdsTrainingRun(@Value("${libreta.startup.training-path:/api/v1/index}") String path) {
+        this.path = path;
+    }
+
+    /**
+     * Atiende la petición de entrenamiento y termina el proceso
+     *
+     * @param event Evento de inicio del sistema
+     *
+     * @since 1.1.0
+     */
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        var context = event.getApplicationContext();
+        var status = 0;
+        if (context instanceof WebServerApplicationContext) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            status = request("http://localhost:" + port + path);
+        } else {
+            log.error("La ejecución de entrenamiento no inició un servidor web, revise que Tomcat esté en target/lib");
+        }
+        log.info("Ejecución de entrenamiento terminada, respuesta {}", status);
+        var exitCode = status == 200 ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+
+    /**
+     * Atiende una petición GET
+     *
+     * @param url Dirección de la petición
+     * @return Código de la respuesta o 0 si no fue posible atenderla
+     */
+    private int request(String url) {
+        try {
+            var response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                    HttpResponse.BodyHandlers.discarding()
+            );
+            return response.statusCode();
+        } catch (IOException exception) {
+            log.error("No fue posible atender la petición de entrenamiento {}", url, exception);
+            return 0;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.sofka.contactos.utility;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Ejecuta una reconstrucción en un hilo propio cada vez que se solicita, agrupando las solicitudes que llegan mientras
+ * una reconstrucción está en curso en una sola reconstrucción posterior
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Slf4j
+public final class BackgroundRebuild {
+
+    /**
+     * Nombre del hilo de la reconstrucción
+     */
+    private final String name;
+
+    /**
+     * Reconstrucción a ejecutar
+     */
+    private final Runnable rebuild;
+
+    /**
+     * Indica si hay una solicitud que aún no ha empezado a atenderse
+     */
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    /**
+     * Indica si el hilo de la reconstrucción está en curso
+     */
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Constructor de la clase
+     *
+     * @param name Nombre del hilo de la reconstrucción
+     * @param rebuild Reconstrucción a ejecutar
+     *
+     * @since 1.1.0
+     */
+    public BackgroundRebuild(String name, Runnable rebuild) {
+        this.name = name;
+        this.rebuild = rebuild;
+    }
+
+    /**
+     * Solicita una reconstrucción; si ya hay una en curso, se ejecuta otra al terminar
+     *
+     * @since 1.1.0
+     */
+    public void request() {
+        requested.set(true);
+        if (running.compareAndSet(false, true)) {
+            var thread = new Thread(this::run, name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Atiende las solicitudes hasta que no quedan pendientes
+     */
+    private void run() {
+        do {
+            while (requested.getAndSet(false)) {
+                try {
+                    rebuild.run();
+                } catch (RuntimeException exception) {
+                    log.error("Falló la reconstrucción {}", name, exception);
+                }
+            }
+            running.set(false);
+        } while (requested.get() && running.compareAndSet(false, true));
+    }
+}
@@ -0,0 +1,91 @@
+package com.sofka.contactos.utility;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utilidades para leer y escribir líneas en formato CSV (RFC 4180, un registro por línea)
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public final class Csv {
+
+    /**
+     * Separador de columnas
+     */
+    public static final char SEPARATOR = ',';
+
+    /**
+     * Carácter para encerrar los valores que contienen separadores o comillas
+     */
+    private static final char QUOTE = '"';
+
+    private Csv() {
+    }
+
+    /**
+     * Separa una línea CSV en sus valores
+     *
+     * @param line Línea a separar
+     * @return Valores de la línea
+     * @throws IllegalArgumentException si la línea tiene comillas sin cerrar
+     *
+     * @since 1.1.0
+     */
+    public static List<String> parseLine(String line) {
+        var values = new ArrayList<String>();
+        var value = new StringBuilder();
+        var quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            var character = line.charAt(i);
+            if (quoted) {
+                if (character == QUOTE) {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                        value.append(QUOTE);
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    value.append(character);
+                }
+            } else if (character == QUOTE) {
+                quoted = true;
+            } else if (character == SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(character);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("La línea tiene comillas sin cerrar");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * Escribe un valor para una línea CSV, encerrándolo entre comillas cuando es necesario
+     *
+     * @param value Valor a escribir
+     * @return Valor listo para la línea CSV
+     *
+     * @since 1.1.0
+     */
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        var needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            var character = value.charAt(i);
+            needsQuotes = character == SEPARATOR || character == QUOTE || character == '\n' || character == '\r';
+        }
+        if (!needsQuotes) {
+            return value;
+        }
+        return QUOTE + value.replace("\"", "\"\"") + QUOTE;
+    }
+}
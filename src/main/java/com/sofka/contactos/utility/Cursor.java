@@ -0,0 +1,147 @@
+package com.sofka.contactos.utility;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Clase para el manejo del cursor opaco usado en la paginación por keyset
+ *
+ * El cursor guarda el ordenamiento solicitado y la llave (campos de ordenamiento + identificador) del último elemento
+ * entregado, de forma que la siguiente página inicia justo después de él sin importar cuántas páginas se han recorrido.
+ * También guarda el origen de la página, porque las vistas ordenadas en memoria y la base de datos no comparan los
+ * textos exactamente igual y una llave de un origen no sirve para continuar en el otro
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public final class Cursor {
+
+    /**
+     * Origen de las páginas de un recorrido
+     */
+    public enum Source {
+
+        /**
+         * Índice de la base de datos
+         */
+        DATABASE,
+
+        /**
+         * Vista ordenada en memoria
+         */
+        VIEW
+    }
+
+    /**
+     * Cantidad de partes fijas del cursor codificado antes de los valores de los campos
+     */
+    private static final int FIXED_PARTS = 4;
+
+    /**
+     * Serializador usado para codificar el cursor
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Campo o campos por los cuales está ordenada la información
+     */
+    public final String orderBy;
+
+    /**
+     * Tipo de orden de la información ASC o DESC
+     */
+    public final Sort.Direction order;
+
+    /**
+     * Valores de los campos de ordenamiento del último elemento entregado
+     */
+    public final List<String> values;
+
+    /**
+     * Identificador del último elemento entregado
+     */
+    public final Integer id;
+
+    /**
+     * Origen de la página que entregó el último elemento, las páginas siguientes deben salir del mismo origen
+     */
+    public final Source source;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param orderBy Campo o campos por los cuales está ordenada la información
+     * @param order Tipo de orden ASC o DESC
+     * @param values Valores de los campos de ordenamiento del último elemento entregado
+     * @param id Identificador del último elemento entregado
+     * @param source Origen de la página que entregó el último elemento
+     *
+     * @since 1.1.0
+     */
+    public Cursor(String orderBy, Sort.Direction order, List<String> values, Integer id, Source source) {
+        this.orderBy = orderBy;
+        this.order = order;
+        this.values = values;
+        this.id = id;
+        this.source = source;
+    }
+
+    /**
+     * Codifica el cursor en una cadena opaca segura para URL
+     *
+     * @return Cursor codificado
+     *
+     * @since 1.1.0
+     */
+    public String encode() {
+        var parts = new ArrayList<String>(values.size() + FIXED_PARTS);
+        parts.add(orderBy);
+        parts.add(order.name());
+        parts.add(String.valueOf(id));
+        parts.add(source.name());
+        parts.addAll(values);
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(parts));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("No fue posible codificar el cursor", exception);
+        }
+    }
+
+    /**
+     * Decodifica un cursor generado previamente por {@link #encode()}
+     *
+     * @param cursor Cursor codificado
+     * @return Objeto Cursor
+     * @throws IllegalArgumentException si el cursor no es válido
+     *
+     * @since 1.1.0
+     */
+    public static Cursor decode(String cursor) {
+        try {
+            var json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = MAPPER.readValue(json, String[].class);
+            if (parts.length < FIXED_PARTS) {
+                throw new IllegalArgumentException("El cursor no es válido");
+            }
+            var values = new ArrayList<String>(parts.length - FIXED_PARTS);
+            for (int i = FIXED_PARTS; i < parts.length; i++) {
+                values.add(parts[i]);
+            }
+            return new Cursor(
+                    parts[0],
+                    Sort.Direction.fromString(parts[1]),
+                    values,
+                    Integer.valueOf(parts[2]),
+                    Source.valueOf(parts[3])
+            );
+        } catch (JsonProcessingException | IllegalArgumentException exception) {
+            throw new IllegalArgumentException("El cursor no es válido", exception);
+        }
+    }
+}
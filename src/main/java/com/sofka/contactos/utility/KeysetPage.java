@@ -0,0 +1,44 @@
+package com.sofka.contactos.utility;
+
+import java.util.List;
+
+/**
+ * Clase para el manejo de una página de resultados paginada por cursor (keyset)
+ *
+ * @param <T> Tipo de los elementos de la página
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class KeysetPage<T> {
+
+    /**
+     * Elementos de la página
+     */
+    public final List<T> items;
+
+    /**
+     * Cantidad de elementos solicitados por página
+     */
+    public final Integer size;
+
+    /**
+     * Cursor opaco para solicitar la siguiente página, null si no existen más elementos
+     */
+    public final String nextCursor;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param items Elementos de la página
+     * @param size Cantidad de elementos solicitados por página
+     * @param nextCursor Cursor de la siguiente página o null si es la última
+     *
+     * @since 1.1.0
+     */
+    public KeysetPage(List<T> items, Integer size, String nextCursor) {
+        this.items = items;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,66 @@
+package com.sofka.contactos.utility;
+
+/**
+ * Utilidades para normalizar números de teléfono al estilo E.164, solo con dígitos
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public final class NumeroTelefono {
+
+    /**
+     * Prefijo de marcación internacional equivalente al signo +
+     */
+    private static final String INTERNATIONAL_PREFIX = "00";
+
+    private NumeroTelefono() {
+    }
+
+    /**
+     * Normaliza un número de teléfono quitando espacios, signos y separadores; el prefijo internacional 00 se trata
+     * igual que el signo +, de forma que +57 (300) 123-4567 y 0057 300 1234567 quedan como 573001234567
+     *
+     * @param numero Número de teléfono tal como lo escribió el usuario
+     * @return Dígitos del número, vacío si no tiene dígitos o null si el número es null
+     *
+     * @since 1.1.0
+     */
+    public static String normalize(String numero) {
+        if (numero == null) {
+            return null;
+        }
+        var digits = new StringBuilder(numero.length());
+        for (int i = 0; i < numero.length(); i++) {
+            var character = numero.charAt(i);
+            if (character >= '0' && character <= '9') {
+                digits.append(character);
+            }
+        }
+        if (startsWithPrefix(numero)) {
+            digits.delete(0, INTERNATIONAL_PREFIX.length());
+        }
+        return digits.toString();
+    }
+
+    /**
+     * Indica si el número empieza con el prefijo internacional, ignorando los espacios y separadores iniciales
+     *
+     * @param numero Número de teléfono
+     * @return true si los dos primeros dígitos forman el prefijo internacional y no hay un signo + antes de ellos
+     */
+    private static boolean startsWithPrefix(String numero) {
+        var found = 0;
+        for (int i = 0; i < numero.length() && found < INTERNATIONAL_PREFIX.length(); i++) {
+            var character = numero.charAt(i);
+            if (character >= '0' && character <= '9') {
+                if (character != INTERNATIONAL_PREFIX.charAt(found)) {
+                    return false;
+                }
+                found++;
+            } else if (character == '+') {
+                return false;
+            }
+        }
+        return found == INTERNATIONAL_PREFIX.length();
+    }
+}
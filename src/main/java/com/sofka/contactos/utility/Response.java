@@ -1,50 +1,95 @@
 package com.sofka.contactos.utility;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * Clase para el manejo de las respuestas de las API
  *
- * @version 1.0.0 2022-03-20
+ * Cada respuesta es inmutable y se crea por petición, de forma que puede compartirse entre hilos sin sincronización
+ *
+ * @param <T> Tipo de la información que se responde
+ *
+ * @version 1.1.0 2026-10-16
  * @author Julian Lasso <julian.lasso@sofka.com.co>
  * @since 1.0.0
  */
-public class Response {
+public final class Response<T> {
 
     /**
      * Indica de si existe un error o no en la respuesta del API
      */
-    public Boolean error;
+    public final Boolean error;
 
     /**
      * Mensaje del API cuando es utilizada
      */
-    public String message;
+    public final String message;
 
     /**
      * Información del API cuando es necesario
      */
-    public Object data;
+    public final T data;
 
     /**
      * Constructor de la clase
      *
+     * @param error Indica si existe un error en la respuesta
+     * @param message Mensaje de la respuesta
+     * @param data Información de la respuesta
+     *
      * @author Julian Lasso <julian.lasso@sofka.com.co>
      * @since 1.0.0
      */
-    public Response() {
-        error = false;
-        message = "";
-        data = null;
+    @JsonCreator
+    public Response(
+            @JsonProperty("error") Boolean error,
+            @JsonProperty("message") String message,
+            @JsonProperty("data") T data
+    ) {
+        this.error = error;
+        this.message = message;
+        this.data = data;
     }
 
     /**
-     * Restaura a ceros la respuesta del API
+     * Crea una respuesta exitosa sin mensaje
      *
-     * @author Julian Lasso <julian.lasso@sofka.com.co>
-     * @since 1.0.0
+     * @param data Información de la respuesta
+     * @param <T> Tipo de la información
+     * @return Objeto Response
+     *
+     * @since 1.1.0
+     */
+    public static <T> Response<T> ok(T data) {
+        return new Response<>(false, "", data);
+    }
+
+    /**
+     * Crea una respuesta exitosa con mensaje
+     *
+     * @param message Mensaje de la respuesta
+     * @param data Información de la respuesta
+     * @param <T> Tipo de la información
+     * @return Objeto Response
+     *
+     * @since 1.1.0
+     */
+    public static <T> Response<T> ok(String message, T data) {
+        return new Response<>(false, message, data);
+    }
+
+    /**
+     * Crea una respuesta de error
+     *
+     * @param message Mensaje del error
+     * @param data Información adicional del error
+     * @param <T> Tipo de la información
+     * @return Objeto Response
+     *
+     * @since 1.1.0
      */
-    public void restart() {
-        error = false;
-        message = "";
-        data = null;
+    public static <T> Response<T> error(String message, T data) {
+        return new Response<>(true, message, data);
     }
 }
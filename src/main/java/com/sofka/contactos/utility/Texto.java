@@ -0,0 +1,39 @@
+package com.sofka.contactos.utility;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Utilidades para comparar textos de la misma forma que MySQL con su collation por defecto
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public final class Texto {
+
+    /**
+     * Expresión para remover las tildes y demás marcas diacríticas
+     */
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private Texto() {
+    }
+
+    /**
+     * Normaliza un texto sin tildes y en minúsculas, igual que la comparación que hace MySQL con su collation por
+     * defecto
+     *
+     * @param text Texto a normalizar
+     * @return Texto normalizado, vacío si el texto es null
+     *
+     * @since 1.1.0
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        var decomposed = Normalizer.normalize(text.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
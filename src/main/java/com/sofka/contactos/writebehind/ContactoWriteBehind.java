@@ -0,0 +1,362 @@
+package com.sofka.contactos.writebehind;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.service.interfaces.ILibreta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Escritura diferida de los cambios de nombre y apellidos de los contactos, se activa con
+ * libreta.write-behind.enabled=true
+ *
+ * Los cambios parciales se acumulan por contacto: si llegan varios para el mismo contacto antes de escribirse, el
+ * último valor de cada campo reemplaza a los anteriores y todos se escriben con un solo UPDATE. Cada
+ * libreta.write-behind.flush-interval-ms se vacía la cola por bloques de {@link #batchSize} contactos, cada bloque en
+ * un solo lote JDBC y en su propia transacción. Con {@link WriteBehindAck#SYNC} la petición se responde cuando su
+ * cambio quedó confirmado, y sabe si el contacto existía; con {@link WriteBehindAck#ASYNC} se responde al encolarlo y
+ * una lectura inmediata puede devolver todavía el valor anterior. Un cambio sin el campo que modifica se rechaza antes
+ * de encolarlo, porque no cambiaría nada. Cuando hay {@link #maxPending} contactos pendientes los cambios de nuevos
+ * contactos se rechazan con una RejectedExecutionException
+ *
+ * Las escrituras que no pasan por la cola, como reemplazar o borrar un contacto, deben llamar antes a
+ * {@link #drain(Integer)} o a {@link #flush()}: un cambio encolado antes y escrito después sobrescribiría la escritura
+ * más reciente. Los bloques se escriben de a uno bajo {@link #writeLock}, así al volver de estos métodos ningún cambio
+ * anterior del contacto queda pendiente ni a medio escribir
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@Slf4j
+public class ContactoWriteBehind {
+
+    /**
+     * Prefijo de las métricas de la escritura diferida
+     */
+    public static final String METRIC_PREFIX = "libreta.write-behind";
+
+    /**
+     * Servicio de la libreta
+     */
+    private final ILibreta libreta;
+
+    /**
+     * Momento en que se responden los cambios encolados
+     */
+    private final WriteBehindAck ack;
+
+    /**
+     * Cantidad máxima de contactos por lote
+     */
+    private final int batchSize;
+
+    /**
+     * Cantidad máxima de contactos pendientes de escribir
+     */
+    private final int maxPending;
+
+    /**
+     * Cambios pendientes por identificador del contacto
+     */
+    private final ConcurrentHashMap<Integer, Pending> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Bloqueo que ordena la escritura de los bloques, incluidos los de {@link #drain(Integer)}
+     */
+    private final Object writeLock = new Object();
+
+    /**
+     * Cantidad de peticiones cuyos cambios están pendientes de escribir
+     */
+    private final AtomicInteger pendingRequests = new AtomicInteger();
+
+    /**
+     * Cambios que se unieron a otro pendiente del mismo contacto
+     */
+    private final Counter coalesced;
+
+    /**
+     * Sentencias UPDATE escritas
+     */
+    private final Counter written;
+
+    /**
+     * Duración de cada lote
+     */
+    private final Timer flushTimer;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param libreta Servicio de la libreta
+     * @param ack Momento en que se responden los cambios encolados
+     * @param batchSize Cantidad máxima de contactos por lote
+     * @param maxPending Cantidad máxima de contactos pendientes de escribir
+     * @param registry Registro de métricas
+     *
+     * @since 1.1.0
+     */
+    public ContactoWriteBehind(
+            ILibreta libreta,
+            WriteBehindAck ack,
+            int batchSize,
+            int maxPending,
+            MeterRegistry registry
+    ) {
+        this.libreta = libreta;
+        this.ack = ack;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        Gauge.builder(METRIC_PREFIX + ".pending", pending, ConcurrentHashMap::size)
+                .description("Contactos con cambios pendientes de escribir")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".pending.requests", pendingRequests, AtomicInteger::get)
+                .description("Peticiones con cambios pendientes de escribir")
+                .register(registry);
+        coalesced = Counter.builder(METRIC_PREFIX + ".coalesced")
+                .description("Cambios unidos a otro pendiente del mismo contacto")
+                .register(registry);
+        written = Counter.builder(METRIC_PREFIX + ".written")
+                .description("Sentencias UPDATE escritas")
+                .register(registry);
+        flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+                .description("Duración de cada lote de la escritura diferida")
+                .register(registry);
+    }
+
+    /**
+     * Encola el cambio del nombre de un contacto
+     *
+     * @param id Identificador del contacto
+     * @param contacto Objeto del contacto con el nuevo nombre
+     * @return Contacto actualizado, disponible según el modo de confirmación; con {@link WriteBehindAck#SYNC} null si
+     *         el contacto no existe
+     * @throws IllegalArgumentException si no se indica el nombre
+     * @throws RejectedExecutionException si la cola está llena
+     *
+     * @since 1.1.0
+     */
+    public CompletableFuture<Contacto> updateNombre(Integer id, Contacto contacto) {
+        if (contacto.getNombre() == null) {
+            throw new IllegalArgumentException("Debe indicar el nombre del contacto");
+        }
+        return enqueue(id, contacto, contacto.getNombre(), null);
+    }
+
+    /**
+     * Encola el cambio de los apellidos de un contacto
+     *
+     * @param id Identificador del contacto
+     * @param contacto Objeto del contacto con los nuevos apellidos
+     * @return Contacto actualizado, disponible según el modo de confirmación; con {@link WriteBehindAck#SYNC} null si
+     *         el contacto no existe
+     * @throws IllegalArgumentException si no se indican los apellidos
+     * @throws RejectedExecutionException si la cola está llena
+     *
+     * @since 1.1.0
+     */
+    public CompletableFuture<Contacto> updateApellidos(Integer id, Contacto contacto) {
+        if (contacto.getApellido() == null) {
+            throw new IllegalArgumentException("Debe indicar los apellidos del contacto");
+        }
+        return enqueue(id, contacto, null, contacto.getApellido());
+    }
+
+    /**
+     * Indica si los cambios se responden antes de escribirse
+     *
+     * @return true si el modo de confirmación es {@link WriteBehindAck#ASYNC}
+     *
+     * @since 1.1.0
+     */
+    public boolean isAsync() {
+        return ack == WriteBehindAck.ASYNC;
+    }
+
+    /**
+     * Escribe todos los cambios pendientes por bloques de {@link #batchSize} contactos
+     *
+     * @since 1.1.0
+     */
+    @Scheduled(fixedDelayString = "${libreta.write-behind.flush-interval-ms:50}")
+    public void flush() {
+        while (!pending.isEmpty()) {
+            synchronized (writeLock) {
+                var ids = new ArrayList<Integer>(Math.min(pending.size(), batchSize));
+                var changes = new ArrayList<Pending>(ids.size());
+                for (var id : pending.keySet()) {
+                    var change = pending.remove(id);
+                    if (change != null) {
+                        ids.add(id);
+                        changes.add(change);
+                        if (ids.size() == batchSize) {
+                            break;
+                        }
+                    }
+                }
+                if (!ids.isEmpty()) {
+                    write(ids, changes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Escribe de inmediato el cambio pendiente de un contacto, si existe, después de terminar el bloque que se esté
+     * escribiendo; se llama antes de una escritura directa del contacto para que ningún cambio anterior la sobrescriba
+     *
+     * @param id Identificador del contacto
+     *
+     * @since 1.1.0
+     */
+    public void drain(Integer id) {
+        synchronized (writeLock) {
+            var change = pending.remove(id);
+            if (change != null) {
+                write(List.of(id), List.of(change));
+            }
+        }
+    }
+
+    /**
+     * Escribe los cambios pendientes antes de detener el sistema
+     *
+     * @since 1.1.0
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Encola un cambio, uniéndolo al pendiente del mismo contacto si existe
+     *
+     * @param id Identificador del contacto
+     * @param contacto Objeto del contacto a devolver
+     * @param nombre Nuevo nombre, null si no cambia
+     * @param apellido Nuevos apellidos, null si no cambian
+     * @return Contacto actualizado, disponible según el modo de confirmación; con {@link WriteBehindAck#SYNC} null si
+     *         el contacto no existe
+     */
+    private CompletableFuture<Contacto> enqueue(Integer id, Contacto contacto, String nombre, String apellido) {
+        contacto.setId(id);
+        var confirmation = new CompletableFuture<Boolean>();
+        pending.compute(id, (key, change) -> {
+            if (change == null) {
+                if (pending.size() >= maxPending) {
+                    throw new RejectedExecutionException("La cola de escritura diferida está llena");
+                }
+                change = new Pending();
+            } else {
+                coalesced.increment();
+            }
+            change.merge(nombre, apellido, confirmation);
+            return change;
+        });
+        pendingRequests.incrementAndGet();
+        if (isAsync()) {
+            return CompletableFuture.completedFuture(contacto);
+        }
+        return confirmation.thenApply(updated -> updated ? contacto : null);
+    }
+
+    /**
+     * Escribe un bloque de cambios en un solo lote y confirma las peticiones que lo esperan
+     *
+     * @param ids Identificadores de los contactos
+     * @param changes Cambios de cada contacto, en el mismo orden
+     */
+    private void write(List<Integer> ids, List<Pending> changes) {
+        var contactos = new ArrayList<Contacto>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            var contacto = new Contacto();
+            contacto.setId(ids.get(i));
+            contacto.setNombre(changes.get(i).nombre);
+            contacto.setApellido(changes.get(i).apellido);
+            contactos.add(contacto);
+        }
+        try {
+            var counts = flushTimer.recordCallable(() -> libreta.updateNombresApellidos(contactos));
+            written.increment(counts.length);
+            for (int i = 0; i < changes.size(); i++) {
+                changes.get(i).complete(counts[i] != 0);
+            }
+        } catch (Exception exception) {
+            log.error("No fue posible escribir {} cambios diferidos", ids.size(), exception);
+            for (var change : changes) {
+                change.fail(exception);
+            }
+        } finally {
+            for (var change : changes) {
+                pendingRequests.addAndGet(-change.confirmations.size());
+            }
+        }
+    }
+
+    /**
+     * Cambios pendientes de un contacto y las peticiones que esperan su confirmación
+     */
+    private static final class Pending {
+
+        /**
+         * Nuevo nombre, null si no cambia
+         */
+        private String nombre;
+
+        /**
+         * Nuevos apellidos, null si no cambian
+         */
+        private String apellido;
+
+        /**
+         * Confirmaciones de las peticiones unidas en este cambio
+         */
+        private final List<CompletableFuture<Boolean>> confirmations = new ArrayList<>(1);
+
+        /**
+         * Une un cambio, el valor más reciente de cada campo reemplaza al anterior
+         *
+         * @param nombre Nuevo nombre, null si no cambia
+         * @param apellido Nuevos apellidos, null si no cambian
+         * @param confirmation Confirmación de la petición
+         */
+        private void merge(String nombre, String apellido, CompletableFuture<Boolean> confirmation) {
+            if (nombre != null) {
+                this.nombre = nombre;
+            }
+            if (apellido != null) {
+                this.apellido = apellido;
+            }
+            confirmations.add(confirmation);
+        }
+
+        /**
+         * Confirma las peticiones una vez escrito el cambio
+         *
+         * @param updated true si el contacto existía
+         */
+        private void complete(boolean updated) {
+            confirmations.forEach(confirmation -> confirmation.complete(updated));
+        }
+
+        /**
+         * Informa a las peticiones que el cambio no se pudo escribir
+         *
+         * @param exception Causa del fallo
+         */
+        private void fail(Exception exception) {
+            confirmations.forEach(confirmation -> confirmation.completeExceptionally(exception));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.sofka.contactos.writebehind;
+
+/**
+ * Momento en que se responde una actualización parcial encolada en la escritura diferida
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public enum WriteBehindAck {
+
+    /**
+     * Se responde cuando la actualización quedó confirmada en la base de datos
+     */
+    SYNC,
+
+    /**
+     * Se responde apenas la actualización queda en la cola; se pierde si el sistema cae antes de escribirla
+     */
+    ASYNC
+}
@@ -0,0 +1,23 @@
+-- Esquema inicial de la libreta, el mismo que generaba Hibernate con ddl-auto=update antes de las migraciones.
+-- Las bases de datos creadas antes de las migraciones ya tienen estas tablas, se marcan en esta versión sin
+-- ejecutarla (spring.flyway.baseline-on-migrate=true, spring.flyway.baseline-version=1) y reciben desde V2 todos los
+-- cambios posteriores, por eso este archivo no debe modificarse.
+
+CREATE TABLE contacto (
+    cnt_id INT NOT NULL AUTO_INCREMENT,
+    cnt_nombre VARCHAR(100) NOT NULL,
+    cnt_apellido VARCHAR(100) NOT NULL,
+    cnt_created_at DATETIME(6) NOT NULL,
+    cnt_updated_at DATETIME(6),
+    PRIMARY KEY (cnt_id)
+);
+
+CREATE TABLE telefono (
+    tel_id INT NOT NULL AUTO_INCREMENT,
+    tel_contacto_id INT NOT NULL,
+    tel_telefono VARCHAR(30) NOT NULL,
+    tel_created_at DATETIME(6) NOT NULL,
+    tel_updated_at DATETIME(6),
+    PRIMARY KEY (tel_id),
+    CONSTRAINT fk_telefono_contacto FOREIGN KEY (tel_contacto_id) REFERENCES contacto (cnt_id)
+);
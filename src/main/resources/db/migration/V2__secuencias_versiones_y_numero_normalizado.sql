@@ -0,0 +1,21 @@
+-- Cambios del esquema posteriores al esquema inicial; se ejecutan tanto en bases de datos nuevas como en las marcadas
+-- en la versión 1.
+
+-- Tabla de los generadores de identificadores de Contacto y Telefono, que reservan bloques de identificadores para
+-- insertar en lote
+CREATE TABLE libreta_secuencia (
+    sec_nombre VARCHAR(255) NOT NULL,
+    sec_valor BIGINT,
+    PRIMARY KEY (sec_nombre)
+);
+
+-- Versiones para el control de concurrencia optimista; las filas existentes empiezan en 0
+ALTER TABLE contacto ADD COLUMN cnt_version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE telefono ADD COLUMN tel_version BIGINT DEFAULT 0 NOT NULL;
+
+-- Número de teléfono solo con dígitos para la búsqueda inversa; NumeroTelefonoBackfill completa las filas existentes
+-- al iniciar
+ALTER TABLE telefono ADD COLUMN tel_numero_normalizado VARCHAR(30);
+
+CREATE INDEX ix_telefono_numero_normalizado ON telefono (tel_numero_normalizado);
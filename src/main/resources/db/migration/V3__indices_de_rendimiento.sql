@@ -0,0 +1,20 @@
+-- Índices para las consultas frecuentes de ContactoRepository y TelefonoRepository.
+-- El identificador se incluye al final para que el ordenamiento por campo y la paginación por keyset
+-- (campo, cnt_id) se resuelvan recorriendo el índice, sin ordenar en memoria.
+
+-- Listado ordenado por nombre, búsqueda exacta por nombre y borrado masivo por nombre
+CREATE INDEX ix_contacto_nombre ON contacto (cnt_nombre, cnt_id);
+
+-- Listado ordenado por apellidos, búsqueda exacta por apellidos y borrado masivo por apellidos
+CREATE INDEX ix_contacto_apellido ON contacto (cnt_apellido, cnt_id);
+
+-- Listado ordenado por fecha de creación
+CREATE INDEX ix_contacto_created_at ON contacto (cnt_created_at, cnt_id);
+
+-- Listado ordenado por fecha de modificación (/api/v1/index/orderby/updatedAt/...)
+CREATE INDEX ix_contacto_updated_at ON contacto (cnt_updated_at, cnt_id);
+
+-- Teléfonos de uno o varios contactos (findAllByContacto, findNumeros, carga por lotes de Contacto.telefonos y
+-- borrado masivo); incluye tel_telefono para que findNumeros se resuelva solo con el índice. Ninguna consulta filtra
+-- por tel_telefono: la búsqueda por número usa ix_telefono_numero_normalizado
+CREATE INDEX ix_telefono_contacto ON telefono (tel_contacto_id, tel_id, tel_telefono);
@@ -0,0 +1,12 @@
+-- Valores iniciales de los generadores de identificadores de Contacto y Telefono (@TableGenerator con pooled-lo y
+-- bloques de 1000). Las bases de datos marcadas en la versión 1 ya tienen identificadores asignados por
+-- AUTO_INCREMENT; sin estas filas el generador empezaría en 1 y las primeras inserciones chocarían con ellos.
+-- sec_valor es el siguiente identificador que reservará el generador: se deja un bloque completo de margen después
+-- del mayor identificador existente para las tuplas que inserten, mientras termina el despliegue, las instancias que
+-- todavía usan AUTO_INCREMENT.
+
+INSERT INTO libreta_secuencia (sec_nombre, sec_valor)
+SELECT 'contacto', COALESCE(MAX(cnt_id), 0) + 1001 FROM contacto;
+
+INSERT INTO libreta_secuencia (sec_nombre, sec_valor)
+SELECT 'telefono', COALESCE(MAX(tel_id), 0) + 1001 FROM telefono;
@@ -0,0 +1,13 @@
+-- Versión de la libreta usada para las ETag de las lecturas (LibretaVersion). Cada transacción que modifica contactos
+-- o teléfonos incrementa ver_valor antes de confirmarse y las lecturas la consultan en su misma transacción, así la
+-- ETag corresponde a lo que ve la conexión que lee los datos, sea la principal o una réplica, en cualquier instancia.
+-- Un cambio hecho directamente en la base de datos debe incrementarla también para que los clientes no reciban 304
+-- con información anterior:
+--   UPDATE libreta_version SET ver_valor = ver_valor + 1 WHERE ver_id = 1;
+CREATE TABLE libreta_version (
+    ver_id INT NOT NULL,
+    ver_valor BIGINT NOT NULL,
+    PRIMARY KEY (ver_id)
+);
+
+INSERT INTO libreta_version (ver_id, ver_valor) VALUES (1, 0);
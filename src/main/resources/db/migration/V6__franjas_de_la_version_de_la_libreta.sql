@@ -0,0 +1,9 @@
+-- Reparte la versión de la libreta en franjas (LibretaVersion.STRIPES). Con una sola fila todas las transacciones que
+-- modifican la libreta esperaban el bloqueo de esa fila; ahora cada transacción incrementa una franja elegida al azar
+-- y la versión es la suma de todas, que sigue creciendo con cada cambio confirmado. La fila 1 conserva el valor
+-- acumulado, así las ETag anteriores siguen siendo válidas. Un cambio hecho directamente en la base de datos puede
+-- seguir incrementando cualquier franja:
+--   UPDATE libreta_version SET ver_valor = ver_valor + 1 WHERE ver_id = 1;
+INSERT INTO libreta_version (ver_id, ver_valor) VALUES
+    (2, 0), (3, 0), (4, 0), (5, 0), (6, 0), (7, 0), (8, 0), (9, 0),
+    (10, 0), (11, 0), (12, 0), (13, 0), (14, 0), (15, 0), (16, 0);
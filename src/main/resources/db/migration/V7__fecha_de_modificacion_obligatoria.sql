@@ -0,0 +1,6 @@
+-- La fecha de modificación de un contacto nunca está vacía: al crearlo es la misma fecha de creación. Así el listado
+-- ordenado por fecha de modificación (/api/v1/index/orderby/updatedAt/...) pagina por keyset sobre
+-- ix_contacto_updated_at sin tratar los valores nulos, que no se pueden comparar con la llave del cursor
+UPDATE contacto SET cnt_updated_at = cnt_created_at WHERE cnt_updated_at IS NULL;
+
+ALTER TABLE contacto MODIFY COLUMN cnt_updated_at DATETIME(6) NOT NULL;
@@ -0,0 +1,163 @@
+package com.sofka.contactos.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sofka.contactos.SistemaDemoDeContactosApplication;
+import com.sofka.contactos.importacion.ImportFormat;
+import com.sofka.contactos.service.ImportacionService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Utilidades para levantar el sistema sobre una base de datos H2 embebida y poblarla con contactos de prueba
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public final class BenchmarkContext {
+
+    /**
+     * Semilla de los datos generados, la misma para todas las ejecuciones
+     */
+    public static final long SEED = 20261016L;
+
+    /**
+     * Nombres usados para generar los contactos
+     */
+    public static final String[] NOMBRES = {
+            "Julián", "María", "José", "Ana", "Carlos", "Lucía", "Andrés", "Sofía", "Juan", "Valentina",
+            "Luis", "Camila", "Pedro", "Daniela", "Miguel", "Isabella", "Jorge", "Mariana", "Diego", "Gabriela",
+            "Fernando", "Paula", "Ricardo", "Natalia", "Sebastián", "Laura", "Alejandro", "Carolina", "Felipe", "Andrea"
+    };
+
+    /**
+     * Apellidos usados para generar los contactos
+     */
+    public static final String[] APELLIDOS = {
+            "Lasso", "García", "Rodríguez", "Martínez", "López", "González", "Pérez", "Sánchez", "Ramírez", "Torres",
+            "Flórez", "Rivera", "Gómez", "Díaz", "Reyes", "Morales", "Jiménez", "Ruiz", "Álvarez", "Romero",
+            "Castro", "Vargas", "Ortiz", "Moreno", "Herrera", "Medina", "Aguilar", "Rojas", "Muñoz", "Suárez"
+    };
+
+    /**
+     * Cantidad de teléfonos de cada contacto generado
+     */
+    public static final int TELEFONOS_POR_CONTACTO = 2;
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * Levanta el sistema sin servidor web sobre una base de datos H2 en memoria exclusiva para la ejecución
+     *
+     * @param database Nombre de la base de datos en memoria
+     * @param properties Propiedades adicionales o que reemplazan las de la configuración, en formato clave=valor
+     * @return Contexto de la aplicación
+     *
+     * @since 1.1.0
+     */
+    public static ConfigurableApplicationContext start(String database, String... properties) {
+        return run(WebApplicationType.NONE, database, properties);
+    }
+
+    /**
+     * Levanta el sistema con su servidor web en un puerto libre sobre una base de datos H2 en memoria exclusiva para
+     * la ejecución
+     *
+     * @param database Nombre de la base de datos en memoria
+     * @param properties Propiedades adicionales o que reemplazan las de la configuración, en formato clave=valor
+     * @return Contexto de la aplicación, el puerto está en la propiedad local.server.port
+     *
+     * @since 1.1.0
+     */
+    public static ConfigurableApplicationContext startServer(String database, String... properties) {
+        return run(WebApplicationType.SERVLET, database, properties);
+    }
+
+    /**
+     * Levanta el sistema con la base de datos H2 y sin mensajes de bitácora de nivel informativo; el esquema lo crean
+     * las migraciones de db/migration al iniciar. Las propiedades se entregan como argumentos de línea de comandos para
+     * que tengan prioridad sobre application.properties
+     *
+     * @param type Tipo de aplicación web
+     * @param database Nombre de la base de datos en memoria
+     * @param properties Propiedades adicionales o que reemplazan las anteriores, en formato clave=valor
+     * @return Contexto de la aplicación
+     *
+     * @since 1.1.0
+     */
+    private static ConfigurableApplicationContext run(
+            WebApplicationType type,
+            String database,
+            String... properties
+    ) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        var arguments = new ArrayList<String>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:" + database
+                        + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"
+        ));
+        for (var property : properties) {
+            arguments.add("--" + property);
+        }
+        return new SpringApplicationBuilder(SistemaDemoDeContactosApplication.class)
+                .web(type)
+                .run(arguments.toArray(new String[0]));
+    }
+
+    /**
+     * Puebla la base de datos con contactos generados, cada uno con {@link #TELEFONOS_POR_CONTACTO} teléfonos, usando
+     * la importación masiva del sistema
+     *
+     * @param context Contexto de la aplicación
+     * @param contactos Cantidad de contactos a generar
+     * @throws IOException si no es posible escribir el archivo temporal de la importación
+     *
+     * @since 1.1.0
+     */
+    public static void seed(ConfigurableApplicationContext context, int contactos) throws IOException {
+        var mapper = context.getBean(ObjectMapper.class);
+        var random = new Random(SEED);
+        var file = Files.createTempFile("contactos-", ".ndjson");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (int i = 0; i < contactos; i++) {
+                    var telefonos = new String[TELEFONOS_POR_CONTACTO];
+                    for (int j = 0; j < TELEFONOS_POR_CONTACTO; j++) {
+                        telefonos[j] = String.format("+57 3%02d %07d", random.nextInt(100), random.nextInt(10_000_000));
+                    }
+                    writer.write(mapper.writeValueAsString(Map.of(
+                            "nombre", NOMBRES[random.nextInt(NOMBRES.length)],
+                            "apellido", APELLIDOS[random.nextInt(APELLIDOS.length)] + " "
+                                    + APELLIDOS[random.nextInt(APELLIDOS.length)],
+                            "telefonos", List.of(telefonos)
+                    )));
+                    writer.write('\n');
+                }
+            }
+            try (var input = Files.newInputStream(file)) {
+                var result = context.getBean(ImportacionService.class).importar(input, ImportFormat.NDJSON);
+                if (result.imported != contactos) {
+                    throw new IllegalStateException("Solo se importaron " + result.imported + " de " + contactos);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.sofka.contactos.perf;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.domain.Telefono;
+import com.sofka.contactos.service.LibretaService;
+import com.sofka.contactos.utility.KeysetPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de las operaciones más usadas de {@link LibretaService} sobre una base de datos H2 embebida poblada con
+ * {@link #contactos} contactos
+ *
+ * La caché está deshabilitada para medir el servicio y las consultas, no los aciertos de la caché. Con un millón de
+ * contactos getList y getListSorted cargan toda la tabla en cada operación; pueden excluirse con el patrón de JMH
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LibretaServiceBenchmark {
+
+    /**
+     * Términos de búsqueda, mezcla de palabras completas, prefijos, fragmentos, varios términos y términos sin
+     * resultados
+     */
+    private static final String[] TERMINOS = {
+            "julian", "lasso", "mar", "gonz", "ez", "rodriguez", "ana", "sebas", "flo", "zzz", "herrera", "lu",
+            "maria gomez", "julian lasso"
+    };
+
+    /**
+     * Cantidad de contactos con los que se puebla la base de datos
+     */
+    @Param({"1000", "100000", "1000000"})
+    public int contactos;
+
+    /**
+     * Motor de búsqueda de contactos
+     */
+    @Param({"trigram", "lucene"})
+    public String motor;
+
+    /**
+     * Contexto de la aplicación
+     */
+    private ConfigurableApplicationContext context;
+
+    /**
+     * Servicio medido
+     */
+    private LibretaService libretaService;
+
+    /**
+     * Cursor de una página en la mitad de la libreta, ordenada por identificador
+     */
+    private String middleCursor;
+
+    /**
+     * Estado de cada hilo con el generador de valores aleatorios de las operaciones
+     */
+    @State(Scope.Thread)
+    public static class Operacion {
+
+        private final SplittableRandom random = new SplittableRandom(BenchmarkContext.SEED);
+
+        int contactoId(int contactos) {
+            return 1 + random.nextInt(contactos);
+        }
+
+        int telefonoId(int contactos) {
+            return 1 + random.nextInt(contactos * BenchmarkContext.TELEFONOS_POR_CONTACTO);
+        }
+
+        String termino() {
+            return TERMINOS[random.nextInt(TERMINOS.length)];
+        }
+
+        String nombre() {
+            return BenchmarkContext.NOMBRES[random.nextInt(BenchmarkContext.NOMBRES.length)];
+        }
+
+        String apellido() {
+            return BenchmarkContext.APELLIDOS[random.nextInt(BenchmarkContext.APELLIDOS.length)];
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkContext.start(
+                "libreta-" + contactos + "-" + motor, "spring.cache.type=none", "libreta.search.engine=" + motor
+        );
+        BenchmarkContext.seed(context, contactos);
+        libretaService = context.getBean(LibretaService.class);
+        var cursor = (String) null;
+        for (int visited = 0; visited < contactos / 2; visited += LibretaService.MAX_PAGE_SIZE) {
+            cursor = libretaService.getPage(cursor, LibretaService.MAX_PAGE_SIZE, false).nextCursor;
+        }
+        middleCursor = cursor;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Contacto> search(Operacion operacion) {
+        return libretaService.searchContacto(operacion.termino(), LibretaService.DEFAULT_PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public List<Contacto> searchWithTelefonos(Operacion operacion) {
+        return libretaService.searchContacto(operacion.termino(), LibretaService.DEFAULT_PAGE_SIZE, true);
+    }
+
+    @Benchmark
+    public KeysetPage<Contacto> getPage() {
+        return libretaService.getPage(null, LibretaService.DEFAULT_PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public KeysetPage<Contacto> getPageMiddle() {
+        return libretaService.getPage(middleCursor, LibretaService.DEFAULT_PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public KeysetPage<Contacto> getPageSorted() {
+        return libretaService.getPage("apellido", Sort.Direction.ASC, null, LibretaService.DEFAULT_PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public KeysetPage<Contacto> getPageWithTelefonos() {
+        return libretaService.getPage(null, LibretaService.DEFAULT_PAGE_SIZE, true);
+    }
+
+    @Benchmark
+    public List<Contacto> getList() {
+        return libretaService.getList();
+    }
+
+    @Benchmark
+    public List<Contacto> getListSorted() {
+        return libretaService.getList("apellido", Sort.Direction.ASC);
+    }
+
+    @Benchmark
+    public Contacto updateNombre(Operacion operacion) {
+        var contacto = new Contacto();
+        contacto.setNombre(operacion.nombre());
+        return libretaService.updateNombre(operacion.contactoId(contactos), contacto);
+    }
+
+    @Benchmark
+    public Contacto updateApellidos(Operacion operacion) {
+        var contacto = new Contacto();
+        contacto.setApellido(operacion.apellido() + " " + operacion.apellido());
+        return libretaService.updateApellidos(operacion.contactoId(contactos), contacto);
+    }
+
+    @Benchmark
+    public Telefono updateOnlyTelefono(Operacion operacion) {
+        var telefono = new Telefono();
+        telefono.setTelefono(String.format("+57 300 %07d", operacion.contactoId(10_000_000)));
+        return libretaService.updateOnlyTelefono(operacion.telefonoId(contactos), telefono);
+    }
+}
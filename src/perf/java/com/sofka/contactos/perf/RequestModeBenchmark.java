@@ -0,0 +1,153 @@
+package com.sofka.contactos.perf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el modo de ejecución síncrono con el modo asíncrono acotado (libreta.async.enabled) atendiendo peticiones
+ * HTTP de búsqueda y de consulta por identificador desde {@link #CLIENTES} clientes concurrentes, con Tomcat limitado a
+ * {@link #TOMCAT_THREADS} hilos y la caché deshabilitada
+ *
+ * Además del rendimiento y la latencia, al terminar cada ejecución se imprime el máximo de hilos vivos y la memoria
+ * usada del heap, para comprobar que el modo asíncrono atiende más peticiones concurrentes sin crear más hilos
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Threads(RequestModeBenchmark.CLIENTES)
+public class RequestModeBenchmark {
+
+    /**
+     * Cantidad de clientes concurrentes
+     */
+    public static final int CLIENTES = 128;
+
+    /**
+     * Cantidad máxima de hilos de Tomcat
+     */
+    public static final int TOMCAT_THREADS = 16;
+
+    /**
+     * Cantidad de contactos con los que se puebla la base de datos
+     */
+    private static final int CONTACTOS = 100_000;
+
+    /**
+     * Términos de búsqueda
+     */
+    private static final String[] TERMINOS = {"julian", "lasso", "mar", "gonz", "ez", "rodriguez", "ana", "flo"};
+
+    /**
+     * Modo de ejecución de las peticiones
+     */
+    @Param({"false", "true"})
+    public boolean async;
+
+    /**
+     * Contexto de la aplicación
+     */
+    private ConfigurableApplicationContext context;
+
+    /**
+     * Cliente HTTP compartido por todos los hilos
+     */
+    private HttpClient client;
+
+    /**
+     * Dirección base del sistema
+     */
+    private String baseUrl;
+
+    /**
+     * Estado de cada hilo con el generador de valores aleatorios de las peticiones
+     */
+    @State(Scope.Thread)
+    public static class Cliente {
+
+        private final SplittableRandom random = new SplittableRandom(BenchmarkContext.SEED);
+
+        String termino() {
+            return TERMINOS[random.nextInt(TERMINOS.length)];
+        }
+
+        int contactoId() {
+            return 1 + random.nextInt(CONTACTOS);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkContext.startServer(
+                "modo-" + async,
+                "libreta.async.enabled=" + async,
+                "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "server.tomcat.accept-count=" + CLIENTES,
+                "spring.cache.type=none"
+        );
+        BenchmarkContext.seed(context, CONTACTOS);
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        var threads = ManagementFactory.getThreadMXBean();
+        var heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        System.out.printf(
+                "%nasync=%s: máximo de hilos vivos %d, heap usado %d MB%n",
+                async, threads.getPeakThreadCount(), heap.getUsed() / (1024 * 1024)
+        );
+        context.close();
+    }
+
+    @Benchmark
+    public int search(Cliente cliente) throws IOException, InterruptedException {
+        return get("/api/v1/search/contact/" + cliente.termino());
+    }
+
+    @Benchmark
+    public int getContacto(Cliente cliente) throws IOException, InterruptedException {
+        return get("/api/v1/contact/" + cliente.contactoId() + "?include=telefonos");
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Respuesta " + response.statusCode() + " para " + path);
+        }
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,145 @@
+package com.sofka.contactos.perf;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sofka.contactos.config.JacksonConfig;
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.domain.Telefono;
+import com.sofka.contactos.utility.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la codificación y decodificación del objeto Response con listados de contactos y sus teléfonos en
+ * JSON, CBOR y Smile, usando los mismos serializadores que configura el sistema; el tamaño de cada respuesta se
+ * imprime al preparar la ejecución
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ResponseFormatBenchmark {
+
+    /**
+     * Tipo de la respuesta decodificada
+     */
+    private static final TypeReference<Response<List<Contacto>>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    /**
+     * Formato de la respuesta
+     */
+    @Param({"json", "cbor", "smile"})
+    public String formato;
+
+    /**
+     * Cantidad de contactos del listado
+     */
+    @Param({"1000", "100000"})
+    public int contactos;
+
+    /**
+     * Contexto con la configuración de Jackson del sistema
+     */
+    private ConfigurableApplicationContext context;
+
+    /**
+     * Serializador del formato
+     */
+    private ObjectMapper mapper;
+
+    /**
+     * Respuesta a codificar
+     */
+    private Response<List<Contacto>> response;
+
+    /**
+     * Respuesta codificada a decodificar
+     */
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(JacksonAutoConfiguration.class, JacksonConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.main.banner-mode=off", "logging.level.root=WARN")
+                .run();
+        switch (formato) {
+            case "cbor":
+                mapper = context.getBean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper();
+                break;
+            case "smile":
+                mapper = context.getBean(MappingJackson2SmileHttpMessageConverter.class).getObjectMapper();
+                break;
+            default:
+                mapper = context.getBean(ObjectMapper.class);
+                break;
+        }
+        var now = Instant.now();
+        var list = new ArrayList<Contacto>(contactos);
+        for (int i = 0; i < contactos; i++) {
+            var contacto = new Contacto();
+            contacto.setId(i + 1);
+            contacto.setNombre(BenchmarkContext.NOMBRES[i % BenchmarkContext.NOMBRES.length]);
+            contacto.setApellido(BenchmarkContext.APELLIDOS[i % BenchmarkContext.APELLIDOS.length]);
+            contacto.setCreatedAt(now);
+            contacto.setUpdatedAt(now);
+            for (int j = 0; j < BenchmarkContext.TELEFONOS_POR_CONTACTO; j++) {
+                var id = i * BenchmarkContext.TELEFONOS_POR_CONTACTO + j;
+                var telefono = new Telefono();
+                telefono.setId(id + 1);
+                telefono.setContacto(contacto);
+                telefono.setTelefono(String.format("+57 300 %07d", id));
+                telefono.setCreatedAt(now);
+                contacto.getTelefonos().add(telefono);
+            }
+            list.add(contacto);
+        }
+        response = Response.ok(list);
+        encoded = mapper.writeValueAsBytes(response);
+        System.out.printf("%n%s, %d contactos: %d bytes%n", formato, contactos, encoded.length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Response<List<Contacto>> decode() throws IOException {
+        return mapper.readValue(encoded, RESPONSE_TYPE);
+    }
+}
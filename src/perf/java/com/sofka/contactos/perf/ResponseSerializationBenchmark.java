@@ -0,0 +1,112 @@
+package com.sofka.contactos.perf;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sofka.contactos.config.JacksonConfig;
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.domain.Telefono;
+import com.sofka.contactos.utility.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la serialización JSON del objeto Response con listados de contactos y sus teléfonos, usando el mismo
+ * ObjectMapper que configura el sistema
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    /**
+     * Cantidad de contactos del listado
+     */
+    @Param({"1", "50", "1000"})
+    public int contactos;
+
+    /**
+     * Cantidad de teléfonos de cada contacto
+     */
+    @Param({"0", "2"})
+    public int telefonos;
+
+    /**
+     * Contexto con la configuración de Jackson del sistema
+     */
+    private ConfigurableApplicationContext context;
+
+    /**
+     * Serializador del sistema
+     */
+    private ObjectMapper mapper;
+
+    /**
+     * Respuesta a serializar
+     */
+    private Response<List<Contacto>> response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(JacksonAutoConfiguration.class, JacksonConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.main.banner-mode=off", "logging.level.root=WARN")
+                .run();
+        mapper = context.getBean(ObjectMapper.class);
+        var now = Instant.now();
+        var list = new ArrayList<Contacto>(contactos);
+        for (int i = 0; i < contactos; i++) {
+            var contacto = new Contacto();
+            contacto.setId(i + 1);
+            contacto.setNombre(BenchmarkContext.NOMBRES[i % BenchmarkContext.NOMBRES.length]);
+            contacto.setApellido(BenchmarkContext.APELLIDOS[i % BenchmarkContext.APELLIDOS.length]);
+            contacto.setCreatedAt(now);
+            contacto.setUpdatedAt(now);
+            for (int j = 0; j < telefonos; j++) {
+                var telefono = new Telefono();
+                telefono.setId(i * telefonos + j + 1);
+                telefono.setContacto(contacto);
+                telefono.setTelefono(String.format("+57 300 %07d", i * telefonos + j));
+                telefono.setCreatedAt(now);
+                contacto.getTelefonos().add(telefono);
+            }
+            list.add(contacto);
+        }
+        response = Response.ok(list);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(response);
+    }
+}
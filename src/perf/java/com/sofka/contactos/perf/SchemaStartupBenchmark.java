@@ -0,0 +1,60 @@
+package com.sofka.contactos.perf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el tiempo de inicio del sistema sobre un esquema ya existente, como al reiniciar una instancia, entre las
+ * migraciones versionadas (Flyway solo revisa su historial y Hibernate no inspecciona el esquema) y la generación del
+ * esquema con spring.jpa.hibernate.ddl-auto=update
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SchemaStartupBenchmark {
+
+    /**
+     * Forma de administrar el esquema
+     */
+    @Param({"migrations", "update"})
+    public String esquema;
+
+    /**
+     * Nombre de la base de datos en memoria, se conserva entre inicios mientras viva la JVM
+     */
+    private String database;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = "inicio-" + esquema;
+        BenchmarkContext.start(database).close();
+    }
+
+    @Benchmark
+    public void start() {
+        if ("update".equals(esquema)) {
+            BenchmarkContext.start(database, "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=update")
+                    .close();
+        } else {
+            BenchmarkContext.start(database).close();
+        }
+    }
+}
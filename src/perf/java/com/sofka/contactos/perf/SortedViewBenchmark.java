@@ -0,0 +1,170 @@
+package com.sofka.contactos.perf;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.service.LibretaService;
+import com.sofka.contactos.sortedview.SortedViews;
+import com.sofka.contactos.utility.KeysetPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara las páginas ordenadas por varios campos resueltas con las vistas ordenadas en memoria contra las resueltas
+ * con los índices de la base de datos, y el costo que agregan las vistas a cada cambio de un contacto
+ *
+ * Al iniciar cada combinación se imprime la memoria que ocupan las vistas configuradas por contacto, medida
+ * construyendo una copia de las vistas entre dos recolecciones de basura
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SortedViewBenchmark {
+
+    /**
+     * Campos por los que se ordenan las páginas medidas
+     */
+    private static final String ORDER_BY = "apellido,nombre";
+
+    /**
+     * Cantidad de contactos con los que se puebla la base de datos
+     */
+    @Param({"1000", "100000", "1000000"})
+    public int contactos;
+
+    /**
+     * Vistas ordenadas configuradas, vacío para resolver las páginas con la base de datos
+     */
+    @Param({"", "nombre;apellido;apellido,nombre;nombre,apellido"})
+    public String vistas;
+
+    /**
+     * Contexto de la aplicación
+     */
+    private ConfigurableApplicationContext context;
+
+    /**
+     * Servicio medido
+     */
+    private LibretaService libretaService;
+
+    /**
+     * Cursor de una página en la mitad de la libreta ordenada por {@link #ORDER_BY}
+     */
+    private String middleCursor;
+
+    /**
+     * Estado de cada hilo con el generador de valores aleatorios de las operaciones
+     */
+    @State(Scope.Thread)
+    public static class Operacion {
+
+        private final SplittableRandom random = new SplittableRandom(BenchmarkContext.SEED);
+
+        int contactoId(int contactos) {
+            return 1 + random.nextInt(contactos);
+        }
+
+        String nombre() {
+            return BenchmarkContext.NOMBRES[random.nextInt(BenchmarkContext.NOMBRES.length)];
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkContext.start(
+                "vistas-" + contactos + "-" + vistas.isEmpty(), "spring.cache.type=none", "libreta.sorted-views=" + vistas
+        );
+        BenchmarkContext.seed(context, contactos);
+        libretaService = context.getBean(LibretaService.class);
+        var cursor = (String) null;
+        for (int visited = 0; visited < contactos / 2; visited += LibretaService.MAX_PAGE_SIZE) {
+            cursor = libretaService.getPage(ORDER_BY, Sort.Direction.ASC, cursor, LibretaService.MAX_PAGE_SIZE, false)
+                    .nextCursor;
+        }
+        middleCursor = cursor;
+        if (!vistas.isEmpty()) {
+            printBytesPerContacto();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public KeysetPage<Contacto> getPageSorted() {
+        return libretaService.getPage(ORDER_BY, Sort.Direction.ASC, null, LibretaService.DEFAULT_PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public KeysetPage<Contacto> getPageSortedMiddle() {
+        return libretaService.getPage(
+                ORDER_BY, Sort.Direction.ASC, middleCursor, LibretaService.DEFAULT_PAGE_SIZE, false
+        );
+    }
+
+    @Benchmark
+    public KeysetPage<Contacto> getPageSortedDesc() {
+        return libretaService.getPage(ORDER_BY, Sort.Direction.DESC, null, LibretaService.DEFAULT_PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public Contacto updateNombre(Operacion operacion) {
+        var contacto = new Contacto();
+        contacto.setNombre(operacion.nombre());
+        return libretaService.updateNombre(operacion.contactoId(contactos), contacto);
+    }
+
+    /**
+     * Imprime la memoria que ocupan por contacto las vistas configuradas, construyendo una copia de ellas
+     */
+    private void printBytesPerContacto() {
+        var before = usedHeap();
+        var copy = context.getAutowireCapableBeanFactory().createBean(SortedViews.class);
+        copy.rebuild();
+        var after = usedHeap();
+        System.out.printf(
+                "%nVistas [%s]: %d contactos, %.1f bytes por contacto%n",
+                vistas, copy.size(), (double) (after - before) / copy.size()
+        );
+        Reference.reachabilityFence(copy);
+    }
+
+    /**
+     * Devuelve la memoria usada del heap después de recolectar la basura
+     *
+     * @return Bytes usados
+     */
+    private static long usedHeap() {
+        var memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,160 @@
+package com.sofka.contactos.perf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el tiempo desde que se lanza la JVM del sistema hasta su primera respuesta exitosa del listado de contactos,
+ * sobre una base de datos H2 embebida, con y sin el archivo de clases compartidas y con y sin el perfil production
+ *
+ * Cada medición inicia un proceso nuevo con la distribución del perfil Maven cds, por lo que antes de ejecutarlo debe
+ * generarse con mvn -Pcds package; las rutas del jar y del archivo se cambian con -Dstartup.jar y -Dstartup.archive
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+
+    /**
+     * Tiempo máximo de espera de la primera respuesta
+     */
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    /**
+     * Pausa entre intentos mientras el sistema no responde
+     */
+    private static final long POLL_MILLIS = 10;
+
+    /**
+     * Uso del archivo de clases compartidas
+     */
+    @Param({"false", "true"})
+    public boolean cds;
+
+    /**
+     * Perfil de Spring con el que se inicia el sistema
+     */
+    @Param({"default", "production"})
+    public String perfil;
+
+    /**
+     * Jar de la distribución
+     */
+    private Path jar;
+
+    /**
+     * Archivo de clases compartidas
+     */
+    private Path archive;
+
+    /**
+     * Cliente HTTP para las peticiones de prueba
+     */
+    private HttpClient client;
+
+    /**
+     * Proceso del sistema de la medición en curso
+     */
+    private Process process;
+
+    /**
+     * Dirección del listado de contactos de la medición en curso
+     */
+    private URI url;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jar = Path.of(System.getProperty("startup.jar", "target/contactos-0.0.1-SNAPSHOT.jar"));
+        archive = Path.of(System.getProperty("startup.archive", "target/contactos.jsa"));
+        if (!Files.exists(jar) || (cds && !Files.exists(archive))) {
+            throw new IllegalStateException("No existe " + jar + " o " + archive + ", ejecute mvn -Pcds package");
+        }
+        client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    }
+
+    @Setup(Level.Invocation)
+    public void prepare() throws IOException {
+        int port;
+        try (var socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        url = URI.create("http://localhost:" + port + "/api/v1/index");
+        var command = new ArrayList<String>(List.of("java"));
+        if (cds) {
+            command.add("-XX:SharedArchiveFile=" + archive);
+        }
+        command.addAll(List.of(
+                "-jar", jar.toString(),
+                "--spring.profiles.active=" + perfil,
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:inicio;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driverClassName=org.h2.Driver"
+        ));
+        process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+    }
+
+    @Benchmark
+    public int firstRequest() throws IOException, InterruptedException {
+        var deadline = System.nanoTime() + TIMEOUT.toNanos();
+        var request = HttpRequest.newBuilder(url).GET().build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("El sistema terminó con código " + process.exitValue());
+            }
+            try {
+                var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return response.statusCode();
+                }
+            } catch (ConnectException exception) {
+                // El servidor todavía no acepta conexiones
+            }
+            Thread.sleep(POLL_MILLIS);
+        }
+        throw new IllegalStateException("El sistema no respondió en " + TIMEOUT);
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.sofka.contactos.perf.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Proporción de cada operación en la prueba de carga, se indica como operacion:peso separados por comas, por ejemplo
+ * index:30,search:25,create:10
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class LoadMix {
+
+    /**
+     * Operaciones con peso mayor que cero
+     */
+    private final LoadOperation[] operations;
+
+    /**
+     * Peso acumulado de cada operación
+     */
+    private final int[] cumulative;
+
+    /**
+     * Peso de cada operación
+     */
+    private final Map<LoadOperation, Integer> weights;
+
+    /**
+     * Constructor de la clase
+     *
+     * @param mix Pesos de las operaciones, operacion:peso separados por comas
+     * @throws IllegalArgumentException si alguna operación no existe, está repetida o su peso no es válido
+     *
+     * @since 1.1.0
+     */
+    public LoadMix(String mix) {
+        weights = new EnumMap<>(LoadOperation.class);
+        for (var part : mix.split(",")) {
+            var pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("La mezcla " + mix + " no es válida, use operacion:peso");
+            }
+            var operation = LoadOperation.fromKey(pair[0].trim());
+            int weight;
+            try {
+                weight = Integer.parseInt(pair[1].trim());
+            } catch (NumberFormatException exception) {
+                throw new IllegalArgumentException("El peso de " + pair[0].trim() + " no es un número", exception);
+            }
+            if (weight < 0 || weights.putIfAbsent(operation, weight) != null) {
+                throw new IllegalArgumentException("El peso de " + pair[0].trim() + " es negativo o está repetido");
+            }
+        }
+        operations = weights.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .toArray(LoadOperation[]::new);
+        if (operations.length == 0) {
+            throw new IllegalArgumentException("La mezcla debe tener al menos una operación con peso");
+        }
+        cumulative = new int[operations.length];
+        var total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += weights.get(operations[i]);
+            cumulative[i] = total;
+        }
+    }
+
+    /**
+     * Elige la siguiente operación según los pesos
+     *
+     * @param random Generador de valores aleatorios
+     * @return Operación
+     *
+     * @since 1.1.0
+     */
+    public LoadOperation next(SplittableRandom random) {
+        var value = random.nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (value < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        var text = new StringBuilder();
+        for (var entry : weights.entrySet()) {
+            if (text.length() > 0) {
+                text.append(',');
+            }
+            text.append(entry.getKey().key()).append(':').append(entry.getValue());
+        }
+        return text.toString();
+    }
+}
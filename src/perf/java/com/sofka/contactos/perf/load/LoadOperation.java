@@ -0,0 +1,169 @@
+package com.sofka.contactos.perf.load;
+
+import com.sofka.contactos.perf.BenchmarkContext;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Operaciones de LibretaController que reproduce la prueba de carga
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public enum LoadOperation {
+
+    /**
+     * Primera página del listado ordenado por identificador
+     */
+    INDEX {
+        @Override
+        HttpRequest request(LoadTarget target, SplittableRandom random) {
+            return target.request("/api/v1/index").GET().build();
+        }
+    },
+
+    /**
+     * Primera página del listado ordenado por uno o varios campos, ascendente o descendente
+     */
+    ORDERBY {
+        @Override
+        HttpRequest request(LoadTarget target, SplittableRandom random) {
+            var orderBy = ORDER_BY[random.nextInt(ORDER_BY.length)];
+            var order = random.nextBoolean() ? "ASC" : "DESC";
+            return target.request("/api/v1/index/orderby/" + orderBy + "/" + order).GET().build();
+        }
+    },
+
+    /**
+     * Búsqueda por nombre y/o apellidos
+     */
+    SEARCH {
+        @Override
+        HttpRequest request(LoadTarget target, SplittableRandom random) {
+            var termino = URLEncoder.encode(TERMINOS[random.nextInt(TERMINOS.length)], StandardCharsets.UTF_8)
+                    .replace("+", "%20");
+            return target.request("/api/v1/search/contact/" + termino).GET().build();
+        }
+    },
+
+    /**
+     * Creación de un contacto
+     */
+    CREATE {
+        @Override
+        HttpRequest request(LoadTarget target, SplittableRandom random) {
+            var body = target.json(Map.of("nombre", nombre(random), "apellido", apellido(random)));
+            return target.request("/api/v1/contact")
+                    .header("Content-Type", "application/json")
+                    .POST(body)
+                    .build();
+        }
+
+        @Override
+        void completed(LoadTarget target, byte[] body) throws IOException {
+            target.created(body);
+        }
+    },
+
+    /**
+     * Actualización del nombre de un contacto de la población inicial
+     */
+    PATCH {
+        @Override
+        HttpRequest request(LoadTarget target, SplittableRandom random) {
+            var body = target.json(Map.of("nombre", nombre(random)));
+            return target.request("/api/v1/contact/" + target.randomContactoId(random) + "/name")
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", body)
+                    .build();
+        }
+    },
+
+    /**
+     * Borrado de un contacto creado por la prueba
+     */
+    DELETE {
+        @Override
+        HttpRequest request(LoadTarget target, SplittableRandom random) {
+            var id = target.takeCreated();
+            return id == null ? null : target.request("/api/v1/contact/" + id).DELETE().build();
+        }
+    };
+
+    /**
+     * Campos por los que se ordenan los listados
+     */
+    private static final String[] ORDER_BY = {"nombre", "apellido", "createdAt", "apellido,nombre"};
+
+    /**
+     * Términos de búsqueda, mezcla de palabras completas, prefijos, fragmentos, varios términos y términos sin
+     * resultados
+     */
+    private static final String[] TERMINOS = {
+            "julian", "lasso", "mar", "gonz", "ez", "rodriguez", "ana", "sebas", "flo", "zzz", "herrera", "lu",
+            "maria gomez", "julian lasso"
+    };
+
+    /**
+     * Nombre de la operación en la mezcla y en los reportes
+     *
+     * @return Nombre en minúsculas
+     *
+     * @since 1.1.0
+     */
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Crea la petición de la operación
+     *
+     * @param target Sistema contra el que se ejecuta la prueba
+     * @param random Generador de valores aleatorios
+     * @return Petición o null si la operación no se puede hacer en este momento
+     */
+    abstract HttpRequest request(LoadTarget target, SplittableRandom random);
+
+    /**
+     * Procesa la respuesta exitosa de la operación
+     *
+     * @param target Sistema contra el que se ejecuta la prueba
+     * @param body Cuerpo de la respuesta
+     * @throws IOException si la respuesta no es la esperada
+     */
+    void completed(LoadTarget target, byte[] body) throws IOException {
+    }
+
+    /**
+     * Busca una operación por su nombre
+     *
+     * @param key Nombre de la operación
+     * @return Operación
+     * @throws IllegalArgumentException si la operación no existe
+     *
+     * @since 1.1.0
+     */
+    public static LoadOperation fromKey(String key) {
+        for (var operation : values()) {
+            if (operation.key().equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("La operación " + key + " no existe");
+    }
+
+    private static String nombre(SplittableRandom random) {
+        return BenchmarkContext.NOMBRES[random.nextInt(BenchmarkContext.NOMBRES.length)];
+    }
+
+    private static String apellido(SplittableRandom random) {
+        return BenchmarkContext.APELLIDOS[random.nextInt(BenchmarkContext.APELLIDOS.length)] + " "
+                + BenchmarkContext.APELLIDOS[random.nextInt(BenchmarkContext.APELLIDOS.length)];
+    }
+}
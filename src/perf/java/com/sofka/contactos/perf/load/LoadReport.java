@@ -0,0 +1,209 @@
+package com.sofka.contactos.perf.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias y resultados de la prueba de carga por operación
+ *
+ * Se guardan dos latencias por petición: la corregida, desde el instante en que la petición debía enviarse según la
+ * frecuencia objetivo hasta su respuesta, y el tiempo de servicio, desde que realmente se envió. Si el sistema o el
+ * generador se atrasan, la latencia corregida incluye la espera que habría sufrido un usuario real, es la que se usa
+ * para comparar versiones; el tiempo de servicio solo sirve para ver cuánto de esa latencia es cola
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class LoadReport {
+
+    /**
+     * Dígitos significativos de los histogramas
+     */
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    /**
+     * Microsegundos por milisegundo, escala de los reportes
+     */
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    /**
+     * Encabezado de resumen.csv
+     */
+    private static final String CSV_HEADER =
+            "operacion,peticiones,errores,omitidas,p50_ms,p95_ms,p99_ms,max_ms,throughput_rps,p99_servicio_ms";
+
+    /**
+     * Resultados de cada operación
+     */
+    private final Map<LoadOperation, Stats> stats = new EnumMap<>(LoadOperation.class);
+
+    /**
+     * Instante en nanosegundos de la última respuesta medida
+     */
+    private final LongAccumulator lastResponse = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    /**
+     * Constructor de la clase
+     *
+     * @since 1.1.0
+     */
+    public LoadReport() {
+        for (var operation : LoadOperation.values()) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    /**
+     * Registra la respuesta de una petición
+     *
+     * @param operation Operación
+     * @param scheduledAt Instante en nanosegundos en que debía enviarse la petición
+     * @param sentAt Instante en nanosegundos en que se envió
+     * @param respondedAt Instante en nanosegundos de la respuesta o del error
+     * @param success true si la respuesta fue exitosa
+     *
+     * @since 1.1.0
+     */
+    public void record(LoadOperation operation, long scheduledAt, long sentAt, long respondedAt, boolean success) {
+        var operationStats = stats.get(operation);
+        operationStats.latency.recordValue(toMicros(respondedAt - scheduledAt));
+        operationStats.service.recordValue(toMicros(respondedAt - sentAt));
+        (success ? operationStats.successes : operationStats.errors).increment();
+        lastResponse.accumulate(respondedAt);
+    }
+
+    /**
+     * Registra una petición que no se hizo porque la operación no era posible, por ejemplo borrar sin contactos
+     * creados por la prueba
+     *
+     * @param operation Operación
+     *
+     * @since 1.1.0
+     */
+    public void skipped(LoadOperation operation) {
+        stats.get(operation).skipped.increment();
+    }
+
+    /**
+     * Escribe los reportes en un directorio: resumen.txt con la configuración y la tabla de resultados, resumen.csv
+     * con la misma tabla para comparar versiones y un archivo .hgrm por operación con la distribución completa de la
+     * latencia corregida, en el formato de HdrHistogram
+     *
+     * @param directory Directorio de los reportes, se crea si no existe
+     * @param configuration Configuración de la prueba, se copia al resumen
+     * @param measureFrom Instante en nanosegundos en que empezó la medición
+     * @param duration Duración de la medición en nanosegundos
+     * @return Contenido de resumen.txt
+     * @throws IOException si no es posible escribir los archivos
+     *
+     * @since 1.1.0
+     */
+    public String write(Path directory, Map<String, String> configuration, long measureFrom, long duration)
+            throws IOException {
+        Files.createDirectories(directory);
+        var last = lastResponse.get();
+        var elapsed = last == Long.MIN_VALUE ? duration : Math.max(duration, last - measureFrom);
+        var total = new Stats();
+        var summary = new StringBuilder();
+        configuration.forEach((key, value) -> summary.append(key).append(" = ").append(value).append('\n'));
+        summary.append('\n').append(String.format(Locale.ROOT,
+                "%-10s %10s %8s %8s %10s %10s %10s %10s %12s %12s%n",
+                "operacion", "peticiones", "errores", "omitidas", "p50 ms", "p95 ms", "p99 ms", "max ms",
+                "peticiones/s", "p99 serv. ms"
+        ));
+        var csvFile = directory.resolve("resumen.csv");
+        try (var csv = new PrintWriter(Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8))) {
+            csv.println(CSV_HEADER);
+            for (var entry : stats.entrySet()) {
+                var operationStats = entry.getValue();
+                if (operationStats.requests() + operationStats.skipped.sum() == 0) {
+                    continue;
+                }
+                total.add(operationStats);
+                write(directory, entry.getKey().key(), operationStats, elapsed, summary, csv);
+            }
+            write(directory, "total", total, elapsed, summary, csv);
+        }
+        var text = summary.toString();
+        Files.writeString(directory.resolve("resumen.txt"), text, StandardCharsets.UTF_8);
+        return text;
+    }
+
+    /**
+     * Escribe la fila de una operación en el resumen y su distribución de latencia
+     */
+    private static void write(
+            Path directory,
+            String name,
+            Stats stats,
+            long elapsed,
+            StringBuilder summary,
+            PrintWriter csv
+    ) throws IOException {
+        var throughput = stats.successes.sum() / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+        var latency = stats.latency;
+        summary.append(String.format(Locale.ROOT,
+                "%-10s %10d %8d %8d %10.2f %10.2f %10.2f %10.2f %12.1f %12.2f%n",
+                name, stats.requests(), stats.errors.sum(), stats.skipped.sum(),
+                millis(latency, 50), millis(latency, 95), millis(latency, 99), latency.getMaxValue() / MICROS_PER_MILLI,
+                throughput, millis(stats.service, 99)
+        ));
+        csv.printf(Locale.ROOT, "%s,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.2f,%.3f%n",
+                name, stats.requests(), stats.errors.sum(), stats.skipped.sum(),
+                millis(latency, 50), millis(latency, 95), millis(latency, 99), latency.getMaxValue() / MICROS_PER_MILLI,
+                throughput, millis(stats.service, 99)
+        );
+        try (var out = new PrintStream(Files.newOutputStream(directory.resolve(name + ".hgrm")), false, "UTF-8")) {
+            latency.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Resultados de una operación, las latencias en microsegundos
+     */
+    private static final class Stats {
+
+        private final Histogram latency = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+        private final Histogram service = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+        private final LongAdder successes = new LongAdder();
+
+        private final LongAdder errors = new LongAdder();
+
+        private final LongAdder skipped = new LongAdder();
+
+        private long requests() {
+            return successes.sum() + errors.sum();
+        }
+
+        private void add(Stats other) {
+            latency.add(other.latency);
+            service.add(other.service);
+            successes.add(other.successes.sum());
+            errors.add(other.errors.sum());
+            skipped.add(other.skipped.sum());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.sofka.contactos.perf.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Sistema contra el que se ejecuta la prueba de carga y los contactos que la prueba puede modificar
+ *
+ * Los contactos de la población inicial solo se leen y se actualizan; los borrados se hacen sobre los contactos creados
+ * por la misma prueba, así las lecturas y actualizaciones no fallan por contactos que ya no existen
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public class LoadTarget {
+
+    /**
+     * Dirección base del sistema
+     */
+    private final URI baseUri;
+
+    /**
+     * Cantidad de contactos de la población inicial, con identificadores de 1 a este valor
+     */
+    private final int contactos;
+
+    /**
+     * Tiempo máximo de espera de cada respuesta
+     */
+    private final Duration timeout;
+
+    /**
+     * Conversor de JSON
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * Identificadores de los contactos creados por la prueba que todavía no se han borrado
+     */
+    private final ConcurrentLinkedQueue<Integer> created = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Constructor de la clase
+     *
+     * @param baseUri Dirección base del sistema
+     * @param contactos Cantidad de contactos de la población inicial
+     * @param timeout Tiempo máximo de espera de cada respuesta
+     * @param mapper Conversor de JSON
+     *
+     * @since 1.1.0
+     */
+    public LoadTarget(URI baseUri, int contactos, Duration timeout, ObjectMapper mapper) {
+        this.baseUri = baseUri;
+        this.contactos = contactos;
+        this.timeout = timeout;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Crea una petición al sistema
+     *
+     * @param path Ruta de la petición
+     * @return Constructor de la petición con el tiempo máximo de espera
+     *
+     * @since 1.1.0
+     */
+    public HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(timeout);
+    }
+
+    /**
+     * Convierte un objeto a JSON para el cuerpo de una petición
+     *
+     * @param body Objeto a convertir
+     * @return Cuerpo de la petición
+     *
+     * @since 1.1.0
+     */
+    public HttpRequest.BodyPublisher json(Map<String, ?> body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("No fue posible convertir el cuerpo de la petición", exception);
+        }
+    }
+
+    /**
+     * Elige al azar un contacto de la población inicial
+     *
+     * @param random Generador de valores aleatorios
+     * @return Identificador del contacto
+     *
+     * @since 1.1.0
+     */
+    public int randomContactoId(SplittableRandom random) {
+        return 1 + random.nextInt(contactos);
+    }
+
+    /**
+     * Registra el contacto creado por una respuesta para que pueda borrarse después
+     *
+     * @param body Cuerpo de la respuesta de la creación
+     * @throws IOException si la respuesta no tiene el identificador del contacto
+     *
+     * @since 1.1.0
+     */
+    public void created(byte[] body) throws IOException {
+        var id = mapper.readTree(body).path("data").path("id");
+        if (!id.canConvertToInt()) {
+            throw new IOException("La respuesta de la creación no tiene el identificador del contacto");
+        }
+        created.add(id.intValue());
+    }
+
+    /**
+     * Toma un contacto creado por la prueba para borrarlo
+     *
+     * @return Identificador del contacto o null si no hay contactos creados por borrar
+     *
+     * @since 1.1.0
+     */
+    public Integer takeCreated() {
+        return created.poll();
+    }
+}
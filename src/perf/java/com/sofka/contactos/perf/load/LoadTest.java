@@ -0,0 +1,216 @@
+package com.sofka.contactos.perf.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sofka.contactos.perf.BenchmarkContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Prueba de carga HTTP de LibretaController en modelo abierto sobre una base de datos H2 embebida
+ *
+ * Levanta el sistema, lo puebla con la cantidad de contactos indicada y envía peticiones con una mezcla de operaciones
+ * a una frecuencia objetivo, con tiempos entre llegadas exponenciales. Las peticiones se envían sin esperar las
+ * respuestas anteriores, como llegan los usuarios reales, y la latencia de cada una se mide desde el instante en que
+ * debía enviarse y no desde que se envió, así cuando el sistema se atrasa la espera cuenta en los percentiles en lugar
+ * de bajar la frecuencia (omisión coordinada). Los reportes quedan en un subdirectorio de output por ejecución
+ *
+ * Se ejecuta con mvn -Ploadtest test-compile exec:exec y los parámetros, en formato clave=valor, se indican con
+ * -Dloadtest.args; los que empiezan con dos guiones se entregan al sistema como propiedades de Spring. Parámetros:
+ * contactos, rate (peticiones por segundo), warmup y duration (segundos), mix (operacion:peso separados por comas),
+ * timeout (segundos por petición), threads (hilos del cliente HTTP) y output (directorio de los reportes)
+ *
+ * @version 1.0.0 2026-10-16
+ * @since 1.1.0
+ */
+public final class LoadTest {
+
+    /**
+     * Valores por defecto de los parámetros, en el orden en que se copian al reporte
+     */
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("contactos", "10000");
+        DEFAULTS.put("rate", "200");
+        DEFAULTS.put("warmup", "10");
+        DEFAULTS.put("duration", "60");
+        DEFAULTS.put("mix", "index:25,orderby:15,search:30,create:10,patch:15,delete:5");
+        DEFAULTS.put("timeout", "30");
+        DEFAULTS.put("threads", "16");
+        DEFAULTS.put("output", "target/loadtest");
+    }
+
+    /**
+     * Prefijo de los argumentos que se entregan al sistema como propiedades de Spring
+     */
+    private static final String PROPERTY_PREFIX = "--";
+
+    /**
+     * Pausa entre revisiones mientras se esperan las últimas respuestas
+     */
+    private static final long DRAIN_POLL_MILLIS = 10;
+
+    /**
+     * Formato del nombre del directorio de cada ejecución
+     */
+    private static final DateTimeFormatter RUN_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private LoadTest() {
+    }
+
+    /**
+     * Ejecuta la prueba de carga
+     *
+     * @param args Parámetros en formato clave=valor y propiedades de Spring en formato --clave=valor
+     * @throws IOException si no es posible poblar la base de datos o escribir los reportes
+     * @throws InterruptedException si se interrumpe la espera de las respuestas
+     *
+     * @since 1.1.0
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        var configuration = new LinkedHashMap<>(DEFAULTS);
+        var properties = new ArrayList<String>();
+        for (var arg : args) {
+            if (arg.startsWith(PROPERTY_PREFIX)) {
+                properties.add(arg.substring(PROPERTY_PREFIX.length()));
+                continue;
+            }
+            var pair = arg.split("=", 2);
+            if (pair.length != 2 || !DEFAULTS.containsKey(pair[0])) {
+                throw new IllegalArgumentException("Parámetro no válido " + arg + ", los parámetros son "
+                        + DEFAULTS.keySet());
+            }
+            configuration.put(pair[0], pair[1]);
+        }
+        var contactos = Integer.parseInt(configuration.get("contactos"));
+        var rate = Double.parseDouble(configuration.get("rate"));
+        var warmup = TimeUnit.SECONDS.toNanos(Long.parseLong(configuration.get("warmup")));
+        var duration = TimeUnit.SECONDS.toNanos(Long.parseLong(configuration.get("duration")));
+        var mix = new LoadMix(configuration.get("mix"));
+        var timeout = Duration.ofSeconds(Long.parseLong(configuration.get("timeout")));
+        var threads = Integer.parseInt(configuration.get("threads"));
+        var output = Path.of(configuration.get("output")).resolve(LocalDateTime.now().format(RUN_NAME));
+        if (contactos < 1 || rate <= 0 || duration <= 0) {
+            throw new IllegalArgumentException("contactos, rate y duration deben ser positivos");
+        }
+        configuration.put("mix", mix.toString());
+        configuration.put("spring", String.join(" ", properties));
+
+        var context = BenchmarkContext.startServer("carga", properties.toArray(new String[0]));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            var thread = new Thread(runnable, "carga-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            System.out.printf("Poblando la base de datos con %d contactos%n", contactos);
+            BenchmarkContext.seed(context, contactos);
+            var target = new LoadTarget(
+                    URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")),
+                    contactos,
+                    timeout,
+                    context.getBean(ObjectMapper.class)
+            );
+            var client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(timeout)
+                    .build();
+            var report = new LoadReport();
+            System.out.printf("Enviando %.1f peticiones por segundo durante %d s de calentamiento y %d s de medición%n",
+                    rate, TimeUnit.NANOSECONDS.toSeconds(warmup), TimeUnit.NANOSECONDS.toSeconds(duration));
+            var measureFrom = run(client, target, mix, report, rate, warmup, duration, timeout);
+            var summary = report.write(output, configuration, measureFrom, duration);
+            System.out.printf("%n%s%nReportes en %s%n", summary, output.toAbsolutePath());
+        } finally {
+            executor.shutdownNow();
+            context.close();
+        }
+    }
+
+    /**
+     * Envía las peticiones según la frecuencia objetivo y espera sus respuestas
+     *
+     * Un solo hilo despacha las peticiones en el instante programado para cada una; si se atrasa, las envía de
+     * inmediato sin reprogramar las siguientes. Solo se miden las peticiones programadas después del calentamiento
+     *
+     * @return Instante en nanosegundos en que empezó la medición
+     */
+    private static long run(
+            HttpClient client,
+            LoadTarget target,
+            LoadMix mix,
+            LoadReport report,
+            double rate,
+            long warmup,
+            long duration,
+            Duration timeout
+    ) throws InterruptedException {
+        var random = new SplittableRandom(BenchmarkContext.SEED);
+        var meanInterval = TimeUnit.SECONDS.toNanos(1) / rate;
+        var pending = new AtomicInteger();
+        var start = System.nanoTime();
+        var measureFrom = start + warmup;
+        var end = measureFrom + duration;
+        var scheduledAt = start;
+        while (scheduledAt < end) {
+            while (System.nanoTime() < scheduledAt) {
+                LockSupport.parkNanos(scheduledAt - System.nanoTime());
+            }
+            var operation = mix.next(random);
+            var measured = scheduledAt >= measureFrom;
+            var request = operation.request(target, random);
+            if (request == null) {
+                if (measured) {
+                    report.skipped(operation);
+                }
+            } else {
+                var scheduled = scheduledAt;
+                pending.incrementAndGet();
+                var sentAt = System.nanoTime();
+                client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((response, error) -> {
+                    var respondedAt = System.nanoTime();
+                    try {
+                        var success = error == null && response.statusCode() < 400;
+                        if (success) {
+                            try {
+                                operation.completed(target, response.body());
+                            } catch (IOException exception) {
+                                success = false;
+                            }
+                        }
+                        if (measured) {
+                            report.record(operation, scheduled, sentAt, respondedAt, success);
+                        }
+                    } finally {
+                        pending.decrementAndGet();
+                    }
+                });
+            }
+            scheduledAt += (long) (-Math.log(1 - random.nextDouble()) * meanInterval);
+        }
+        var deadline = System.nanoTime() + timeout.toNanos() * 2;
+        while (pending.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(DRAIN_POLL_MILLIS);
+        }
+        if (pending.get() > 0) {
+            System.out.printf("Quedaron %d peticiones sin respuesta%n", pending.get());
+        }
+        return measureFrom;
+    }
+}
@@ -0,0 +1,92 @@
+package com.sofka.contactos.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.EnumMap;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * El balde de cada cliente se elige por el usuario autenticado o la dirección IP; la cabecera del cliente solo cuenta
+ * cuando la petición llega desde un proxy de confianza
+ *
+ * Cada cliente tiene una ráfaga de dos lecturas y prácticamente no recupera fichas durante la prueba
+ */
+class AdmissionInterceptorTest {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    private static final String PROXY = "10.0.0.9";
+
+    private AdmissionInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        var limits = new EnumMap<EndpointClass, AdaptiveConcurrencyLimit>(EndpointClass.class);
+        for (var endpointClass : EndpointClass.values()) {
+            limits.put(endpointClass, new AdaptiveConcurrencyLimit(100, 100, 2.0, 0));
+        }
+        interceptor = new AdmissionInterceptor(
+                new ClientRateLimiter(0.001, 2, 1000),
+                limits,
+                CLIENT_HEADER,
+                Set.of(PROXY),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    void headerFromAnUntrustedAddressDoesNotGetANewBucket() {
+        admit(request("10.0.0.1", "uno", null));
+        admit(request("10.0.0.1", "dos", null));
+
+        assertRejected(request("10.0.0.1", "tres", null));
+        admit(request("10.0.0.2", "tres", null));
+    }
+
+    @Test
+    void headerFromATrustedProxyIdentifiesTheClient() {
+        admit(request(PROXY, "uno", null));
+        admit(request(PROXY, "uno", null));
+
+        assertRejected(request(PROXY, "uno", null));
+        admit(request(PROXY, "dos", null));
+        admit(request(PROXY, null, null));
+    }
+
+    @Test
+    void authenticatedUserIsTheClientFromAnyAddress() {
+        admit(request("10.0.0.1", null, "ana"));
+        admit(request("10.0.0.2", "otro", "ana"));
+
+        assertRejected(request(PROXY, "otro", "ana"));
+        admit(request("10.0.0.1", null, "luis"));
+    }
+
+    private void admit(MockHttpServletRequest request) {
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+    }
+
+    private void assertRejected(MockHttpServletRequest request) {
+        assertThrows(AdmissionRejectedException.class,
+                () -> interceptor.preHandle(request, new MockHttpServletResponse(), null));
+    }
+
+    private static MockHttpServletRequest request(String address, String client, String user) {
+        var request = new MockHttpServletRequest("GET", "/api/v1/index");
+        request.setRemoteAddr(address);
+        if (client != null) {
+            request.addHeader(CLIENT_HEADER, client);
+        }
+        if (user != null) {
+            request.setUserPrincipal(() -> user);
+        }
+        return request;
+    }
+}
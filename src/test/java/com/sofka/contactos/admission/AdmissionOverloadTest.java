@@ -0,0 +1,131 @@
+package com.sofka.contactos.admission;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.service.LibretaService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba de sobrecarga del control de admisión: mientras un cliente inunda las búsquedas, el p99 de un cliente que
+ * respeta su frecuencia se mantiene cerca del que tiene sin la inundación y ninguna de sus peticiones es rechazada
+ *
+ * Los dos clientes llegan desde la misma dirección local, que se configura como proxy de confianza para que la
+ * cabecera del cliente los distinga
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "libreta.admission.enabled=true",
+                "libreta.admission.rate-per-second=100",
+                "libreta.admission.burst=50",
+                "libreta.admission.search.max-concurrency=2",
+                "libreta.admission.trusted-proxies=127.0.0.1,0:0:0:0:0:0:0:1"
+        }
+)
+class AdmissionOverloadTest {
+
+    private static final int CONTACTS = 200;
+
+    private static final int REQUESTS = 200;
+
+    private static final long PAUSE_MILLIS = 20;
+
+    private static final int FLOOD_THREADS = 32;
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private LibretaService libretaService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void wellBehavedClientKeepsItsLatencyWhileAnotherFloodsSearches() throws Exception {
+        for (int i = 0; i < CONTACTS; i++) {
+            var contacto = new Contacto();
+            contacto.setNombre(String.format("admision%04d", i));
+            contacto.setApellido("sobrecarga");
+            libretaService.createContacto(contacto);
+        }
+
+        var baseline = wellBehaved();
+
+        var flooding = new AtomicBoolean(true);
+        var rejected = new AtomicInteger();
+        ExecutorService flood = Executors.newFixedThreadPool(FLOOD_THREADS);
+        try {
+            for (int i = 0; i < FLOOD_THREADS; i++) {
+                flood.submit(() -> {
+                    var request = request("/api/v1/search/contact/a", "abusivo");
+                    while (flooding.get()) {
+                        var status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status == 429 || status == 503) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            var overloaded = wellBehaved();
+
+            assertTrue(rejected.get() > 0, "El cliente que inunda las búsquedas no fue limitado");
+            assertTrue(
+                    p99(overloaded) <= Math.max(p99(baseline) * 5, p99(baseline) + TimeUnit.MILLISECONDS.toNanos(200)),
+                    () -> String.format(
+                            "p99 sin inundación %d ms, con inundación %d ms",
+                            TimeUnit.NANOSECONDS.toMillis(p99(baseline)),
+                            TimeUnit.NANOSECONDS.toMillis(p99(overloaded))
+                    )
+            );
+        } finally {
+            flooding.set(false);
+            flood.shutdown();
+            flood.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private long[] wellBehaved() throws Exception {
+        var request = request("/api/v1/index", "buen-cliente");
+        var latencies = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            var start = System.nanoTime();
+            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            latencies[i] = System.nanoTime() - start;
+            assertEquals(200, response.statusCode(), "Petición rechazada al cliente que respeta su frecuencia");
+            Thread.sleep(PAUSE_MILLIS);
+        }
+        return latencies;
+    }
+
+    private HttpRequest request(String path, String clientId) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(CLIENT_HEADER, clientId)
+                .GET()
+                .build();
+    }
+
+    private static long p99(long[] latencies) {
+        var sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(sorted.length * 0.99) - 1];
+    }
+}
@@ -0,0 +1,74 @@
+package com.sofka.contactos.backfill;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.domain.Telefono;
+import com.sofka.contactos.service.interfaces.ILibreta;
+import com.sofka.contactos.utility.NumeroTelefono;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * La normalización de los teléfonos pendientes asigna su número normalizado sin cambiar su versión, ni el número
+ * normalizado que un teléfono recibió en una actualización
+ */
+@SpringBootTest
+class NumeroTelefonoBackfillTest {
+
+    private static final String NUMERO = "+57 (300) 765-4321";
+
+    @Autowired
+    private NumeroTelefonoBackfill backfill;
+
+    @Autowired
+    private ILibreta libretaService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void normalizesPendingTelefonosWithoutChangingTheirVersion() {
+        var id = telefono(NUMERO);
+        jdbcTemplate.update("UPDATE telefono SET tel_numero_normalizado = NULL WHERE tel_id = ?", id);
+        var version = version(id);
+
+        backfill.run();
+
+        assertEquals(NumeroTelefono.normalize(NUMERO), numeroNormalizado(id));
+        assertEquals(version, version(id));
+    }
+
+    @Test
+    void keepsTheNumeroNormalizadoOfTelefonosAlreadyNormalized() {
+        var id = telefono(NUMERO);
+        jdbcTemplate.update("UPDATE telefono SET tel_numero_normalizado = 'propio' WHERE tel_id = ?", id);
+        var version = version(id);
+
+        backfill.run();
+
+        assertEquals("propio", numeroNormalizado(id));
+        assertEquals(version, version(id));
+    }
+
+    private Integer telefono(String numero) {
+        var contacto = new Contacto();
+        contacto.setNombre("pendiente");
+        contacto.setApellido("normalizar");
+        var telefono = new Telefono();
+        telefono.setContacto(libretaService.createContacto(contacto));
+        telefono.setTelefono(numero);
+        return libretaService.createTelefono(telefono).getId();
+    }
+
+    private Long version(Integer id) {
+        return jdbcTemplate.queryForObject("SELECT tel_version FROM telefono WHERE tel_id = ?", Long.class, id);
+    }
+
+    private String numeroNormalizado(Integer id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT tel_numero_normalizado FROM telefono WHERE tel_id = ?", String.class, id);
+    }
+}
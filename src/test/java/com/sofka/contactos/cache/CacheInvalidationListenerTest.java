@@ -0,0 +1,93 @@
+package com.sofka.contactos.cache;
+
+import com.sofka.contactos.config.CacheConfig;
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.service.interfaces.ILibreta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Un cambio local solo invalida las entradas del contacto que cambió, aunque las lecturas siguientes vean una versión
+ * mayor; un cambio de otra instancia vacía el cache
+ *
+ * Las lecturas pasan por {@link LibretaVersion#read} igual que las del controlador
+ */
+@SpringBootTest
+class CacheInvalidationListenerTest {
+
+    @Autowired
+    private ILibreta libretaService;
+
+    @Autowired
+    private LibretaVersion libretaVersion;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Cache contactos;
+
+    @BeforeEach
+    void setUp() {
+        contactos = cacheManager.getCache(CacheConfig.CONTACTOS);
+    }
+
+    @Test
+    void localChangesOnlyEvictTheChangedContacto() {
+        var changed = contacto("cambiado");
+        var untouched = contacto("intacto");
+        read(changed);
+        read(untouched);
+        assertTrue(cached(changed));
+        assertTrue(cached(untouched));
+
+        var update = new Contacto();
+        update.setNombre("renombrado");
+        update.setApellido("cache");
+        libretaService.updateContacto(changed, update);
+        assertFalse(cached(changed));
+        assertTrue(cached(untouched));
+
+        read(changed);
+        assertTrue(cached(changed));
+        assertTrue(cached(untouched));
+    }
+
+    @Test
+    void changesOfAnotherInstanceClearTheCache() {
+        var id = contacto("externo");
+        read(id);
+        assertTrue(cached(id));
+
+        jdbcTemplate.update("UPDATE libreta_version SET ver_valor = ver_valor + 1 WHERE ver_id = 1");
+        libretaVersion.read(null, etag -> null);
+
+        assertFalse(cached(id));
+    }
+
+    private Integer contacto(String nombre) {
+        var contacto = new Contacto();
+        contacto.setNombre(nombre);
+        contacto.setApellido("cache");
+        return libretaService.createContacto(contacto).getId();
+    }
+
+    private void read(Integer id) {
+        libretaVersion.read(null, etag -> libretaService.getContacto(id, false));
+    }
+
+    private boolean cached(Integer id) {
+        return contactos.get(new SimpleKey(id, false)) != null;
+    }
+}
@@ -0,0 +1,158 @@
+package com.sofka.contactos.controller;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.service.LibretaService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba de estrés del controlador: muchas peticiones mezcladas y concurrentes, cada respuesta debe corresponder a su
+ * propia petición
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LibretaControllerConcurrencyTest {
+
+    private static final int CONTACTS = 50;
+
+    private static final int REQUESTS = 3000;
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private LibretaService libretaService;
+
+    @Test
+    void concurrentMixedRequestsGetTheirOwnResponse() throws Exception {
+        var ids = new ArrayList<Integer>();
+        for (int i = 0; i < CONTACTS; i++) {
+            var contacto = new Contacto();
+            contacto.setNombre(String.format("estres%04d", i));
+            contacto.setApellido("concurrente");
+            ids.add(libretaService.createContacto(contacto).getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var futures = new ArrayList<Future<String>>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(request(i, ids)));
+            }
+            var failures = new ArrayList<String>();
+            for (var future : futures) {
+                var failure = future.get();
+                if (failure != null) {
+                    failures.add(failure);
+                }
+            }
+            assertTrue(failures.isEmpty(), () -> failures.size() + " respuestas no coinciden: " + failures.get(0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Callable<String> request(int i, List<Integer> ids) {
+        var index = i % CONTACTS;
+        switch (i % 5) {
+            case 0:
+                return () -> {
+                    var contacto = new Contacto();
+                    contacto.setNombre("nuevo" + i);
+                    contacto.setApellido("concurrente");
+                    var answer = restTemplate.postForEntity("/api/v1/contact", contacto, Map.class);
+                    return check(i, answer, HttpStatus.CREATED, false, "nombre", "nuevo" + i);
+                };
+            case 1:
+                return () -> {
+                    var name = String.format("estres%04d", index);
+                    var answer = restTemplate.getForEntity("/api/v1/search/contact/" + name + "?limit=1", Map.class);
+                    var data = (List<?>) answer.getBody().get("data");
+                    if (data == null || data.size() != 1) {
+                        return i + ": búsqueda sin resultados " + answer.getBody();
+                    }
+                    return check(i, answer.getStatusCode(), answer.getBody(), (Map<?, ?>) data.get(0),
+                            HttpStatus.OK, false, "nombre", name);
+                };
+            case 2:
+                return () -> {
+                    var answer = restTemplate.exchange("/api/v1/contact/-" + i, HttpMethod.DELETE, null, Map.class);
+                    return check(i, answer.getStatusCode(), answer.getBody(), answer.getBody(),
+                            HttpStatus.NOT_FOUND, false, "message", "El contacto no existe");
+                };
+            case 3:
+                return () -> {
+                    var answer = restTemplate.getForEntity("/api/v1/index?size=0", Map.class);
+                    return check(i, answer.getStatusCode(), answer.getBody(), answer.getBody(),
+                            HttpStatus.BAD_REQUEST, true, "data", null);
+                };
+            default:
+                return () -> {
+                    var contacto = new Contacto();
+                    contacto.setNombre("renombrado" + i);
+                    var id = ids.get(index);
+                    var answer = restTemplate.exchange("/api/v1/contact/" + id + "/name", HttpMethod.PATCH,
+                            new HttpEntity<>(contacto), Map.class);
+                    var failure = check(i, answer, HttpStatus.OK, false, "nombre", "renombrado" + i);
+                    if (failure == null && !id.equals(((Map<?, ?>) answer.getBody().get("data")).get("id"))) {
+                        return i + ": identificador incorrecto " + answer.getBody();
+                    }
+                    return failure;
+                };
+        }
+    }
+
+    private static String check(
+            int i,
+            ResponseEntity<Map> answer,
+            HttpStatus status,
+            boolean error,
+            String field,
+            Object expected
+    ) {
+        var body = answer.getBody();
+        var data = body == null ? null : (Map<?, ?>) body.get("data");
+        return check(i, answer.getStatusCode(), body, data, status, error, field, expected);
+    }
+
+    private static String check(
+            int i,
+            HttpStatus actualStatus,
+            Map<?, ?> body,
+            Map<?, ?> target,
+            HttpStatus status,
+            boolean error,
+            String field,
+            Object expected
+    ) {
+        if (actualStatus != status || body == null || !Boolean.valueOf(error).equals(body.get("error"))) {
+            return i + ": estado " + actualStatus + " " + body;
+        }
+        if (target == null && expected == null) {
+            return null;
+        }
+        if (target == null) {
+            return i + ": sin datos " + body;
+        }
+        assertEquals(expected, target.get(field), () -> i + ": " + body);
+        return null;
+    }
+}
@@ -0,0 +1,101 @@
+package com.sofka.contactos.controller;
+
+import com.sofka.contactos.cache.LibretaVersion;
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.service.LibretaService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Las ETag de las lecturas salen de la versión guardada en la base de datos: cambian con las escrituras de la
+ * instancia y con los cambios hechos fuera de ella en cualquier franja de la versión, que además vacían el cache de
+ * lectura local
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LibretaControllerETagTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private LibretaService libretaService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void unchangedReadsAnswerNotModified() {
+        var path = "/api/v1/contact/" + contacto("etag", "igual").getId();
+        var first = get(path, null);
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        var etag = first.getHeaders().getETag();
+        assertNotNull(etag);
+
+        var second = get(path, etag);
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertEquals(etag, second.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, get(path, "W/" + etag).getStatusCode());
+    }
+
+    @Test
+    void writesChangeTheETag() {
+        var contacto = contacto("etag", "escritura");
+        var path = "/api/v1/contact/" + contacto.getId();
+        var etag = get(path, null).getHeaders().getETag();
+
+        var update = new Contacto();
+        update.setNombre("renombrado");
+        restTemplate.exchange(path + "/name", HttpMethod.PATCH, new HttpEntity<>(update), Map.class);
+
+        var answer = get(path, etag);
+        assertEquals(HttpStatus.OK, answer.getStatusCode());
+        assertNotEquals(etag, answer.getHeaders().getETag());
+        assertEquals("renombrado", ((Map<?, ?>) answer.getBody().get("data")).get("nombre"));
+    }
+
+    @Test
+    void changesMadeOutsideTheInstanceChangeTheETagAndClearTheCache() {
+        var contacto = contacto("etag", "externo");
+        var path = "/api/v1/contact/" + contacto.getId();
+        var etag = get(path, null).getHeaders().getETag();
+        assertEquals(HttpStatus.NOT_MODIFIED, get(path, etag).getStatusCode());
+
+        jdbcTemplate.update("UPDATE contacto SET cnt_nombre = 'externo' WHERE cnt_id = ?", contacto.getId());
+        jdbcTemplate.update("UPDATE libreta_version SET ver_valor = ver_valor + 1 WHERE ver_id = ?",
+                LibretaVersion.STRIPES);
+
+        var answer = get(path, etag);
+        assertEquals(HttpStatus.OK, answer.getStatusCode());
+        assertNotEquals(etag, answer.getHeaders().getETag());
+        assertEquals("externo", ((Map<?, ?>) answer.getBody().get("data")).get("nombre"));
+    }
+
+    private Contacto contacto(String nombre, String apellido) {
+        var contacto = new Contacto();
+        contacto.setNombre(nombre);
+        contacto.setApellido(apellido);
+        return libretaService.createContacto(contacto);
+    }
+
+    private ResponseEntity<Map> get(String path, String ifNoneMatch) {
+        var headers = new HttpHeaders();
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        return restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), Map.class);
+    }
+}
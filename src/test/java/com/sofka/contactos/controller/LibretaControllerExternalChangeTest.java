@@ -0,0 +1,117 @@
+package com.sofka.contactos.controller;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.service.LibretaService;
+import com.sofka.contactos.service.interfaces.ISearchEngine;
+import com.sofka.contactos.sortedview.SortedViews;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Los cambios confirmados por otra instancia, que no pasan por los eventos de esta, se ven en las lecturas que
+ * dependen de la información en memoria, las vistas ordenadas y el índice de búsqueda, en cuanto la versión de la
+ * libreta los delata, y también después de que esa información se reconstruye en segundo plano
+ *
+ * Los cambios de otra instancia se simulan escribiendo directamente en la base de datos e incrementando la versión
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LibretaControllerExternalChangeTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private static final long WAIT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private LibretaService libretaService;
+
+    @Autowired
+    private SortedViews sortedViews;
+
+    @Autowired
+    private ISearchEngine searchEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void orderedPagesSeeContactosRenamedByAnotherInstance() {
+        var id = contacto("externo", "zzzzexterno" + SEQUENCE.incrementAndGet()).getId();
+        assertFalse(firstPageIds("apellido").contains(id));
+
+        renameExternally(id, "aaaaexterno" + SEQUENCE.get());
+
+        assertTrue(firstPageIds("apellido").contains(id), "La primera lectura no vio el cambio de otra instancia");
+        await(sortedViews::isReady);
+        assertTrue(firstPageIds("apellido").contains(id), "Las vistas reconstruidas no tienen el cambio");
+    }
+
+    @Test
+    void searchesSeeContactosRenamedByAnotherInstance() {
+        var n = SEQUENCE.incrementAndGet();
+        var id = contacto("externo", "buscadoantes" + n).getId();
+        assertFalse(searchIds("buscadodespues" + n).contains(id));
+
+        renameExternally(id, "buscadodespues" + n);
+
+        assertTrue(searchIds("buscadodespues" + n).contains(id), "La primera búsqueda no vio el cambio externo");
+        await(searchEngine::isReady);
+        assertTrue(searchIds("buscadodespues" + n).contains(id), "El índice reconstruido no tiene el cambio");
+        assertFalse(searchIds("buscadoantes" + n).contains(id));
+    }
+
+    private Contacto contacto(String nombre, String apellido) {
+        var contacto = new Contacto();
+        contacto.setNombre(nombre);
+        contacto.setApellido(apellido);
+        return libretaService.createContacto(contacto);
+    }
+
+    private void renameExternally(Integer id, String apellido) {
+        jdbcTemplate.update("UPDATE contacto SET cnt_apellido = ? WHERE cnt_id = ?", apellido, id);
+        jdbcTemplate.update("UPDATE libreta_version SET ver_valor = ver_valor + 1 WHERE ver_id = 1");
+    }
+
+    private List<Integer> firstPageIds(String orderBy) {
+        var answer = restTemplate.getForEntity("/api/v1/index/orderby/" + orderBy + "/ASC?size=20", Map.class);
+        var page = (Map<?, ?>) answer.getBody().get("data");
+        return ((List<?>) page.get("items")).stream()
+                .map(item -> (Integer) ((Map<?, ?>) item).get("id"))
+                .collect(Collectors.toList());
+    }
+
+    private List<Integer> searchIds(String dataToSearch) {
+        var answer = restTemplate.getForEntity("/api/v1/search/contact/" + dataToSearch, Map.class);
+        return ((List<?>) answer.getBody().get("data")).stream()
+                .map(item -> (Integer) ((Map<?, ?>) item).get("id"))
+                .collect(Collectors.toList());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        var deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "La reconstrucción no terminó");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(exception);
+            }
+        }
+    }
+}
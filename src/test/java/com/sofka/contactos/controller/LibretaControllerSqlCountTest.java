@@ -0,0 +1,257 @@
+package com.sofka.contactos.controller;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.domain.Telefono;
+import com.sofka.contactos.service.LibretaService;
+import com.sofka.contactos.sql.SqlCountingConfig;
+import com.sofka.contactos.sql.SqlStatementCounter;
+import com.sofka.contactos.sql.SqlStatementCounter.SqlStatements;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Límites de sentencias SQL por petición a {@link LibretaController}, incluida la serialización de la respuesta: un
+ * listado cuesta lo mismo con 5 que con 30 contactos y borrar un contacto cuesta lo mismo sin teléfonos que con ellos.
+ * Las lecturas suman la consulta de la versión de la libreta para la ETag y cada escritura confirmada el UPDATE que la
+ * incrementa
+ *
+ * La caché se desactiva para que cada lectura llegue a la base de datos y los datos se crean antes de medir, así la
+ * reserva de identificadores de la tabla de secuencias no se cuenta en la petición medida
+ *
+ * La normalización de teléfonos se desactiva porque corre en su propio hilo y sus sentencias se contarían en la
+ * operación medida
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.cache.type=none",
+                "libreta.search.engine=trigram",
+                "libreta.telefono.backfill.enabled=false"
+        }
+)
+@Import(SqlCountingConfig.class)
+class LibretaControllerSqlCountTest {
+
+    private static final int CONTACTS = 30;
+
+    private static final int TELEFONOS = 3;
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private LibretaService libretaService;
+
+    private String apellido;
+
+    private List<Contacto> contactos;
+
+    private List<Telefono> telefonos;
+
+    @BeforeEach
+    void seed() {
+        apellido = "sqlcontrolador" + SEQUENCE.incrementAndGet();
+        contactos = new ArrayList<>();
+        telefonos = new ArrayList<>();
+        for (int i = 0; i < CONTACTS; i++) {
+            contactos.add(contacto(String.format("peticion%04d", SEQUENCE.incrementAndGet()), TELEFONOS));
+        }
+    }
+
+    @Test
+    void indexDoesNotGrowWithThePageSize() {
+        var small = count(HttpStatus.OK, () -> get("/api/v1/index?size=5&include=telefonos"));
+        var large = count(HttpStatus.OK, () -> get("/api/v1/index?size=" + CONTACTS + "&include=telefonos"));
+        assertAtMost(large, 3, 0, 0, 0);
+        assertEquals(small.total(), large.total(), () -> small + "\n" + large);
+
+        var withoutTelefonos = count(HttpStatus.OK, () -> get("/api/v1/index?size=" + CONTACTS));
+        assertAtMost(withoutTelefonos, 2, 0, 0, 0);
+    }
+
+    @Test
+    void indexOrderByDoesNotGrowWithThePageSize() {
+        for (var path : List.of("/api/v1/index/orderby/apellido,nombre/ASC", "/api/v1/index/orderby/createdAt/DESC")) {
+            var small = count(HttpStatus.OK, () -> get(path + "?size=5&include=telefonos"));
+            var large = count(HttpStatus.OK, () -> get(path + "?size=" + CONTACTS + "&include=telefonos"));
+            assertAtMost(large, 3, 0, 0, 0);
+            assertEquals(small.total(), large.total(), () -> path + ": " + small + "\n" + large);
+        }
+    }
+
+    @Test
+    void searchesRunAtMostTwoQueries() {
+        var statements = count(
+                HttpStatus.OK,
+                () -> get("/api/v1/search/contact/" + apellido + "?limit=" + CONTACTS + "&include=telefonos")
+        );
+        assertAtMost(statements, 3, 0, 0, 0);
+
+        var numero = telefonos.get(0).getNumeroNormalizado();
+        statements = count(HttpStatus.OK, () -> get("/api/v1/search/phone/" + numero + "?include=telefonos"));
+        assertAtMost(statements, 3, 0, 0, 0);
+    }
+
+    @Test
+    void getContactoRunsOneQuery() {
+        var id = contactos.get(0).getId();
+        var statements = count(HttpStatus.OK, () -> get("/api/v1/contact/" + id + "?include=telefonos"));
+        assertAtMost(statements, 2, 0, 0, 0);
+    }
+
+    @Test
+    void createContactoRunsOneInsert() {
+        var contacto = new Contacto();
+        contacto.setNombre("nuevo" + SEQUENCE.incrementAndGet());
+        contacto.setApellido(apellido);
+        var statements = count(
+                HttpStatus.CREATED,
+                () -> restTemplate.postForEntity("/api/v1/contact", contacto, Map.class)
+        );
+        assertAtMost(statements, 0, 1, 1, 0);
+    }
+
+    @Test
+    void contactoUpdatesRunOneUpdate() {
+        var id = contactos.get(0).getId();
+        var contacto = new Contacto();
+        contacto.setNombre("actualizado");
+        contacto.setApellido(apellido);
+        var statements = count(HttpStatus.OK, () -> exchange(HttpMethod.PUT, "/api/v1/contact/" + id, contacto));
+        assertAtMost(statements, 0, 0, 2, 0);
+
+        statements = count(HttpStatus.OK, () -> exchange(HttpMethod.PATCH, "/api/v1/contact/" + id + "/name",
+                Map.of("nombre", "renombrado")));
+        assertAtMost(statements, 0, 0, 2, 0);
+
+        statements = count(HttpStatus.OK, () -> exchange(HttpMethod.PATCH, "/api/v1/contact/" + id + "/lastname",
+                Map.of("apellido", apellido)));
+        assertAtMost(statements, 0, 0, 2, 0);
+    }
+
+    @Test
+    void telefonoUpdatesRunOneUpdate() {
+        var id = telefonos.get(0).getId();
+        var statements = count(HttpStatus.OK, () -> exchange(HttpMethod.PUT, "/api/v1/phone/" + id,
+                Map.of("telefono", numero())));
+        assertAtMost(statements, 0, 0, 2, 0);
+
+        statements = count(HttpStatus.OK, () -> exchange(HttpMethod.PATCH, "/api/v1/phone/" + id + "/number",
+                Map.of("telefono", numero())));
+        assertAtMost(statements, 0, 0, 2, 0);
+    }
+
+    @Test
+    void telefonoUpdatesOfAMissingTelefonoReturnNotFound() {
+        var statements = count(HttpStatus.NOT_FOUND, () -> exchange(HttpMethod.PUT, "/api/v1/phone/-1",
+                Map.of("telefono", numero())));
+        assertAtMost(statements, 0, 0, 1, 0);
+
+        statements = count(HttpStatus.NOT_FOUND, () -> exchange(HttpMethod.PATCH, "/api/v1/phone/-1/number",
+                Map.of("telefono", numero())));
+        assertAtMost(statements, 0, 0, 1, 0);
+    }
+
+    @Test
+    void deleteContactoDoesNotGrowWithItsTelefonos() {
+        var withoutTelefonos = contacto("vacio" + SEQUENCE.incrementAndGet(), 0).getId();
+        var withTelefonos = contactos.get(0).getId();
+        var empty = count(HttpStatus.OK, () -> exchange(HttpMethod.DELETE, "/api/v1/contact/" + withoutTelefonos));
+        var full = count(HttpStatus.OK, () -> exchange(HttpMethod.DELETE, "/api/v1/contact/" + withTelefonos));
+        assertAtMost(full, 0, 0, 1, 2);
+        assertEquals(empty.total(), full.total(), () -> empty + "\n" + full);
+
+        var missing = count(
+                HttpStatus.NOT_FOUND,
+                () -> exchange(HttpMethod.DELETE, "/api/v1/contact/" + withTelefonos)
+        );
+        assertAtMost(missing, 0, 0, 0, 2);
+    }
+
+    @Test
+    void bulkDeletesRunTwoDeletes() {
+        var ids = new ArrayList<Integer>();
+        for (var contacto : contactos.subList(0, CONTACTS / 2)) {
+            ids.add(contacto.getId());
+        }
+        var statements = count(HttpStatus.OK, () -> restTemplate.postForEntity("/api/v1/contact/delete",
+                Map.of("ids", ids), Map.class));
+        assertAtMost(statements, 1, 0, 1, 2);
+
+        statements = count(HttpStatus.OK, () -> restTemplate.postForEntity("/api/v1/contact/delete",
+                Map.of("apellido", apellido), Map.class));
+        assertAtMost(statements, 1, 0, 1, 2);
+    }
+
+    @Test
+    void deleteTelefonoReadsItOnce() {
+        var id = telefonos.get(0).getId();
+        var statements = count(HttpStatus.OK, () -> exchange(HttpMethod.DELETE, "/api/v1/phone/" + id));
+        assertAtMost(statements, 1, 0, 1, 1);
+    }
+
+    private Contacto contacto(String nombre, int cantidad) {
+        var contacto = new Contacto();
+        contacto.setNombre(nombre);
+        contacto.setApellido(apellido);
+        contacto = libretaService.createContacto(contacto);
+        for (int i = 0; i < cantidad; i++) {
+            var telefono = new Telefono();
+            telefono.setContacto(contacto);
+            telefono.setTelefono(numero());
+            telefonos.add(libretaService.createTelefono(telefono));
+        }
+        return contacto;
+    }
+
+    private ResponseEntity<Map> get(String path) {
+        return restTemplate.getForEntity(path, Map.class);
+    }
+
+    private ResponseEntity<Map> exchange(HttpMethod method, String path) {
+        return restTemplate.exchange(path, method, null, Map.class);
+    }
+
+    private ResponseEntity<Map> exchange(HttpMethod method, String path, Object body) {
+        return restTemplate.exchange(path, method, new HttpEntity<>(body), Map.class);
+    }
+
+    private static SqlStatements count(HttpStatus status, Supplier<ResponseEntity<Map>> request) {
+        var answer = new ArrayList<ResponseEntity<Map>>(1);
+        var statements = SqlStatementCounter.count(() -> answer.add(request.get()));
+        assertEquals(status, answer.get(0).getStatusCode(), () -> String.valueOf(answer.get(0).getBody()));
+        return statements;
+    }
+
+    private static String numero() {
+        return String.format("+57 303 %07d", SEQUENCE.incrementAndGet());
+    }
+
+    private static void assertAtMost(SqlStatements statements, int selects, int inserts, int updates, int deletes) {
+        assertTrue(statements.selects() <= selects, statements::toString);
+        assertTrue(statements.inserts() <= inserts, statements::toString);
+        assertTrue(statements.updates() <= updates, statements::toString);
+        assertTrue(statements.deletes() <= deletes, statements::toString);
+        assertEquals(statements.selects() + statements.inserts() + statements.updates() + statements.deletes(),
+                statements.total(), statements::toString);
+    }
+}
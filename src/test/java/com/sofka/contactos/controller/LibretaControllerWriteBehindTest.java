@@ -0,0 +1,101 @@
+package com.sofka.contactos.controller;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.service.LibretaService;
+import com.sofka.contactos.writebehind.ContactoWriteBehind;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Un cambio de nombre encolado en la escritura diferida no debe sobrescribir un reemplazo o un borrado del contacto
+ * que llegó después y se escribió directamente
+ *
+ * La cola solo se vacía al llamar a {@link ContactoWriteBehind#flush()}, el intervalo de la tarea programada es mayor
+ * que la prueba
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "libreta.write-behind.enabled=true",
+                "libreta.write-behind.ack=async",
+                "libreta.write-behind.flush-interval-ms=600000",
+                "spring.cache.type=none"
+        }
+)
+class LibretaControllerWriteBehindTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private LibretaService libretaService;
+
+    @Autowired
+    private ContactoWriteBehind contactoWriteBehind;
+
+    @Test
+    void replaceAfterAQueuedPatchKeepsTheReplacement() {
+        var id = contacto("original").getId();
+        assertEquals(HttpStatus.ACCEPTED, patchNombre(id, "encolado").getStatusCode());
+
+        var contacto = new Contacto();
+        contacto.setNombre("reemplazado");
+        contacto.setApellido("diferido");
+        var answer = restTemplate.exchange("/api/v1/contact/" + id, HttpMethod.PUT, new HttpEntity<>(contacto),
+                Map.class);
+        assertEquals(HttpStatus.OK, answer.getStatusCode());
+
+        contactoWriteBehind.flush();
+        assertEquals("reemplazado", libretaService.getContacto(id, false).getNombre());
+    }
+
+    @Test
+    void deleteAfterAQueuedPatchDeletesTheContacto() {
+        var id = contacto("borrado").getId();
+        assertEquals(HttpStatus.ACCEPTED, patchNombre(id, "encolado").getStatusCode());
+
+        var answer = restTemplate.exchange("/api/v1/contact/" + id, HttpMethod.DELETE, null, Map.class);
+        assertEquals(HttpStatus.OK, answer.getStatusCode());
+
+        contactoWriteBehind.flush();
+        assertNull(libretaService.getContacto(id, false));
+    }
+
+    @Test
+    void queuedPatchesAreWrittenBeforeABatch() {
+        var id = contacto("lote").getId();
+        assertEquals(HttpStatus.ACCEPTED, patchNombre(id, "encolado").getStatusCode());
+
+        var operation = Map.of("op", "UPDATE_CONTACT", "id", id,
+                "contacto", Map.of("nombre", "reemplazado", "apellido", "diferido"));
+        var answer = restTemplate.postForEntity("/api/v1/batch", List.of(operation), Map.class);
+        assertEquals(HttpStatus.OK, answer.getStatusCode());
+
+        contactoWriteBehind.flush();
+        assertEquals("reemplazado", libretaService.getContacto(id, false).getNombre());
+    }
+
+    private Contacto contacto(String nombre) {
+        var contacto = new Contacto();
+        contacto.setNombre(nombre);
+        contacto.setApellido("diferido");
+        return libretaService.createContacto(contacto);
+    }
+
+    private ResponseEntity<Map> patchNombre(Integer id, String nombre) {
+        return restTemplate.exchange("/api/v1/contact/" + id + "/name", HttpMethod.PATCH,
+                new HttpEntity<>(Map.of("nombre", nombre)), Map.class);
+    }
+}
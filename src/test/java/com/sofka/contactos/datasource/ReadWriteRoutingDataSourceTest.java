@@ -0,0 +1,125 @@
+package com.sofka.contactos.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas del enrutamiento de lecturas con una base de datos principal y dos réplicas H2 en memoria
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String PRIMARY = "PRIMARIA";
+
+    private static final String REPLICA_1 = "REPLICA1";
+
+    private static final String REPLICA_2 = "REPLICA2";
+
+    private HikariDataSource primary;
+
+    private HikariDataSource replica1;
+
+    private HikariDataSource replica2;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2(PRIMARY);
+        replica1 = h2(REPLICA_1);
+        replica2 = h2(REPLICA_2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica1.close();
+        replica2.close();
+    }
+
+    @Test
+    void writeTransactionsAndReadsOutsideTransactionsUsePrimary() {
+        var dataSource = routing(ReplicaSelectionStrategy.ROUND_ROBIN);
+
+        assertEquals(PRIMARY, database(dataSource, false));
+        assertEquals(PRIMARY, new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    @Test
+    void readOnlyTransactionsAlternateReplicas() {
+        var dataSource = routing(ReplicaSelectionStrategy.ROUND_ROBIN);
+
+        assertEquals(REPLICA_1, database(dataSource, true));
+        assertEquals(REPLICA_2, database(dataSource, true));
+        assertEquals(REPLICA_1, database(dataSource, true));
+        assertEquals(REPLICA_2, database(dataSource, true));
+    }
+
+    @Test
+    void readOnlyTransactionsUsePrimaryWhenRequired() {
+        var dataSource = routing(ReplicaSelectionStrategy.ROUND_ROBIN);
+
+        assertEquals(PRIMARY, DataSourceRouting.onPrimary(() -> database(dataSource, true)));
+        assertEquals(REPLICA_1, database(dataSource, true));
+    }
+
+    @Test
+    void leastConnectionsPicksIdleReplica() throws Exception {
+        var dataSource = routing(ReplicaSelectionStrategy.LEAST_CONNECTIONS);
+
+        try (Connection busy = replica1.getConnection()) {
+            assertEquals(REPLICA_2, database(dataSource, true));
+            assertEquals(REPLICA_2, database(dataSource, true));
+        }
+        try (Connection busy = replica2.getConnection()) {
+            assertEquals(REPLICA_1, database(dataSource, true));
+        }
+    }
+
+    @Test
+    void failsOverToNextReplicaAndThenToPrimary() {
+        var dataSource = routing(ReplicaSelectionStrategy.ROUND_ROBIN);
+
+        replica1.close();
+        assertEquals(REPLICA_2, database(dataSource, true));
+        assertEquals(REPLICA_2, database(dataSource, true));
+
+        replica2.close();
+        assertEquals(PRIMARY, database(dataSource, true));
+    }
+
+    private DataSource routing(ReplicaSelectionStrategy strategy) {
+        var routing = new ReadWriteRoutingDataSource(
+                primary, List.of(replica1, replica2), strategy, Duration.ofMinutes(1)
+        );
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static String database(DataSource dataSource, boolean readOnly) {
+        var transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static HikariDataSource h2(String name) {
+        var dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        dataSource.setMaximumPoolSize(2);
+        dataSource.setConnectionTimeout(250);
+        return dataSource;
+    }
+}
@@ -0,0 +1,115 @@
+package com.sofka.contactos.repository;
+
+import com.sofka.contactos.cache.LibretaVersion;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba que una base de datos creada antes de las migraciones, con el esquema que generaba Hibernate, queda igual
+ * que una nueva después de marcarla en la versión 1 y ejecutar el resto de las migraciones, y que los generadores de
+ * identificadores continúan después de los identificadores que ya existían; los contactos existentes reciben su
+ * fecha de creación como fecha de modificación y la versión de la libreta conserva su
+ * valor al repartirse en franjas
+ */
+class MigrationTest {
+
+    private static final String MIGRATIONS = "classpath:db/migration";
+
+    @Test
+    void baselinedDatabaseReceivesTheLaterMigrations() {
+        var existing = dataSource("migracion_existente");
+        var jdbcTemplate = new JdbcTemplate(existing);
+        jdbcTemplate.execute("CREATE TABLE contacto (cnt_id INT NOT NULL AUTO_INCREMENT, "
+                + "cnt_apellido VARCHAR(100) NOT NULL, cnt_created_at DATETIME(6) NOT NULL, "
+                + "cnt_nombre VARCHAR(100) NOT NULL, cnt_updated_at DATETIME(6), PRIMARY KEY (cnt_id))");
+        jdbcTemplate.execute("CREATE TABLE telefono (tel_id INT NOT NULL AUTO_INCREMENT, "
+                + "tel_created_at DATETIME(6) NOT NULL, tel_telefono VARCHAR(30) NOT NULL, "
+                + "tel_updated_at DATETIME(6), tel_contacto_id INT NOT NULL, PRIMARY KEY (tel_id))");
+        jdbcTemplate.execute("INSERT INTO contacto (cnt_nombre, cnt_apellido, cnt_created_at) "
+                + "VALUES ('Ana', 'Pérez', CURRENT_TIMESTAMP)");
+        jdbcTemplate.execute("INSERT INTO contacto (cnt_id, cnt_nombre, cnt_apellido, cnt_created_at) "
+                + "VALUES (5000, 'Luis', 'Gómez', CURRENT_TIMESTAMP)");
+        jdbcTemplate.execute("INSERT INTO telefono (tel_contacto_id, tel_telefono, tel_created_at) "
+                + "VALUES (1, '3001234567', CURRENT_TIMESTAMP)");
+
+        Flyway.configure()
+                .dataSource(existing)
+                .locations(MIGRATIONS)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        var fresh = dataSource("migracion_nueva");
+        Flyway.configure().dataSource(fresh).locations(MIGRATIONS).load().migrate();
+
+        assertEquals(schema(fresh), schema(existing));
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT MAX(cnt_version) FROM contacto", Long.class));
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT tel_version FROM telefono", Long.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM contacto WHERE cnt_updated_at IS NULL", Integer.class));
+    }
+
+    @Test
+    void idGeneratorsStartAfterTheExistingIds() {
+        var existing = dataSource("migracion_identificadores");
+        var jdbcTemplate = new JdbcTemplate(existing);
+        Flyway.configure().dataSource(existing).locations(MIGRATIONS).target("1").load().migrate();
+        jdbcTemplate.execute("INSERT INTO contacto (cnt_id, cnt_nombre, cnt_apellido, cnt_created_at) "
+                + "VALUES (7000, 'Ana', 'Pérez', CURRENT_TIMESTAMP)");
+        jdbcTemplate.execute("INSERT INTO telefono (tel_id, tel_contacto_id, tel_telefono, tel_created_at) "
+                + "VALUES (9000, 7000, '3001234567', CURRENT_TIMESTAMP)");
+
+        Flyway.configure().dataSource(existing).locations(MIGRATIONS).load().migrate();
+
+        var sql = "SELECT sec_valor FROM libreta_secuencia WHERE sec_nombre = ?";
+        assertTrue(jdbcTemplate.queryForObject(sql, Long.class, "contacto") > 7000);
+        assertTrue(jdbcTemplate.queryForObject(sql, Long.class, "telefono") > 9000);
+    }
+
+    @Test
+    void bookVersionKeepsItsValueWhenSplitIntoStripes() {
+        var existing = dataSource("migracion_version");
+        var jdbcTemplate = new JdbcTemplate(existing);
+        Flyway.configure().dataSource(existing).locations(MIGRATIONS).target("5").load().migrate();
+        jdbcTemplate.execute("UPDATE libreta_version SET ver_valor = 41 WHERE ver_id = 1");
+
+        Flyway.configure().dataSource(existing).locations(MIGRATIONS).load().migrate();
+
+        assertEquals(LibretaVersion.STRIPES,
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM libreta_version", Integer.class));
+        assertEquals(41L, jdbcTemplate.queryForObject("SELECT SUM(ver_valor) FROM libreta_version", Long.class));
+        assertEquals(LibretaVersion.STRIPES,
+                jdbcTemplate.queryForObject("SELECT MAX(ver_id) FROM libreta_version", Integer.class));
+    }
+
+    private static DataSource dataSource(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    /**
+     * Columnas e índices de las tablas de la libreta, sin depender del orden de las columnas
+     */
+    private static String schema(DataSource dataSource) {
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        var columns = jdbcTemplate.queryForList(
+                "SELECT LOWER(TABLE_NAME || '.' || COLUMN_NAME || ' ' || DATA_TYPE || ' ' || IS_NULLABLE) "
+                        + "FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = 'PUBLIC' "
+                        + "AND LOWER(TABLE_NAME) <> 'flyway_schema_history' ORDER BY 1",
+                String.class
+        );
+        var indexes = jdbcTemplate.queryForList(
+                "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_SCHEMA = 'PUBLIC' "
+                        + "AND LOWER(INDEX_NAME) LIKE 'ix_%' ORDER BY 1",
+                String.class
+        );
+        return String.join("\n", columns) + "\n" + String.join("\n", indexes);
+    }
+}
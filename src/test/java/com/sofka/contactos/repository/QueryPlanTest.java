@@ -0,0 +1,89 @@
+package com.sofka.contactos.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Comprueba con EXPLAIN, sobre el esquema creado por las migraciones, que las consultas frecuentes de
+ * {@link ContactoRepository} y {@link TelefonoRepository} usan un índice en lugar de recorrer toda la tabla
+ *
+ * Cada caso es la sentencia SQL que genera Hibernate para el método del repositorio, con valores literales en lugar de
+ * parámetros. Los ordenamientos descendentes y la búsqueda por texto con comodín inicial no se incluyen: H2 no recorre
+ * índices en sentido inverso y el texto se busca en el índice en memoria del motor de búsqueda
+ */
+@SpringBootTest
+class QueryPlanTest {
+
+    private static final String TABLE_SCAN = "tableScan";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("ContactoRepository.findById",
+                        "SELECT * FROM contacto WHERE cnt_id = 1"),
+                Arguments.of("ContactoRepository.findWithTelefonosByIdIn",
+                        "SELECT * FROM contacto WHERE cnt_id IN (1, 2, 3)"),
+                Arguments.of("ContactoRepository.findNombres",
+                        "SELECT cnt_id, cnt_nombre, cnt_apellido FROM contacto WHERE cnt_id > 1 "
+                                + "ORDER BY cnt_id ASC LIMIT 1000"),
+                Arguments.of("ContactoRepository.findPage por nombre",
+                        "SELECT * FROM contacto ORDER BY cnt_nombre ASC, cnt_id ASC LIMIT 50"),
+                Arguments.of("ContactoRepository.findPage por nombre después de una llave",
+                        "SELECT * FROM contacto WHERE (cnt_nombre > 'Ana') OR (cnt_nombre = 'Ana' AND cnt_id > 1) "
+                                + "ORDER BY cnt_nombre ASC, cnt_id ASC LIMIT 50"),
+                Arguments.of("ContactoRepository.findPage por apellidos",
+                        "SELECT * FROM contacto ORDER BY cnt_apellido ASC, cnt_id ASC LIMIT 50"),
+                Arguments.of("ContactoRepository.findPage por fecha de creación",
+                        "SELECT * FROM contacto ORDER BY cnt_created_at ASC, cnt_id ASC LIMIT 50"),
+                Arguments.of("ContactoRepository.findPage por fecha de modificación",
+                        "SELECT * FROM contacto ORDER BY cnt_updated_at ASC, cnt_id ASC LIMIT 50"),
+                Arguments.of("ContactoRepository.findPage por fecha de modificación después de una llave",
+                        "SELECT * FROM contacto WHERE (cnt_updated_at > TIMESTAMP '2026-10-16 10:00:00') "
+                                + "OR (cnt_updated_at = TIMESTAMP '2026-10-16 10:00:00' AND cnt_id > 1) "
+                                + "ORDER BY cnt_updated_at ASC, cnt_id ASC LIMIT 50"),
+                Arguments.of("ContactoRepository.findAll por fecha de modificación",
+                        "SELECT * FROM contacto ORDER BY cnt_updated_at ASC, cnt_id ASC"),
+                Arguments.of("ContactoRepository.updateNombre",
+                        "UPDATE contacto SET cnt_nombre = 'Ana', cnt_version = cnt_version + 1 WHERE cnt_id = 1"),
+                Arguments.of("ContactoRepository.findIdsByIdIn",
+                        "SELECT cnt_id FROM contacto WHERE cnt_id IN (1, 2, 3)"),
+                Arguments.of("ContactoRepository.deleteByIdIn",
+                        "DELETE FROM contacto WHERE cnt_id IN (1, 2, 3)"),
+                Arguments.of("TelefonoRepository.findAllByContacto",
+                        "SELECT * FROM telefono WHERE tel_contacto_id = 1"),
+                Arguments.of("Contacto.telefonos por lotes",
+                        "SELECT * FROM telefono WHERE tel_contacto_id IN (1, 2, 3)"),
+                Arguments.of("TelefonoRepository.findNumeros",
+                        "SELECT tel_contacto_id, tel_telefono FROM telefono WHERE tel_contacto_id IN (1, 2, 3) "
+                                + "ORDER BY tel_contacto_id ASC, tel_id ASC"),
+                Arguments.of("TelefonoRepository.findContactoIdById",
+                        "SELECT tel_contacto_id FROM telefono WHERE tel_id = 1"),
+                Arguments.of("TelefonoRepository.findContactosByNumeroNormalizado",
+                        "SELECT cnt.* FROM telefono tel INNER JOIN contacto cnt ON cnt.cnt_id = tel.tel_contacto_id "
+                                + "WHERE tel.tel_numero_normalizado = '573001234567' ORDER BY tel.tel_id ASC LIMIT 50"),
+                Arguments.of("TelefonoRepository.findSinNormalizar",
+                        "SELECT tel_id, tel_telefono FROM telefono WHERE tel_numero_normalizado IS NULL AND tel_id > 1 "
+                                + "ORDER BY tel_id ASC LIMIT 1000"),
+                Arguments.of("TelefonoRepository.deleteByContactoIdIn",
+                        "DELETE FROM telefono WHERE tel_contacto_id IN (1, 2, 3)")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesAnIndex(String query, String sql) {
+        var plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+
+        assertFalse(String.join("\n", plan).contains(TABLE_SCAN), () -> query + " recorre toda la tabla:\n" + plan);
+    }
+}
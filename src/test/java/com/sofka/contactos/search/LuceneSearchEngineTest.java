@@ -0,0 +1,221 @@
+package com.sofka.contactos.search;
+
+import com.sofka.contactos.cache.LibretaVersion;
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.domain.Telefono;
+import com.sofka.contactos.repository.ContactoNombre;
+import com.sofka.contactos.repository.ContactoRepository;
+import com.sofka.contactos.repository.TelefonoNumero;
+import com.sofka.contactos.repository.TelefonoRepository;
+import com.sofka.contactos.service.interfaces.ILibreta;
+import com.sofka.contactos.service.interfaces.ISearchEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * El motor Lucene encuentra lo mismo que la consulta LIKE que lo reemplaza mientras no está listo, sin importar las
+ * tildes ni las mayúsculas ni el orden de los términos, y los cambios que llegan mientras se reconstruye el índice
+ * tienen prioridad sobre los datos y los teléfonos leídos. Los cambios de otra instancia, simulados escribiendo
+ * directamente en la base de datos e incrementando la versión, llegan al índice, teléfonos incluidos, cuando una
+ * lectura los delata
+ *
+ * La caché se desactiva para que cada búsqueda llegue al motor
+ */
+@SpringBootTest(properties = {"libreta.search.engine=lucene", "spring.cache.type=none"})
+class LuceneSearchEngineTest {
+
+    private static final int LIMIT = 50;
+
+    private static final long WAIT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    @Autowired
+    private ISearchEngine searchEngine;
+
+    @Autowired
+    private ContactoRepository contactoRepository;
+
+    @Autowired
+    private ILibreta libretaService;
+
+    @Autowired
+    private LibretaVersion libretaVersion;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LuceneSearchEngine engine;
+
+    private ContactoRepository repository;
+
+    private TelefonoRepository telefonos;
+
+    @BeforeEach
+    void open() throws IOException {
+        engine = new LuceneSearchEngine();
+        repository = mock(ContactoRepository.class);
+        telefonos = mock(TelefonoRepository.class);
+        ReflectionTestUtils.setField(engine, "contactoRepository", repository);
+        ReflectionTestUtils.setField(engine, "telefonoRepository", telefonos);
+        ReflectionTestUtils.setField(engine, "directoryPath", "");
+        engine.open();
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        engine.close();
+    }
+
+    @Test
+    void findsTheSameContactosAsTheDatabaseFallback() {
+        var ids = SearchEngineTests.seedParidad(libretaService);
+        searchEngine.rebuild();
+        SearchEngineTests.assertParity(searchEngine, contactoRepository);
+
+        var renamed = new Contacto();
+        renamed.setNombre("zulqon");
+        renamed.setApellido("xvorpx");
+        libretaService.updateContacto(ids.get(0), renamed);
+        SearchEngineTests.assertParity(searchEngine, contactoRepository);
+    }
+
+    @Test
+    void accentsCaseTermOrderAndPartialInputStillMatch() {
+        rebuild(List.of(
+                SearchEngineTests.nombre(1, "José", "Núñez"),
+                SearchEngineTests.nombre(2, "Jose", "Nunez"),
+                SearchEngineTests.nombre(3, "Josefina", "Ibáñez"),
+                SearchEngineTests.nombre(4, "María", "Pérez")
+        ), List.of(numero(4, "300 123 4567")));
+
+        assertEquals(Set.of(1, 2, 3), Set.copyOf(engine.search("JOSÉ", LIMIT)));
+        assertEquals(Set.of(1, 2, 3), Set.copyOf(engine.search("jóse", LIMIT)));
+        assertEquals(Set.of(1, 2, 3), Set.copyOf(engine.search("ÑEZ", LIMIT)));
+        assertEquals(Set.of(1, 2), Set.copyOf(engine.search("nunez JOSE", LIMIT)));
+        assertEquals(List.of(4), engine.search("maria perez", LIMIT));
+        assertEquals(List.of(3), engine.search("sefi", LIMIT));
+        assertEquals(Integer.valueOf(3), engine.search("jose", LIMIT).get(2));
+        assertEquals(List.of(4), engine.search("1234", LIMIT));
+        assertEquals(List.of(4), engine.search("(300) 123-4567", LIMIT));
+        assertTrue(engine.search("jose perez", LIMIT).isEmpty());
+    }
+
+    @Test
+    void changesDuringTheRebuildWinOverTheRowsRead() {
+        when(telefonos.findNumeros(anyCollection()))
+                .thenReturn(List.of(numero(1, "3001112222"), numero(3, "3005556666")));
+        when(repository.findNombres(anyInt(), any())).thenAnswer(invocation -> {
+            assertFalse(engine.isReady());
+            engine.index(1, "Zoe", "Zapata", List.of());
+            engine.remove(2);
+            engine.index(4, "Eva", "Díaz", List.of("3009998888"));
+            return List.of(
+                    SearchEngineTests.nombre(1, "Ana", "Álvarez"),
+                    SearchEngineTests.nombre(2, "Luis", "Bravo"),
+                    SearchEngineTests.nombre(3, "Eva", "Castro")
+            );
+        });
+        engine.rebuild();
+
+        assertTrue(engine.isReady());
+        assertTrue(engine.search("alvarez", LIMIT).isEmpty());
+        assertTrue(engine.search("1112222", LIMIT).isEmpty());
+        assertTrue(engine.search("luis", LIMIT).isEmpty());
+        assertEquals(List.of(1), engine.search("zapata", LIMIT));
+        assertEquals(List.of(3), engine.search("5556666", LIMIT));
+        assertEquals(List.of(4), engine.search("9998888", LIMIT));
+        assertEquals(Set.of(3, 4), Set.copyOf(engine.search("eva", LIMIT)));
+    }
+
+    @Test
+    void anInvalidationDuringTheRebuildKeepsTheIndexUnusedUntilTheNextRebuild() {
+        when(repository.findNombres(anyInt(), any())).thenAnswer(invocation -> {
+            engine.invalidate();
+            return List.of(SearchEngineTests.nombre(1, "Ana", "Álvarez"));
+        });
+        engine.rebuild();
+        assertFalse(engine.isReady());
+
+        rebuild(List.of(SearchEngineTests.nombre(1, "Ana", "Álvarez")), List.of());
+        assertTrue(engine.isReady());
+        engine.invalidate();
+        assertFalse(engine.isReady());
+    }
+
+    @Test
+    void changesOfAnotherInstanceReachTheIndexWithTheirTelefonos() {
+        var contacto = new Contacto();
+        contacto.setNombre("lucenexterno");
+        contacto.setApellido("antes");
+        var telefono = new Telefono();
+        telefono.setContacto(libretaService.createContacto(contacto));
+        telefono.setTelefono("3014445555");
+        telefono = libretaService.createTelefono(telefono);
+        var id = telefono.getContacto().getId();
+        assertEquals(List.of(id), searchEngine.search("lucenexterno antes", LIMIT));
+
+        jdbcTemplate.update("UPDATE contacto SET cnt_apellido = 'despues' WHERE cnt_id = ?", id);
+        jdbcTemplate.update("UPDATE telefono SET tel_telefono = '3016667777' WHERE tel_id = ?", telefono.getId());
+        jdbcTemplate.update("UPDATE libreta_version SET ver_valor = ver_valor + 1 WHERE ver_id = 1");
+        assertNull(libretaVersion.read(null, etag -> null));
+        awaitReady();
+
+        assertEquals(List.of(id), searchEngine.search("lucenexterno despues", LIMIT));
+        assertEquals(List.of(id), searchEngine.search("3016667777", LIMIT));
+        assertTrue(searchEngine.search("lucenexterno antes", LIMIT).isEmpty());
+        assertTrue(searchEngine.search("3014445555", LIMIT).isEmpty());
+    }
+
+    private void awaitReady() {
+        var deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!searchEngine.isReady()) {
+            assertTrue(System.currentTimeMillis() < deadline, "La reconstrucción no terminó");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(exception);
+            }
+        }
+    }
+
+    private void rebuild(List<ContactoNombre> contactos, List<TelefonoNumero> numeros) {
+        when(repository.findNombres(anyInt(), any())).thenReturn(contactos);
+        when(telefonos.findNumeros(anyCollection())).thenReturn(numeros);
+        engine.rebuild();
+    }
+
+    private static TelefonoNumero numero(Integer contactoId, String telefono) {
+        return new TelefonoNumero() {
+
+            @Override
+            public Integer getContactoId() {
+                return contactoId;
+            }
+
+            @Override
+            public String getTelefono() {
+                return telefono;
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package com.sofka.contactos.search;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.repository.ContactoNombre;
+import com.sofka.contactos.repository.ContactoRepository;
+import com.sofka.contactos.service.interfaces.ILibreta;
+import com.sofka.contactos.service.interfaces.ISearchEngine;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Datos y comprobaciones comunes de las pruebas de los motores de búsqueda
+ *
+ * Los contactos de la comparación con la consulta LIKE están en minúsculas y sin tildes, porque la consulta distingue
+ * mayúsculas y tildes y los motores no; los datos buscados son de al menos tres caracteres y no aparecen en los
+ * contactos de las demás pruebas, que comparten la base de datos
+ */
+final class SearchEngineTests {
+
+    private static final int LIMIT = 50;
+
+    private static final List<String> PARIDAD = List.of("zulq", "ulqe", "lqa", "zulqeta", "vorpe", "orpex", "xvorpx");
+
+    private SearchEngineTests() {
+    }
+
+    /**
+     * Crea los contactos de la comparación con la consulta LIKE
+     */
+    static List<Integer> seedParidad(ILibreta libretaService) {
+        var ids = new ArrayList<Integer>();
+        var nombres = List.of("zulqa", "zulqeta", "mazulq", "qzul");
+        var apellidos = List.of("vorpex", "vorpexa", "avorpe", "vorpex");
+        for (int i = 0; i < nombres.size(); i++) {
+            var contacto = new Contacto();
+            contacto.setNombre(nombres.get(i));
+            contacto.setApellido(apellidos.get(i));
+            ids.add(libretaService.createContacto(contacto).getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Comprueba que el motor y la consulta LIKE encuentran los mismos contactos para cada dato de la comparación
+     */
+    static void assertParity(ISearchEngine searchEngine, ContactoRepository contactoRepository) {
+        for (var data : PARIDAD) {
+            var expected = new HashSet<Integer>();
+            contactoRepository.findByNombreOrApellidoContains(data, PageRequest.of(0, LIMIT))
+                    .forEach(contacto -> expected.add(contacto.getId()));
+            assertEquals(expected, new HashSet<>(searchEngine.search(data, LIMIT)), data);
+        }
+        assertFalse(searchEngine.search("zulq", LIMIT).isEmpty());
+    }
+
+    static ContactoNombre nombre(Integer id, String nombre, String apellido) {
+        return new ContactoNombre() {
+
+            @Override
+            public Integer getId() {
+                return id;
+            }
+
+            @Override
+            public String getNombre() {
+                return nombre;
+            }
+
+            @Override
+            public String getApellido() {
+                return apellido;
+            }
+        };
+    }
+}
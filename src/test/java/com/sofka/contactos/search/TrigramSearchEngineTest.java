@@ -0,0 +1,111 @@
+package com.sofka.contactos.search;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.repository.ContactoNombre;
+import com.sofka.contactos.repository.ContactoRepository;
+import com.sofka.contactos.service.interfaces.ILibreta;
+import com.sofka.contactos.service.interfaces.ISearchEngine;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * El motor de trigramas encuentra lo mismo que la consulta LIKE que lo reemplaza mientras no está listo, sin importar
+ * las tildes ni las mayúsculas, y los cambios que llegan mientras se reconstruye el índice tienen prioridad sobre los
+ * datos leídos
+ *
+ * La caché se desactiva para que cada búsqueda llegue al motor
+ */
+@SpringBootTest(properties = {"libreta.search.engine=trigram", "spring.cache.type=none"})
+class TrigramSearchEngineTest {
+
+    private static final int LIMIT = 50;
+
+    @Autowired
+    private ISearchEngine searchEngine;
+
+    @Autowired
+    private ContactoRepository contactoRepository;
+
+    @Autowired
+    private ILibreta libretaService;
+
+    @Test
+    void findsTheSameContactosAsTheDatabaseFallback() {
+        var ids = SearchEngineTests.seedParidad(libretaService);
+        searchEngine.rebuild();
+        SearchEngineTests.assertParity(searchEngine, contactoRepository);
+
+        var renamed = new Contacto();
+        renamed.setNombre("zulqon");
+        renamed.setApellido("xvorpx");
+        libretaService.updateContacto(ids.get(0), renamed);
+        SearchEngineTests.assertParity(searchEngine, contactoRepository);
+    }
+
+    @Test
+    void accentsCaseAndPartialInputStillMatch() {
+        var engine = engine(List.of(
+                SearchEngineTests.nombre(1, "José", "Núñez"),
+                SearchEngineTests.nombre(2, "Jose", "Nunez"),
+                SearchEngineTests.nombre(3, "Josefina", "Ibáñez"),
+                SearchEngineTests.nombre(4, "María", "Pérez")
+        ));
+
+        assertEquals(Set.of(1, 2, 3), Set.copyOf(engine.search("JOSÉ", LIMIT)));
+        assertEquals(Set.of(1, 2, 3), Set.copyOf(engine.search("jóse", LIMIT)));
+        assertEquals(Set.of(1, 2, 3), Set.copyOf(engine.search("  jose ", LIMIT)));
+        assertEquals(Set.of(1, 2, 3), Set.copyOf(engine.search("ÑEZ", LIMIT)));
+        assertEquals(List.of(4), engine.search("perez", LIMIT));
+        assertEquals(List.of(3), engine.search("sefi", LIMIT));
+        assertEquals(Set.of(1, 2, 3, 4), Set.copyOf(engine.search("e", LIMIT)));
+        assertEquals(1, engine.search("jose", 1).size());
+        assertTrue(engine.search("jose nunez", LIMIT).isEmpty());
+    }
+
+    @Test
+    void changesDuringTheRebuildWinOverTheRowsRead() {
+        var engine = new TrigramSearchEngine();
+        var repository = mock(ContactoRepository.class);
+        ReflectionTestUtils.setField(engine, "contactoRepository", repository);
+        when(repository.findNombres(anyInt(), any())).thenAnswer(invocation -> {
+            assertFalse(engine.isReady());
+            engine.index(1, "Zoe", "Zapata");
+            engine.remove(2);
+            engine.index(4, "Eva", "Díaz");
+            return List.of(
+                    SearchEngineTests.nombre(1, "Ana", "Álvarez"),
+                    SearchEngineTests.nombre(2, "Luis", "Bravo"),
+                    SearchEngineTests.nombre(3, "Eva", "Castro")
+            );
+        });
+        engine.rebuild();
+
+        assertTrue(engine.isReady());
+        assertTrue(engine.search("alvarez", LIMIT).isEmpty());
+        assertTrue(engine.search("luis", LIMIT).isEmpty());
+        assertEquals(List.of(1), engine.search("zapata", LIMIT));
+        assertEquals(Set.of(3, 4), Set.copyOf(engine.search("eva", LIMIT)));
+    }
+
+    private static TrigramSearchEngine engine(List<ContactoNombre> contactos) {
+        var engine = new TrigramSearchEngine();
+        var repository = mock(ContactoRepository.class);
+        ReflectionTestUtils.setField(engine, "contactoRepository", repository);
+        when(repository.findNombres(anyInt(), any())).thenReturn(contactos);
+        engine.rebuild();
+        return engine;
+    }
+}
@@ -0,0 +1,183 @@
+package com.sofka.contactos.service;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.service.interfaces.ILibreta;
+import com.sofka.contactos.sortedview.SortedViews;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNotNull;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Los recorridos por páginas siguen en el origen donde empezaron, la vista ordenada o la base de datos, aunque la vista
+ * deje de estar lista o termine de reconstruirse en medio del recorrido; el recorrido por fecha de modificación, que
+ * no tiene vista, sale de la base de datos
+ *
+ * La caché se desactiva para que cada página se calcule de nuevo
+ */
+@SpringBootTest(properties = "spring.cache.type=none")
+class LibretaServiceCursorTest {
+
+    private static final String APELLIDO_NOMBRE = "apellido,nombre";
+
+    private static final String UPDATED_AT = "updatedAt";
+
+    private static final int PAGE_SIZE = 7;
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private ILibreta libretaService;
+
+    @SpyBean
+    private SortedViews sortedViews;
+
+    private List<Integer> ids;
+
+    @BeforeEach
+    void seed() {
+        var apellido = "cursor" + SEQUENCE.incrementAndGet();
+        ids = new ArrayList<>();
+        for (var nombre : List.of("Ana", "ana", "Ángel", "Beto", "beto", "Élida", "eva", "Óscar", "Zoe", "zoe")) {
+            var contacto = new Contacto();
+            contacto.setNombre(nombre);
+            contacto.setApellido(apellido);
+            ids.add(libretaService.createContacto(contacto).getId());
+        }
+        clearInvocations(sortedViews);
+    }
+
+    @AfterEach
+    void restore() {
+        doCallRealMethod().when(sortedViews).isReady();
+    }
+
+    @Test
+    void multiKeyTraversalsVisitEveryContactOnceFromBothSources() {
+        for (var order : Sort.Direction.values()) {
+            var fromView = traverse(order);
+            doReturn(false).when(sortedViews).isReady();
+            var fromDatabase = traverse(order);
+            doCallRealMethod().when(sortedViews).isReady();
+
+            assertVisitsOnce(fromView);
+            assertVisitsOnce(fromDatabase);
+            assertEquals(fromDatabase.size(), fromView.size());
+        }
+    }
+
+    @Test
+    void databaseCursorsStayInTheDatabaseAfterTheRebuild() {
+        doReturn(false).when(sortedViews).isReady();
+        var first = libretaService.getPage(APELLIDO_NOMBRE, Sort.Direction.ASC, null, PAGE_SIZE, false);
+        doCallRealMethod().when(sortedViews).isReady();
+
+        var visited = new ArrayList<Integer>();
+        first.items.forEach(contacto -> visited.add(contacto.getId()));
+        var cursor = first.nextCursor;
+        while (cursor != null) {
+            var page = libretaService.getPage(APELLIDO_NOMBRE, Sort.Direction.ASC, cursor, PAGE_SIZE, false);
+            page.items.forEach(contacto -> visited.add(contacto.getId()));
+            cursor = page.nextCursor;
+        }
+
+        verify(sortedViews, never()).page(any(), any(), any(), isNotNull(), anyInt());
+        assertVisitsOnce(visited);
+    }
+
+    @Test
+    void viewCursorsAreRejectedWhileTheViewIsRebuilt() {
+        var first = libretaService.getPage(APELLIDO_NOMBRE, Sort.Direction.ASC, null, PAGE_SIZE, false);
+        doReturn(false).when(sortedViews).isReady();
+
+        assertThrows(IllegalArgumentException.class, () -> libretaService.getPage(
+                APELLIDO_NOMBRE, Sort.Direction.ASC, first.nextCursor, PAGE_SIZE, false));
+    }
+
+    @Test
+    void updatesDuringTheRebuildKeepTheTraversalConsistent() {
+        doReturn(false).when(sortedViews).isReady();
+        var first = libretaService.getPage(APELLIDO_NOMBRE, Sort.Direction.ASC, null, PAGE_SIZE, false);
+        var renamed = new Contacto();
+        renamed.setNombre("Zzz");
+        renamed.setApellido("cursor" + SEQUENCE.get());
+        libretaService.updateContacto(ids.get(0), renamed);
+        doCallRealMethod().when(sortedViews).isReady();
+
+        var visited = new ArrayList<Integer>();
+        first.items.forEach(contacto -> visited.add(contacto.getId()));
+        visited.remove(ids.get(0));
+        var cursor = first.nextCursor;
+        while (cursor != null) {
+            var page = libretaService.getPage(APELLIDO_NOMBRE, Sort.Direction.ASC, cursor, PAGE_SIZE, false);
+            page.items.forEach(contacto -> visited.add(contacto.getId()));
+            cursor = page.nextCursor;
+        }
+        assertVisitsOnce(visited);
+    }
+
+    @Test
+    void updatedAtTraversalsVisitEveryContactOnceInModificationOrder() {
+        var renamed = new Contacto();
+        renamed.setNombre("Modificado");
+        renamed.setApellido("cursor" + SEQUENCE.get());
+        libretaService.updateContacto(ids.get(0), renamed);
+
+        for (var order : Sort.Direction.values()) {
+            var visited = new ArrayList<Contacto>();
+            String cursor = null;
+            do {
+                var page = libretaService.getPage(UPDATED_AT, order, cursor, PAGE_SIZE, false);
+                visited.addAll(page.items);
+                cursor = page.nextCursor;
+            } while (cursor != null);
+
+            var visitedIds = new ArrayList<Integer>();
+            visited.forEach(contacto -> visitedIds.add(contacto.getId()));
+            assertVisitsOnce(visitedIds);
+            for (int i = 1; i < visited.size(); i++) {
+                var comparison = visited.get(i - 1).getUpdatedAt().compareTo(visited.get(i).getUpdatedAt());
+                assertTrue(order.isAscending() ? comparison <= 0 : comparison >= 0, visitedIds::toString);
+            }
+            var renamedAt = visitedIds.indexOf(ids.get(0));
+            assertTrue(order.isAscending() ? renamedAt > visitedIds.indexOf(ids.get(9))
+                    : renamedAt < visitedIds.indexOf(ids.get(9)), visitedIds::toString);
+        }
+    }
+
+    private List<Integer> traverse(Sort.Direction order) {
+        var visited = new ArrayList<Integer>();
+        String cursor = null;
+        do {
+            var page = libretaService.getPage(APELLIDO_NOMBRE, order, cursor, PAGE_SIZE, false);
+            page.items.forEach(contacto -> visited.add(contacto.getId()));
+            cursor = page.nextCursor;
+        } while (cursor != null);
+        return visited;
+    }
+
+    private void assertVisitsOnce(List<Integer> visited) {
+        assertEquals(visited.size(), new HashSet<>(visited).size(), visited::toString);
+        assertTrue(visited.containsAll(ids), visited::toString);
+    }
+}
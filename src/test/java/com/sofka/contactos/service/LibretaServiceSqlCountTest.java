@@ -0,0 +1,298 @@
+package com.sofka.contactos.service;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.domain.Telefono;
+import com.sofka.contactos.event.ContactoEvent;
+import com.sofka.contactos.service.interfaces.ILibreta;
+import com.sofka.contactos.sql.SqlCountingConfig;
+import com.sofka.contactos.sql.SqlStatementCounter;
+import com.sofka.contactos.sql.SqlStatementCounter.SqlStatements;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Límites de sentencias SQL por método de {@link ILibreta}: las lecturas no deben crecer con la cantidad de contactos
+ * o de teléfonos (N+1) y las escrituras no deben leer la entidad antes de modificarla. Cada escritura confirmada
+ * suma el UPDATE que incrementa la versión de la libreta, uno por transacción
+ *
+ * La caché se desactiva para que cada lectura llegue a la base de datos, y las pruebas no son transaccionales para
+ * que los oyentes posteriores a la confirmación también se cuenten. Antes de medir se crean contactos y teléfonos,
+ * así la reserva de identificadores de la tabla de secuencias no se cuenta en la operación medida
+ *
+ * La normalización de teléfonos se desactiva porque corre en su propio hilo y sus sentencias se contarían en la
+ * operación medida. Los eventos publicados se registran para comprobar a cuáles contactos anuncia un borrado masivo
+ */
+@SpringBootTest(properties = {
+        "spring.cache.type=none",
+        "libreta.search.engine=trigram",
+        "libreta.telefono.backfill.enabled=false"
+})
+@Import(SqlCountingConfig.class)
+@RecordApplicationEvents
+class LibretaServiceSqlCountTest {
+
+    private static final int CONTACTS = 30;
+
+    private static final int TELEFONOS = 3;
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private ILibreta libretaService;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private String apellido;
+
+    private List<Contacto> contactos;
+
+    private List<Telefono> telefonos;
+
+    @BeforeEach
+    void seed() {
+        apellido = "sqlservicio" + SEQUENCE.incrementAndGet();
+        contactos = new ArrayList<>();
+        telefonos = new ArrayList<>();
+        for (int i = 0; i < CONTACTS; i++) {
+            contactos.add(contacto(String.format("conteo%04d", SEQUENCE.incrementAndGet()), TELEFONOS));
+        }
+    }
+
+    @Test
+    void getListRunsOneQuery() {
+        var statements = SqlStatementCounter.count(() -> libretaService.getList());
+        assertAtMost(statements, 1, 0, 0, 0);
+
+        statements = SqlStatementCounter.count(() -> libretaService.getList("apellido,nombre", Sort.Direction.ASC));
+        assertAtMost(statements, 1, 0, 0, 0);
+    }
+
+    @Test
+    void getPageDoesNotGrowWithItsSize() {
+        var small = SqlStatementCounter.count(() -> libretaService.getPage(null, 5, true));
+        var large = SqlStatementCounter.count(() -> libretaService.getPage(null, CONTACTS, true));
+        assertAtMost(large, 2, 0, 0, 0);
+        assertEquals(small.total(), large.total(), () -> small + "\n" + large);
+
+        var withoutTelefonos = SqlStatementCounter.count(() -> libretaService.getPage(null, CONTACTS, false));
+        assertAtMost(withoutTelefonos, 1, 0, 0, 0);
+    }
+
+    @Test
+    void getPageOrderedDoesNotGrowWithItsSize() {
+        for (var field : List.of("apellido,nombre", "createdAt")) {
+            var small = SqlStatementCounter.count(
+                    () -> libretaService.getPage(field, Sort.Direction.DESC, null, 5, true)
+            );
+            var large = SqlStatementCounter.count(
+                    () -> libretaService.getPage(field, Sort.Direction.DESC, null, CONTACTS, true)
+            );
+            assertAtMost(large, 2, 0, 0, 0);
+            assertEquals(small.total(), large.total(), () -> field + ": " + small + "\n" + large);
+        }
+    }
+
+    @Test
+    void searchesRunAtMostTwoQueries() {
+        var statements = SqlStatementCounter.count(
+                () -> assertFalse(libretaService.searchContacto(apellido, CONTACTS, true).isEmpty())
+        );
+        assertAtMost(statements, 2, 0, 0, 0);
+
+        var numero = telefonos.get(0).getTelefono();
+        statements = SqlStatementCounter.count(
+                () -> assertNotNull(libretaService.getContactoByTelefono(numero, true))
+        );
+        assertAtMost(statements, 2, 0, 0, 0);
+    }
+
+    @Test
+    void getContactoRunsOneQuery() {
+        var id = contactos.get(0).getId();
+        var statements = SqlStatementCounter.count(
+                () -> assertEquals(TELEFONOS, libretaService.getContacto(id, true).getTelefonos().size())
+        );
+        assertAtMost(statements, 1, 0, 0, 0);
+    }
+
+    @Test
+    void createsRunOneInsert() {
+        var statements = SqlStatementCounter.count(() -> contacto("nuevo" + SEQUENCE.incrementAndGet(), 0));
+        assertAtMost(statements, 0, 1, 1, 0);
+
+        var telefono = new Telefono();
+        telefono.setContacto(contactos.get(0));
+        telefono.setTelefono(numero());
+        statements = SqlStatementCounter.count(() -> libretaService.createTelefono(telefono));
+        assertAtMost(statements, 0, 1, 1, 0);
+    }
+
+    @Test
+    void contactoUpdatesRunOneUpdateWithoutReading() {
+        var id = contactos.get(0).getId();
+        var contacto = new Contacto();
+        contacto.setNombre("actualizado");
+        contacto.setApellido(apellido);
+        var statements = SqlStatementCounter.count(() -> libretaService.updateContacto(id, contacto));
+        assertAtMost(statements, 0, 0, 2, 0);
+
+        statements = SqlStatementCounter.count(() -> libretaService.updateNombre(id, contacto));
+        assertAtMost(statements, 0, 0, 2, 0);
+
+        statements = SqlStatementCounter.count(() -> libretaService.updateApellidos(id, contacto));
+        assertAtMost(statements, 0, 0, 2, 0);
+    }
+
+    @Test
+    void telefonoUpdatesRunOneUpdateWithoutReading() {
+        var id = telefonos.get(0).getId();
+        var telefono = new Telefono();
+        telefono.setTelefono(numero());
+        var statements = SqlStatementCounter.count(() -> assertNotNull(libretaService.updateTelefono(id, telefono)));
+        assertAtMost(statements, 0, 0, 2, 0);
+
+        var other = new Telefono();
+        other.setTelefono(numero());
+        statements = SqlStatementCounter.count(() -> assertNotNull(libretaService.updateOnlyTelefono(id, other)));
+        assertAtMost(statements, 0, 0, 2, 0);
+    }
+
+    @Test
+    void telefonoUpdatesOfAMissingTelefonoReturnNull() {
+        var telefono = new Telefono();
+        telefono.setTelefono(numero());
+        var statements = SqlStatementCounter.count(() -> assertNull(libretaService.updateTelefono(-1, telefono)));
+        assertAtMost(statements, 0, 0, 1, 0);
+
+        statements = SqlStatementCounter.count(() -> assertNull(libretaService.updateOnlyTelefono(-1, telefono)));
+        assertAtMost(statements, 0, 0, 1, 0);
+    }
+
+    @Test
+    void batchUpdatesRunOneBatch() {
+        var renamed = new ArrayList<Contacto>();
+        for (var contacto : contactos) {
+            var update = new Contacto();
+            update.setId(contacto.getId());
+            update.setNombre("lote" + contacto.getId());
+            update.setApellido(apellido);
+            renamed.add(update);
+        }
+        var statements = SqlStatementCounter.count(() -> libretaService.updateNombres(renamed));
+        assertAtMost(statements, 0, 0, 2, 0);
+        statements = SqlStatementCounter.count(() -> libretaService.updateApellidos(renamed));
+        assertAtMost(statements, 0, 0, 2, 0);
+        statements = SqlStatementCounter.count(() -> libretaService.updateNombresApellidos(renamed));
+        assertAtMost(statements, 0, 0, 2, 0);
+
+        var numeros = new ArrayList<Telefono>();
+        for (var telefono : telefonos) {
+            var update = new Telefono();
+            update.setId(telefono.getId());
+            update.setTelefono(numero());
+            numeros.add(update);
+        }
+        statements = SqlStatementCounter.count(() -> libretaService.updateOnlyTelefonos(numeros));
+        assertAtMost(statements, 1, 0, 2, 0);
+    }
+
+    @Test
+    void deleteContactoDoesNotGrowWithItsTelefonos() {
+        var withoutTelefonos = contacto("vacio" + SEQUENCE.incrementAndGet(), 0).getId();
+        var withTelefonos = contactos.get(0).getId();
+        var empty = SqlStatementCounter.count(() -> assertTrue(libretaService.deleteContacto(withoutTelefonos)));
+        var full = SqlStatementCounter.count(() -> assertTrue(libretaService.deleteContacto(withTelefonos)));
+        assertAtMost(full, 0, 0, 1, 2);
+        assertEquals(empty.total(), full.total(), () -> empty + "\n" + full);
+
+        var missing = SqlStatementCounter.count(() -> assertFalse(libretaService.deleteContacto(withTelefonos)));
+        assertAtMost(missing, 0, 0, 0, 2);
+    }
+
+    @Test
+    void bulkDeletesRunTwoDeletes() {
+        var ids = new ArrayList<Integer>();
+        for (var contacto : contactos.subList(0, CONTACTS / 2)) {
+            ids.add(contacto.getId());
+        }
+        var statements = SqlStatementCounter.count(
+                () -> assertEquals(ids.size() * TELEFONOS, libretaService.deleteContactos(ids).telefonos)
+        );
+        assertAtMost(statements, 1, 0, 1, 2);
+
+        var nombre = contactos.get(CONTACTS - 1).getNombre();
+        statements = SqlStatementCounter.count(
+                () -> assertEquals(1, libretaService.deleteContactos(nombre, apellido).contactos)
+        );
+        assertAtMost(statements, 1, 0, 1, 2);
+    }
+
+    @Test
+    void bulkDeletesOnlyAnnounceTheDeletedContactos() {
+        var existing = contactos.get(0).getId();
+        var missing = List.of(-1, -2);
+        events.clear();
+        var statements = SqlStatementCounter.count(
+                () -> assertEquals(0, libretaService.deleteContactos(missing).contactos)
+        );
+        assertAtMost(statements, 1, 0, 0, 0);
+        assertEquals(0, events.stream(ContactoEvent.class).count());
+
+        var ids = List.of(-1, existing, -2);
+        assertEquals(1, libretaService.deleteContactos(ids).contactos);
+        var deleted = events.stream(ContactoEvent.class).map(ContactoEvent::getId).collect(Collectors.toList());
+        assertEquals(List.of(existing), deleted);
+    }
+
+    @Test
+    void deleteTelefonoReadsItOnce() {
+        var id = telefonos.get(0).getId();
+        var statements = SqlStatementCounter.count(() -> assertNotNull(libretaService.deleteTelefono(id)));
+        assertAtMost(statements, 1, 0, 1, 1);
+    }
+
+    private Contacto contacto(String nombre, int cantidad) {
+        var contacto = new Contacto();
+        contacto.setNombre(nombre);
+        contacto.setApellido(apellido);
+        contacto = libretaService.createContacto(contacto);
+        for (int i = 0; i < cantidad; i++) {
+            var telefono = new Telefono();
+            telefono.setContacto(contacto);
+            telefono.setTelefono(numero());
+            telefonos.add(libretaService.createTelefono(telefono));
+        }
+        return contacto;
+    }
+
+    private static String numero() {
+        return String.format("+57 302 %07d", SEQUENCE.incrementAndGet());
+    }
+
+    private static void assertAtMost(SqlStatements statements, int selects, int inserts, int updates, int deletes) {
+        assertTrue(statements.selects() <= selects, statements::toString);
+        assertTrue(statements.inserts() <= inserts, statements::toString);
+        assertTrue(statements.updates() <= updates, statements::toString);
+        assertTrue(statements.deletes() <= deletes, statements::toString);
+        assertEquals(statements.selects() + statements.inserts() + statements.updates() + statements.deletes(),
+                statements.total(), statements::toString);
+    }
+}
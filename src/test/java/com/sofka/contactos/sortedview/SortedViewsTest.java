@@ -0,0 +1,142 @@
+package com.sofka.contactos.sortedview;
+
+import com.sofka.contactos.repository.ContactoNombre;
+import com.sofka.contactos.repository.ContactoRepository;
+import com.sofka.contactos.repository.ContactoSortField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Recorridos por páginas de las vistas ordenadas con llaves de varios campos, y cambios e invalidaciones que llegan
+ * mientras las vistas se reconstruyen; las fechas no se mantienen en vistas, se ordenan con los índices de la base de
+ * datos
+ */
+class SortedViewsTest {
+
+    private static final List<ContactoSortField> APELLIDO_NOMBRE =
+            List.of(ContactoSortField.APELLIDO, ContactoSortField.NOMBRE);
+
+    private SortedViews views;
+
+    private ContactoRepository contactoRepository;
+
+    @BeforeEach
+    void setUp() {
+        views = new SortedViews("apellido,nombre");
+        contactoRepository = mock(ContactoRepository.class);
+        ReflectionTestUtils.setField(views, "contactoRepository", contactoRepository);
+    }
+
+    @Test
+    void multiKeyPagesFollowTheCursorKey() {
+        var contactos = List.of(
+                nombre(1, "Ana", "Pérez"),
+                nombre(2, "álvaro", "perez"),
+                nombre(3, "Beto", "PÉREZ"),
+                nombre(4, "Ana", "Gómez"),
+                nombre(5, "ana", "Perez")
+        );
+        when(contactoRepository.findNombres(anyInt(), any())).thenReturn(contactos);
+        views.rebuild();
+
+        assertEquals(List.of(4, 2, 1, 5, 3), traverse(Sort.Direction.ASC, contactos));
+        assertEquals(List.of(3, 5, 1, 2, 4), traverse(Sort.Direction.DESC, contactos));
+    }
+
+    @Test
+    void changesDuringTheRebuildWinOverTheRowsRead() {
+        when(contactoRepository.findNombres(anyInt(), any())).thenAnswer(invocation -> {
+            assertNull(views.page(APELLIDO_NOMBRE, Sort.Direction.ASC, null, null, 10));
+            views.index(1, "Zoe", "Zapata");
+            views.remove(2);
+            views.index(4, "Eva", "Díaz");
+            return List.of(nombre(1, "Ana", "Álvarez"), nombre(2, "Luis", "Bravo"), nombre(3, "Eva", "Castro"));
+        });
+        views.rebuild();
+
+        assertEquals(List.of(3, 4, 1), views.page(APELLIDO_NOMBRE, Sort.Direction.ASC, null, null, 10));
+    }
+
+    @Test
+    void datesAreNotKeptInViewsAndStayOnTheDatabaseIndex() {
+        assertThrows(IllegalArgumentException.class, () -> new SortedViews("updatedAt"));
+        assertThrows(IllegalArgumentException.class, () -> new SortedViews("nombre;apellido,createdAt"));
+        assertFalse(views.hasView(List.of(ContactoSortField.UPDATED_AT)));
+    }
+
+    @Test
+    void anInvalidationDuringTheRebuildKeepsTheViewsUnusedUntilTheNextRebuild() {
+        when(contactoRepository.findNombres(anyInt(), any())).thenAnswer(invocation -> {
+            views.invalidate();
+            return List.of(nombre(1, "Ana", "Álvarez"));
+        });
+        views.rebuild();
+        assertFalse(views.isReady());
+        assertNull(views.page(APELLIDO_NOMBRE, Sort.Direction.ASC, null, null, 10));
+
+        when(contactoRepository.findNombres(anyInt(), any())).thenReturn(List.of(nombre(1, "Ana", "Álvarez")));
+        views.rebuild();
+        assertTrue(views.isReady());
+        views.invalidate();
+        assertFalse(views.isReady());
+    }
+
+    /**
+     * Recorre la vista de a dos contactos, armando la llave de cada página con los valores sin normalizar del último
+     * contacto, igual que el cursor
+     */
+    private List<Integer> traverse(Sort.Direction order, List<ContactoNombre> contactos) {
+        var byId = new HashMap<Integer, ContactoNombre>();
+        contactos.forEach(contacto -> byId.put(contacto.getId(), contacto));
+        var ids = new ArrayList<Integer>();
+        List<Object> afterValues = null;
+        Integer afterId = null;
+        List<Integer> page;
+        do {
+            page = views.page(APELLIDO_NOMBRE, order, afterValues, afterId, 2);
+            ids.addAll(page);
+            if (!page.isEmpty()) {
+                var last = byId.get(page.get(page.size() - 1));
+                afterValues = List.of(last.getApellido(), last.getNombre());
+                afterId = last.getId();
+            }
+        } while (page.size() == 2);
+        return ids;
+    }
+
+    private static ContactoNombre nombre(Integer id, String nombre, String apellido) {
+        return new ContactoNombre() {
+
+            @Override
+            public Integer getId() {
+                return id;
+            }
+
+            @Override
+            public String getNombre() {
+                return nombre;
+            }
+
+            @Override
+            public String getApellido() {
+                return apellido;
+            }
+        };
+    }
+}
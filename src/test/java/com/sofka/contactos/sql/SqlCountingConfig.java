@@ -0,0 +1,25 @@
+package com.sofka.contactos.sql;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuración de pruebas que envuelve el DataSource del sistema con {@link SqlStatementCounter}, se agrega a una
+ * prueba con @Import
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlCountingConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource ? SqlStatementCounter.wrap((DataSource) bean) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,177 @@
+package com.sofka.contactos.sql;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Cuenta las sentencias SQL que se ejecutan a través de un DataSource, al estilo de datasource-proxy
+ *
+ * El DataSource, sus conexiones y sus sentencias se envuelven en proxies que registran cada ejecución con su SQL; un
+ * lote JDBC cuenta como una sola sentencia porque es un solo viaje a la base de datos. El registro es global y no por
+ * hilo, ya que el controlador atiende las peticiones en otros hilos, por eso las pruebas que lo usan no deben
+ * ejecutarse en paralelo
+ */
+public final class SqlStatementCounter {
+
+    /**
+     * Sentencias ejecutadas desde el último {@link #reset()}
+     */
+    private static final ConcurrentLinkedQueue<String> EXECUTED = new ConcurrentLinkedQueue<>();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * Envuelve un DataSource para contar las sentencias que se ejecutan con sus conexiones
+     *
+     * @param dataSource DataSource original
+     * @return DataSource que cuenta las sentencias
+     */
+    public static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            var result = invoke(target, method, args);
+            return result instanceof Connection ? connection((Connection) result) : result;
+        });
+    }
+
+    /**
+     * Descarta las sentencias registradas
+     */
+    public static void reset() {
+        EXECUTED.clear();
+    }
+
+    /**
+     * Ejecuta una acción y devuelve las sentencias que ejecutó
+     *
+     * @param action Acción a ejecutar
+     * @return Sentencias ejecutadas durante la acción
+     */
+    public static SqlStatements count(Runnable action) {
+        reset();
+        action.run();
+        return new SqlStatements(new ArrayList<>(EXECUTED));
+    }
+
+    private static Connection connection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            var result = invoke(target, method, args);
+            switch (method.getName()) {
+                case "prepareCall":
+                    return statement(CallableStatement.class, (CallableStatement) result, (String) args[0]);
+                case "prepareStatement":
+                    return statement(PreparedStatement.class, (PreparedStatement) result, (String) args[0]);
+                case "createStatement":
+                    return statement(Statement.class, (Statement) result, null);
+                default:
+                    return result;
+            }
+        });
+    }
+
+    private static <T extends Statement> T statement(Class<T> type, T statement, String preparedSql) {
+        return proxy(type, statement, (target, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                var sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+                EXECUTED.add(sql == null ? "" : sql.trim());
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+        var interfaces = target instanceof AutoCloseable && !AutoCloseable.class.isAssignableFrom(type)
+                ? new Class<?>[]{type, AutoCloseable.class}
+                : new Class<?>[]{type};
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return handler.handle(target, method, args);
+            }
+        };
+        return (T) Proxy.newProxyInstance(SqlStatementCounter.class.getClassLoader(), interfaces, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler<T> {
+
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    /**
+     * Sentencias ejecutadas, clasificadas por su tipo
+     */
+    public static final class SqlStatements {
+
+        private final List<String> sql;
+
+        private SqlStatements(List<String> sql) {
+            this.sql = sql;
+        }
+
+        public long selects() {
+            return count("SELECT");
+        }
+
+        public long inserts() {
+            return count("INSERT");
+        }
+
+        public long updates() {
+            return count("UPDATE");
+        }
+
+        public long deletes() {
+            return count("DELETE");
+        }
+
+        public int total() {
+            return sql.size();
+        }
+
+        private long count(String type) {
+            return sql.stream().filter(statement -> type.equals(type(statement))).count();
+        }
+
+        private static String type(String statement) {
+            var end = 0;
+            while (end < statement.length() && Character.isLetter(statement.charAt(end))) {
+                end++;
+            }
+            var keyword = statement.substring(0, end).toUpperCase(Locale.ROOT);
+            return "WITH".equals(keyword) ? "SELECT" : keyword;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "%d SELECT, %d INSERT, %d UPDATE, %d DELETE, %d en total:%n%s",
+                    selects(), inserts(), updates(), deletes(), total(), String.join(System.lineSeparator(), sql)
+            );
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.sofka.contactos.writebehind;
+
+import com.sofka.contactos.domain.Contacto;
+import com.sofka.contactos.service.interfaces.ILibreta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Con confirmación síncrona la petición sabe si el contacto existía al escribir su cambio, y un cambio sin el campo
+ * que modifica no llega a la cola
+ */
+class ContactoWriteBehindTest {
+
+    private ILibreta libreta;
+
+    private ContactoWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        libreta = mock(ILibreta.class);
+        writeBehind = new ContactoWriteBehind(libreta, WriteBehindAck.SYNC, 10, 10, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void syncChangesOfAMissingContactoCompleteWithoutIt() {
+        when(libreta.updateNombresApellidos(anyList())).thenReturn(new int[] {0});
+        var answer = writeBehind.updateNombre(99, contacto("nuevo", null));
+
+        writeBehind.flush();
+
+        assertNull(answer.join());
+    }
+
+    @Test
+    void syncChangesOfAnExistingContactoCompleteWithIt() {
+        when(libreta.updateNombresApellidos(anyList())).thenReturn(new int[] {1});
+        var answer = writeBehind.updateApellidos(7, contacto(null, "nuevos"));
+
+        writeBehind.flush();
+
+        assertEquals(Integer.valueOf(7), answer.join().getId());
+        assertEquals("nuevos", answer.join().getApellido());
+    }
+
+    @Test
+    void changesWithoutTheirFieldAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> writeBehind.updateNombre(7, contacto(null, "otros")));
+        assertThrows(IllegalArgumentException.class, () -> writeBehind.updateApellidos(7, contacto("otro", null)));
+
+        writeBehind.flush();
+
+        verify(libreta, never()).updateNombresApellidos(anyList());
+    }
+
+    private static Contacto contacto(String nombre, String apellido) {
+        var contacto = new Contacto();
+        contacto.setNombre(nombre);
+        contacto.setApellido(apellido);
+        return contacto;
+    }
+}